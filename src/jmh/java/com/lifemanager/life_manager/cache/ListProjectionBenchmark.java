@@ -0,0 +1,92 @@
+package com.lifemanager.life_manager.cache;
+
+import com.lifemanager.life_manager.LifeManagerApplication;
+import com.lifemanager.life_manager.domain.TransactionType;
+import com.lifemanager.life_manager.domain.User;
+import com.lifemanager.life_manager.dto.transaction.TransactionListItem;
+import com.lifemanager.life_manager.dto.transaction.TransactionRequest;
+import com.lifemanager.life_manager.dto.transaction.TransactionResponse;
+import com.lifemanager.life_manager.repository.UserRepository;
+import com.lifemanager.life_manager.service.TransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// 거래 목록 한 페이지(size 건)를 만드는 비용: 엔티티 조회 + TransactionResponse.from vs JPQL 생성자 프로젝션.
+// 응답 하나당 힙 할당은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 본다:
+//   ./gradlew jmhJar && java -jar build/libs/life-manager-1.0.0-jmh.jar ListProjectionBenchmark -prof gc
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListProjectionBenchmark {
+
+    @Param({"1000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private Long userId;
+    private LocalDate start;
+    private LocalDate end;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(LifeManagerApplication.class)
+                .profiles("bench")
+                .run("--spring.datasource.url=jdbc:h2:mem:list-projection;DB_CLOSE_DELAY=-1");
+        transactionService = context.getBean(TransactionService.class);
+
+        userId = context.getBean(UserRepository.class).save(User.builder()
+                .email("list-projection@test.com")
+                .password("password12345")
+                .name("벤치마크")
+                .build()).getId();
+
+        end = LocalDate.now();
+        start = end.minusDays(29);
+        for (int i = 0; i < size; i++) {
+            TransactionRequest request = new TransactionRequest();
+            request.setType(i % 5 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE);
+            request.setAmount(new BigDecimal(1000 + i * 37));
+            request.setCategory("식비");
+            request.setDescription("점심 식사 - 회사 근처 식당, 동료들과 나눠 계산");
+            request.setTransactionDate(end.minusDays(i % 30));
+            transactionService.createTransaction(userId, request);
+        }
+        pageable = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "transactionDate"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // 이전 목록 경로 (컨트롤러에서 엔티티 페이지를 응답 DTO 로 변환)
+    @Benchmark
+    public Page<TransactionResponse> entityLoad() {
+        return transactionService.getTransactionsByDateRange(userId, start, end, pageable)
+                .map(TransactionResponse::from);
+    }
+
+    @Benchmark
+    public Page<TransactionListItem> projection() {
+        return transactionService.getTransactionList(userId, start, end, pageable);
+    }
+}
@@ -0,0 +1,86 @@
+package com.lifemanager.life_manager.cache;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lifemanager.life_manager.domain.TransactionType;
+import com.lifemanager.life_manager.dto.transaction.TransactionListItem;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 거래 목록 응답의 포맷별 인코딩 시간.
+// 포맷별 크기는 보조 지표로 낸다 - 두 값 모두 반복마다 더해지므로 응답 하나의 크기는 payloadBytes / encodes
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"1000"})
+    private int size;
+
+    private List<TransactionListItem> transactions;
+    private ObjectMapper mapper;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long payloadBytes;
+        public long encodes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDate base = LocalDate.of(2025, 1, 1);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            transactions.add(new TransactionListItem(
+                    (long) i,
+                    i % 5 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE,
+                    new BigDecimal(1000 + i * 37).movePointLeft(2),
+                    "식비",
+                    base.plusDays(i % 365),
+                    i,
+                    createdAt,
+                    createdAt));
+        }
+
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        mapper = new ObjectMapper(factory)
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public byte[] encode(Payload payload) throws Exception {
+        byte[] encoded = mapper.writeValueAsBytes(transactions);
+        payload.payloadBytes += encoded.length;
+        payload.encodes++;
+        return encoded;
+    }
+}
@@ -0,0 +1,86 @@
+package com.lifemanager.life_manager.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lifemanager.life_manager.dto.schedule.ScheduleResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 일정 목록 응답 직렬화: 기본 Jackson 경로 vs 캐시된 JSON 조각 이어붙이기
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private List<ScheduleResponse> schedules;
+    private ObjectMapper plain;
+    private ObjectMapper cached;
+
+    @Setup
+    public void setUp() throws IOException {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+        schedules = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            schedules.add(ScheduleResponse.builder()
+                    .id((long) i)
+                    .title("회의 " + i)
+                    .description("주간 회의 - 진행 상황 공유 및 다음 주 계획 정리")
+                    .startDatetime(base.plusHours(i))
+                    .endDatetime(base.plusHours(i + 1))
+                    .isAllDay(false)
+                    .category("업무")
+                    .color("#4285F4")
+                    .reminderMinutes(10)
+                    .changeVersion(i)
+                    .createdAt(base)
+                    .updatedAt(base)
+                    .build());
+        }
+
+        plain = mapper();
+        JsonFragmentCache cache = new JsonFragmentCache(true, 64L * 1024 * 1024, new SimpleMeterRegistry());
+        cached = mapper().registerModule(new JsonFragmentModule(cache));
+        cached.writeValueAsBytes(schedules); // 캐시 채우기
+    }
+
+    @Benchmark
+    public int plainJackson() throws IOException {
+        return write(plain);
+    }
+
+    @Benchmark
+    public int cachedFragments() throws IOException {
+        return write(cached);
+    }
+
+    private int write(ObjectMapper mapper) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256 * size);
+        mapper.writeValue(out, schedules);
+        return out.size();
+    }
+
+    // 스프링 부트 기본 설정과 같게 (날짜를 ISO 문자열로)
+    private static ObjectMapper mapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
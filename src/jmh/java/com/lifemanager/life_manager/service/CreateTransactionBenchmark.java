@@ -0,0 +1,78 @@
+package com.lifemanager.life_manager.service;
+
+import com.lifemanager.life_manager.LifeManagerApplication;
+import com.lifemanager.life_manager.domain.TransactionType;
+import com.lifemanager.life_manager.domain.User;
+import com.lifemanager.life_manager.dto.transaction.TransactionRequest;
+import com.lifemanager.life_manager.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// 거래 생성 초당 처리량 (H2 메모리 DB).
+// userSelectPerInsert 는 예전 경로처럼 매번 사용자를 SELECT 한 뒤 생성한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CreateTransactionBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private UserService userService;
+    private TransactionTemplate transactionTemplate;
+    private TransactionRequest request;
+    private Long userId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(LifeManagerApplication.class)
+                .profiles("bench")
+                .run("--spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1");
+        transactionService = context.getBean(TransactionService.class);
+        userService = context.getBean(UserService.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        userId = context.getBean(UserRepository.class).save(User.builder()
+                .email("bench@test.com")
+                .password("password12345")
+                .name("벤치마크")
+                .build()).getId();
+
+        request = new TransactionRequest();
+        request.setType(TransactionType.EXPENSE);
+        request.setAmount(new BigDecimal("12000"));
+        request.setCategory("식비");
+        request.setTransactionDate(LocalDate.now());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object referenceOnly() {
+        return transactionService.createTransaction(userId, request);
+    }
+
+    @Benchmark
+    public Object userSelectPerInsert() {
+        return transactionTemplate.execute(status -> {
+            userService.findById(userId);
+            return transactionService.createTransaction(userId, request);
+        });
+    }
+}
@@ -0,0 +1,85 @@
+package com.lifemanager.life_manager.service;
+
+import com.lifemanager.life_manager.LifeManagerApplication;
+import com.lifemanager.life_manager.domain.TransactionType;
+import com.lifemanager.life_manager.domain.User;
+import com.lifemanager.life_manager.dto.transaction.TransactionRequest;
+import com.lifemanager.life_manager.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 동시 거래 생성 - 요청마다 커밋 vs 마이크로 배치 group commit.
+// SampleTime 으로 p50/p99 지연과 처리량을 같이 본다 (H2 메모리 DB 라 커밋 비용은 실제 DB 보다 작게 나온다).
+// 스레드마다 다른 사용자로 쓴다 - 한 사용자면 변경 버전 카운터 행 잠금에 줄을 서서 커밋이 아니라 잠금 경합을 재게 된다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(32)
+public class GroupCommitBenchmark {
+
+    @Param({"false", "true"})
+    private boolean batch;
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private UserRepository userRepository;
+    private TransactionRequest request;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(LifeManagerApplication.class)
+                .profiles("bench")
+                .run("--spring.datasource.url=jdbc:h2:mem:group-commit;DB_CLOSE_DELAY=-1",
+                        "--transaction.batch-writer.enabled=" + batch);
+        transactionService = context.getBean(TransactionService.class);
+        userRepository = context.getBean(UserRepository.class);
+
+        request = new TransactionRequest();
+        request.setType(TransactionType.EXPENSE);
+        request.setAmount(new BigDecimal("12000"));
+        request.setCategory("식비");
+        request.setTransactionDate(LocalDate.now());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object create(Caller caller) {
+        return transactionService.createTransaction(caller.userId, request);
+    }
+
+    @State(Scope.Thread)
+    public static class Caller {
+
+        private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+        private Long userId;
+
+        @Setup
+        public void setUp(GroupCommitBenchmark benchmark) {
+            userId = benchmark.userRepository.save(User.builder()
+                    .email("group-commit-" + SEQUENCE.incrementAndGet() + "@test.com")
+                    .password("password12345")
+                    .name("벤치마크")
+                    .build()).getId();
+        }
+    }
+}
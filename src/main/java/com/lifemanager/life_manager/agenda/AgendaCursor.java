@@ -0,0 +1,60 @@
+package com.lifemanager.life_manager.agenda;
+
+import com.lifemanager.life_manager.dto.agenda.AgendaItem;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 아젠다의 (시각, 소스 순위, id) 위치. 마지막으로 내보낸 항목을 가리키며 그 다음부터 이어서 읽는다
+@Getter
+public final class AgendaCursor {
+
+    private final LocalDateTime time;
+    private final int rank;
+    private final long id;
+
+    private AgendaCursor(LocalDateTime time, int rank, long id) {
+        this.time = time;
+        this.rank = rank;
+        this.id = id;
+    }
+
+    // start 시각의 모든 항목보다 앞선 위치
+    public static AgendaCursor before(LocalDateTime start) {
+        return new AgendaCursor(start, -1, 0);
+    }
+
+    public static AgendaCursor of(AgendaItem item) {
+        return new AgendaCursor(item.getTime(), item.getItemType().ordinal(), item.getId());
+    }
+
+    // 소스 하나의 (시각, id) 키셋 조건으로 바꾼다. "time = 커서 시각이면 id > afterId, 아니면 time > 커서 시각"
+    // 순위가 앞선 소스는 같은 시각을 이미 다 내보냈고, 뒤 순위 소스는 같은 시각을 아직 하나도 내보내지 않았다
+    public long afterIdFor(int sourceRank) {
+        if (sourceRank < rank) {
+            return Long.MAX_VALUE;
+        }
+        return sourceRank == rank ? id : 0;
+    }
+
+    public String encode() {
+        String raw = time + "|" + rank + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static AgendaCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서입니다");
+            }
+            return new AgendaCursor(LocalDateTime.parse(parts[0]), Integer.parseInt(parts[1]), Long.parseLong(parts[2]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.lifemanager.life_manager.agenda;
+
+import com.lifemanager.life_manager.dto.agenda.AgendaItem;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// 각자 정렬된 소스들을 (시각, 소스 순위, id) 순으로 k-way 병합한다.
+// 소스마다 맨 앞 항목 하나만 힙에 두므로 limit 개를 뽑는 동안 필요한 만큼만 읽는다
+public final class AgendaMerger {
+
+    static final Comparator<AgendaItem> ORDER = Comparator
+            .comparing(AgendaItem::getTime)
+            .thenComparing(AgendaItem::getItemType)
+            .thenComparing(AgendaItem::getId);
+
+    private AgendaMerger() {
+    }
+
+    public static List<AgendaItem> merge(List<? extends Iterator<AgendaItem>> sources, int limit) {
+        PriorityQueue<Head> heads = new PriorityQueue<>(Math.max(1, sources.size()),
+                (a, b) -> ORDER.compare(a.item, b.item));
+        for (Iterator<AgendaItem> source : sources) {
+            if (source.hasNext()) {
+                heads.add(new Head(source.next(), source));
+            }
+        }
+
+        List<AgendaItem> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Head head = heads.poll();
+            merged.add(head.item);
+            if (merged.size() < limit && head.source.hasNext()) {
+                heads.add(new Head(head.source.next(), head.source));
+            }
+        }
+        return merged;
+    }
+
+    private record Head(AgendaItem item, Iterator<AgendaItem> source) {
+    }
+}
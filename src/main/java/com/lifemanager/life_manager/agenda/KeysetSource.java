@@ -0,0 +1,60 @@
+package com.lifemanager.life_manager.agenda;
+
+import com.lifemanager.life_manager.dto.agenda.AgendaItem;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// 정렬된 키셋 쿼리를 필요할 때만 한 배치씩 읽어오는 pull 방식 이터레이터
+public final class KeysetSource implements Iterator<AgendaItem> {
+
+    @FunctionalInterface
+    public interface PageFetcher {
+        // after 다음부터 (시각, id) 순으로 최대 size 개
+        List<AgendaItem> fetch(AgendaCursor after, int size);
+    }
+
+    private final PageFetcher fetcher;
+    private final int batchSize;
+
+    private AgendaCursor position;
+    private Iterator<AgendaItem> buffer = Collections.emptyIterator();
+    private boolean exhausted;
+
+    public KeysetSource(AgendaCursor start, int batchSize, PageFetcher fetcher) {
+        this.position = start;
+        this.batchSize = batchSize;
+        this.fetcher = fetcher;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (buffer.hasNext()) {
+            return true;
+        }
+        if (exhausted) {
+            return false;
+        }
+
+        List<AgendaItem> page = fetcher.fetch(position, batchSize);
+        if (page.size() < batchSize) {
+            exhausted = true;
+        }
+        if (page.isEmpty()) {
+            return false;
+        }
+        position = AgendaCursor.of(page.get(page.size() - 1));
+        buffer = page.iterator();
+        return true;
+    }
+
+    @Override
+    public AgendaItem next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return buffer.next();
+    }
+}
@@ -0,0 +1,79 @@
+package com.lifemanager.life_manager.cache;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+// 기본 빈 직렬화기를 감싸서, (id, 변경 버전) 이 같은 DTO 는 캐시해 둔 바이트를 출력 스트림에 그대로 붙인다
+final class FragmentCachingSerializer<T> extends StdSerializer<T> implements ResolvableSerializer, ContextualSerializer {
+
+    private static final JsonFactory FRAGMENT_FACTORY = new JsonFactory();
+
+    private final JsonSerializer<Object> delegate;
+    private final JsonFragmentCache cache;
+    private final Function<T, Long> idOf;
+    private final ToLongFunction<T> versionOf;
+
+    @SuppressWarnings("unchecked")
+    FragmentCachingSerializer(Class<T> type, JsonSerializer<?> delegate, JsonFragmentCache cache,
+                              Function<T, Long> idOf, ToLongFunction<T> versionOf) {
+        super(type);
+        this.delegate = (JsonSerializer<Object>) delegate;
+        this.cache = cache;
+        this.idOf = idOf;
+        this.versionOf = versionOf;
+    }
+
+    @Override
+    public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        Long id = idOf.apply(value);
+        // 캐시된 바이트는 JSON 이라 CBOR/Smile/TokenBuffer 출력에는 붙일 수 없다
+        if (id == null || !(gen instanceof JsonGeneratorImpl)) {
+            delegate.serialize(value, gen, provider);
+            return;
+        }
+
+        long version = versionOf.applyAsLong(value);
+        RawJson json = cache.get(handledType(), id, version);
+        if (json == null) {
+            ByteArrayBuilder buffer = new ByteArrayBuilder(512);
+            try (JsonGenerator fragment = FRAGMENT_FACTORY.createGenerator(buffer)) {
+                delegate.serialize(value, fragment, provider);
+            }
+            json = new RawJson(buffer.toByteArray());
+            cache.put(handledType(), id, version, json);
+        }
+        gen.writeRawValue(json);
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (delegate instanceof ResolvableSerializer resolvable) {
+            resolvable.resolve(provider);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        JsonSerializer<?> contextual = delegate instanceof ContextualSerializer contextualSerializer
+                ? contextualSerializer.createContextual(provider, property)
+                : delegate;
+        if (contextual == delegate) {
+            return this;
+        }
+        return new FragmentCachingSerializer<>((Class<T>) handledType(), contextual, cache, idOf, versionOf);
+    }
+}
@@ -0,0 +1,99 @@
+package com.lifemanager.life_manager.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 일정/거래 DTO 의 직렬화된 JSON 을 (타입, id) 별로 최신 변경 버전 하나만 보관하는 LRU.
+// 전체 바이트 수로 크기를 제한한다
+@Component
+public class JsonFragmentCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 96; // 키/엔트리/배열 헤더 대략치
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final LinkedHashMap<Key, Fragment> fragments = new LinkedHashMap<>(1024, 0.75f, true);
+    private long totalBytes; // fragments 로 보호
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public JsonFragmentCache(@Value("${response.fragment-cache.enabled:false}") boolean enabled,
+                             @Value("${response.fragment-cache.max-bytes:67108864}") long maxBytes,
+                             MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+
+        FunctionCounter.builder("response.fragment-cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("response.fragment-cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("response.fragment-cache.evictions", evictions, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("response.fragment-cache.bytes", this, JsonFragmentCache::totalBytes).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    RawJson get(Class<?> type, long id, long version) {
+        Fragment fragment;
+        synchronized (fragments) {
+            fragment = fragments.get(new Key(type, id));
+        }
+        if (fragment == null || fragment.version != version) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return fragment.json;
+    }
+
+    // 같은 id 의 이전 버전은 덮어쓴다 (더 오래된 버전이 늦게 들어오면 무시)
+    void put(Class<?> type, long id, long version, RawJson json) {
+        long size = json.byteLength() + ENTRY_OVERHEAD_BYTES;
+        if (size > maxBytes) {
+            return;
+        }
+        synchronized (fragments) {
+            Key key = new Key(type, id);
+            Fragment previous = fragments.get(key);
+            if (previous != null) {
+                if (previous.version > version) {
+                    return;
+                }
+                totalBytes -= previous.size;
+            }
+            fragments.put(key, new Fragment(version, json, size));
+            totalBytes += size;
+
+            Iterator<Fragment> eldest = fragments.values().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                totalBytes -= eldest.next().size;
+                eldest.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    public long totalBytes() {
+        synchronized (fragments) {
+            return totalBytes;
+        }
+    }
+
+    private record Key(Class<?> type, long id) {
+    }
+
+    private record Fragment(long version, RawJson json, long size) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.lifemanager.life_manager.cache;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.lifemanager.life_manager.dto.schedule.ScheduleListItem;
+import com.lifemanager.life_manager.dto.schedule.ScheduleResponse;
+import com.lifemanager.life_manager.dto.transaction.TransactionListItem;
+import com.lifemanager.life_manager.dto.transaction.TransactionResponse;
+import org.springframework.stereotype.Component;
+
+// 캐시가 켜져 있으면 일정/거래 응답과 목록 항목 직렬화기를 FragmentCachingSerializer 로 바꾼다.
+// 스프링 부트가 ObjectMapper 에 등록하며, List 든 Page 든 같은 경로로 적용된다
+@Component
+public class JsonFragmentModule extends SimpleModule {
+
+    public JsonFragmentModule(JsonFragmentCache cache) {
+        super("JsonFragmentModule");
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+                if (!cache.isEnabled()) {
+                    return serializer;
+                }
+                Class<?> type = beanDesc.getBeanClass();
+                if (type == ScheduleResponse.class) {
+                    return new FragmentCachingSerializer<>(ScheduleResponse.class, serializer, cache,
+                            ScheduleResponse::getId, ScheduleResponse::getChangeVersion);
+                }
+                if (type == TransactionResponse.class) {
+                    return new FragmentCachingSerializer<>(TransactionResponse.class, serializer, cache,
+                            TransactionResponse::getId, TransactionResponse::getChangeVersion);
+                }
+                if (type == ScheduleListItem.class) {
+                    return new FragmentCachingSerializer<>(ScheduleListItem.class, serializer, cache,
+                            ScheduleListItem::getId, ScheduleListItem::getChangeVersion);
+                }
+                if (type == TransactionListItem.class) {
+                    return new FragmentCachingSerializer<>(TransactionListItem.class, serializer, cache,
+                            TransactionListItem::getId, TransactionListItem::getChangeVersion);
+                }
+                return serializer;
+            }
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package com.lifemanager.life_manager.cache;
+
+import com.lifemanager.life_manager.event.UserDeletedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 존재가 확인된 사용자 id 의 LRU 집합.
+// 생성 경로에서 외래키만 걸 때 users SELECT 를 건너뛰는 데 쓰고, 탈퇴 시 지운다
+@Component
+public class KnownUserCache {
+
+    private final Map<Long, Boolean> userIds;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public KnownUserCache(@Value("${user.known-cache.max-size:100000}") int maxSize, MeterRegistry meterRegistry) {
+        this.userIds = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > maxSize;
+            }
+        };
+
+        FunctionCounter.builder("user.known-cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("user.known-cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss").register(meterRegistry);
+    }
+
+    public boolean contains(Long userId) {
+        boolean known;
+        synchronized (userIds) {
+            known = userIds.get(userId) != null;
+        }
+        (known ? hits : misses).incrementAndGet();
+        return known;
+    }
+
+    public void add(Long userId) {
+        synchronized (userIds) {
+            userIds.put(userId, Boolean.TRUE);
+        }
+    }
+
+    public void evict(Long userId) {
+        synchronized (userIds) {
+            userIds.remove(userId);
+        }
+    }
+
+    // 탈퇴 트랜잭션 중에 다른 요청이 다시 넣었을 수 있으니 커밋 후 한 번 더 지운다
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        evict(event.getUserId());
+    }
+}
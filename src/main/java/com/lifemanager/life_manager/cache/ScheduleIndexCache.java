@@ -0,0 +1,167 @@
+package com.lifemanager.life_manager.cache;
+
+import com.lifemanager.life_manager.dto.schedule.ScheduleResponse;
+import com.lifemanager.life_manager.event.ChangeType;
+import com.lifemanager.life_manager.event.ScheduleBulkChangedEvent;
+import com.lifemanager.life_manager.event.ScheduleChangedEvent;
+import com.lifemanager.life_manager.event.UserDeletedEvent;
+import com.lifemanager.life_manager.repository.ScheduleRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 사용자별 일정 인터벌 인덱스를 LRU 로 들고 있는 캐시.
+// 처음 조회할 때 적재하고, ScheduleService 쓰기 이벤트로 갱신한다.
+@Component
+public class ScheduleIndexCache {
+
+    private static final ScheduleIntervalIndex TOO_LARGE = ScheduleIntervalIndex.of(List.of());
+
+    private final ScheduleRepository scheduleRepository;
+    private final boolean enabled;
+    private final int maxEntriesPerUser;
+    private final Map<Long, ScheduleIntervalIndex> indexes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bypasses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong writeEpoch = new AtomicLong();
+
+    public ScheduleIndexCache(ScheduleRepository scheduleRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${schedule.index.enabled:false}") boolean enabled,
+                              @Value("${schedule.index.max-users:10000}") int maxUsers,
+                              @Value("${schedule.index.max-entries-per-user:5000}") int maxEntriesPerUser) {
+        this.scheduleRepository = scheduleRepository;
+        this.enabled = enabled;
+        this.maxEntriesPerUser = maxEntriesPerUser;
+        this.indexes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ScheduleIntervalIndex> eldest) {
+                if (size() > maxUsers) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        FunctionCounter.builder("schedule.index.requests", hits, AtomicLong::get)
+                .tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("schedule.index.requests", misses, AtomicLong::get)
+                .tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("schedule.index.requests", bypasses, AtomicLong::get)
+                .tag("result", "bypass").register(meterRegistry);
+        FunctionCounter.builder("schedule.index.evictions", evictions, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("schedule.index.users", this, ScheduleIndexCache::size).register(meterRegistry);
+    }
+
+    // 사용자의 인덱스. 비활성화됐거나 일정이 너무 많은 사용자는 empty (DB 로 조회)
+    public Optional<ScheduleIntervalIndex> get(Long userId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        ScheduleIntervalIndex index;
+        synchronized (indexes) {
+            index = indexes.get(userId);
+        }
+        if (index != null) {
+            if (index == TOO_LARGE) {
+                bypasses.incrementAndGet();
+                return Optional.empty();
+            }
+            hits.incrementAndGet();
+            return Optional.of(index);
+        }
+
+        misses.incrementAndGet();
+        return Optional.ofNullable(load(userId));
+    }
+
+    // 커밋된 쓰기를 인덱스에 반영한다
+    @TransactionalEventListener
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        writeEpoch.incrementAndGet();
+        synchronized (indexes) {
+            ScheduleIntervalIndex index = indexes.get(event.getUserId());
+            if (index == null || index == TOO_LARGE) {
+                indexes.remove(event.getUserId());
+                return;
+            }
+            ScheduleResponse schedule = event.getSchedule();
+            if (event.getType() == ChangeType.DELETED || schedule == null) {
+                indexes.put(event.getUserId(), index.without(event.getScheduleId()));
+            } else if (index.size() >= maxEntriesPerUser && event.getType() == ChangeType.CREATED) {
+                indexes.put(event.getUserId(), TOO_LARGE);
+            } else {
+                indexes.put(event.getUserId(), index.with(schedule));
+            }
+        }
+    }
+
+    // 범위 일괄 수정/삭제는 사용자 인덱스를 통째로 버리고 다음 조회 때 다시 적재한다
+    @TransactionalEventListener
+    public void onScheduleBulkChanged(ScheduleBulkChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        writeEpoch.incrementAndGet();
+        synchronized (indexes) {
+            indexes.remove(event.getUserId());
+        }
+    }
+
+    // 탈퇴한 사용자의 인덱스 정리
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        writeEpoch.incrementAndGet();
+        synchronized (indexes) {
+            indexes.remove(event.getUserId());
+        }
+    }
+
+    public int size() {
+        synchronized (indexes) {
+            return indexes.size();
+        }
+    }
+
+    private ScheduleIntervalIndex load(Long userId) {
+        long epoch = writeEpoch.get();
+        List<ScheduleResponse> schedules = scheduleRepository
+                .findByUserIdOrderByStartDatetimeAsc(userId, Limit.of(maxEntriesPerUser + 1))
+                .stream()
+                .map(ScheduleResponse::from)
+                .toList();
+
+        ScheduleIntervalIndex index = schedules.size() > maxEntriesPerUser
+                ? TOO_LARGE
+                : ScheduleIntervalIndex.of(schedules);
+
+        // 적재하는 동안 쓰기가 있었다면 스냅샷이 낡았을 수 있으니 캐시에 넣지 않는다
+        synchronized (indexes) {
+            if (writeEpoch.get() == epoch) {
+                indexes.put(userId, index);
+            }
+        }
+        return index == TOO_LARGE ? null : index;
+    }
+}
@@ -0,0 +1,158 @@
+package com.lifemanager.life_manager.cache;
+
+import com.lifemanager.life_manager.dto.schedule.ScheduleResponse;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+// 한 사용자의 일정을 시작 시각 순으로 정렬해 두고, 종료 시각 최댓값을 담은 세그먼트 트리로
+// "지금 진행 중", "다음 N개", "구간과 겹치는 일정" 을 O(log n + k) 에 찾는 불변 인덱스
+public final class ScheduleIntervalIndex {
+
+    private static final Comparator<ScheduleResponse> ORDER = Comparator
+            .comparing(ScheduleResponse::getStartDatetime)
+            .thenComparing(ScheduleResponse::getId);
+
+    private final ScheduleResponse[] schedules;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnd; // 1 기반 세그먼트 트리
+
+    private ScheduleIntervalIndex(ScheduleResponse[] sorted) {
+        this.schedules = sorted;
+        int n = sorted.length;
+        this.starts = new long[n];
+        this.ends = new long[n];
+        for (int i = 0; i < n; i++) {
+            starts[i] = toMicros(sorted[i].getStartDatetime());
+            ends[i] = toMicros(sorted[i].getEndDatetime());
+        }
+        this.maxEnd = new long[Math.max(1, 4 * n)];
+        if (n > 0) {
+            build(1, 0, n);
+        }
+    }
+
+    public static ScheduleIntervalIndex of(Collection<ScheduleResponse> schedules) {
+        ScheduleResponse[] sorted = schedules.toArray(new ScheduleResponse[0]);
+        Arrays.sort(sorted, ORDER);
+        return new ScheduleIntervalIndex(sorted);
+    }
+
+    public int size() {
+        return schedules.length;
+    }
+
+    // 시작 시각이 [start, end] 에 들어오는 일정 (기존 기간 조회와 같은 의미)
+    public List<ScheduleResponse> startingBetween(LocalDateTime start, LocalDateTime end) {
+        int from = lowerBound(toMicros(start));
+        int to = upperBound(toMicros(end));
+        return from < to ? List.of(Arrays.copyOfRange(schedules, from, to)) : List.of();
+    }
+
+    // at 시점에 진행 중인 일정 (start <= at < end)
+    public List<ScheduleResponse> happeningAt(LocalDateTime at) {
+        long t = toMicros(at);
+        List<ScheduleResponse> result = new ArrayList<>();
+        collect(1, 0, schedules.length, upperBound(t), t, result);
+        return result;
+    }
+
+    // [from, to) 구간과 겹치는 일정
+    public List<ScheduleResponse> overlapping(LocalDateTime from, LocalDateTime to) {
+        List<ScheduleResponse> result = new ArrayList<>();
+        collect(1, 0, schedules.length, lowerBound(toMicros(to)), toMicros(from), result);
+        return result;
+    }
+
+    // after 이후에 시작하는 다음 일정 count 개
+    public List<ScheduleResponse> next(LocalDateTime after, int count) {
+        int from = upperBound(toMicros(after));
+        int to = (int) Math.min((long) from + count, schedules.length);
+        return from < to ? List.of(Arrays.copyOfRange(schedules, from, to)) : List.of();
+    }
+
+    // 일정 하나를 추가/교체한 새 인덱스 (쓰기는 드물어서 copy-on-write 로 처리)
+    public ScheduleIntervalIndex with(ScheduleResponse schedule) {
+        List<ScheduleResponse> copy = new ArrayList<>(schedules.length + 1);
+        for (ScheduleResponse existing : schedules) {
+            if (!existing.getId().equals(schedule.getId())) {
+                copy.add(existing);
+            }
+        }
+        copy.add(schedule);
+        return of(copy);
+    }
+
+    public ScheduleIntervalIndex without(Long scheduleId) {
+        List<ScheduleResponse> copy = new ArrayList<>(schedules.length);
+        for (ScheduleResponse existing : schedules) {
+            if (!existing.getId().equals(scheduleId)) {
+                copy.add(existing);
+            }
+        }
+        return copy.size() == schedules.length ? this : of(copy);
+    }
+
+    private long build(int node, int lo, int hi) {
+        if (hi - lo == 1) {
+            return maxEnd[node] = ends[lo];
+        }
+        int mid = (lo + hi) >>> 1;
+        return maxEnd[node] = Math.max(build(node * 2, lo, mid), build(node * 2 + 1, mid, hi));
+    }
+
+    // [lo, hi) 중 인덱스가 limit 미만이고 종료 시각이 t 보다 큰 항목을 모은다
+    private void collect(int node, int lo, int hi, int limit, long t, List<ScheduleResponse> out) {
+        if (lo >= limit || hi <= lo || maxEnd[node] <= t) {
+            return;
+        }
+        if (hi - lo == 1) {
+            out.add(schedules[lo]);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        collect(node * 2, lo, mid, limit, t, out);
+        collect(node * 2 + 1, mid, hi, limit, t, out);
+    }
+
+    // starts[i] >= t 인 첫 위치
+    private int lowerBound(long t) {
+        int lo = 0;
+        int hi = starts.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] < t) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // starts[i] > t 인 첫 위치
+    private int upperBound(long t) {
+        int lo = 0;
+        int hi = starts.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] <= t) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // 마이크로초 단위 (DB 타임스탬프 정밀도)
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,14 @@
+package com.lifemanager.life_manager.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 같은 인자로 동시에 들어온 호출은 먼저 시작한 호출 하나의 결과를 함께 받는다.
+// 인자는 equals/hashCode 가 값 기준이어야 한다. 반환값은 여러 호출자가 공유하므로 컬렉션은 수정할 수 없는 복사본으로 돌려주고,
+// setter 가 있는 타입을 반환하는 메서드는 합치지 않는다 (컬렉션 원소도 수정할 수 없는 DTO 여야 한다)
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+}
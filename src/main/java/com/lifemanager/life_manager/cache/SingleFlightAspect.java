@@ -0,0 +1,125 @@
+package com.lifemanager.life_manager.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// @SingleFlight 메서드의 동시 중복 호출 합치기.
+// 트랜잭션 바깥에서 돌아야 합류한 호출이 커넥션을 잡지 않으므로 트랜잭션 인터셉터보다 먼저 실행한다.
+// 결과를 여러 호출자가 나눠 가지므로 컬렉션은 수정할 수 없는 복사본으로 돌려주고, setter 가 있는 반환 타입은 합치지 않는다.
+// 먼저 시작한 호출이 wait-timeout 안에 끝나지 않으면 기다리던 호출은 직접 실행한다
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SingleFlightAspect {
+
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<Method, Boolean> shareable = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final long waitTimeoutNanos;
+
+    public SingleFlightAspect(MeterRegistry meterRegistry,
+                              @Value("${singleflight.wait-timeout:PT5S}") Duration waitTimeout) {
+        this.meterRegistry = meterRegistry;
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+    }
+
+    @Around("@annotation(com.lifemanager.life_manager.cache.SingleFlight)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        // 이미 트랜잭션 안이면 (자기 쓰기를 봐야 할 수 있으니), 또는 결과를 나눠 가질 수 없는 타입이면 합치지 않는다
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                || !shareable.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(),
+                SingleFlightAspect::hasShareableResult)) {
+            return joinPoint.proceed();
+        }
+
+        String method = joinPoint.getSignature().toShortString();
+        Key key = new Key(joinPoint.getSignature().toLongString(), Arrays.asList(joinPoint.getArgs()));
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, mine);
+
+        if (leader != null) {
+            counter(method, "coalesced").increment();
+            try {
+                return leader.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            } catch (TimeoutException e) {
+                // 멈춘 호출 하나에 모두 묶이지 않게 직접 실행한다
+                counter(method, "timeout").increment();
+                return readOnly(joinPoint.proceed());
+            }
+        }
+
+        counter(method, "leader").increment();
+        try {
+            Object result = readOnly(joinPoint.proceed());
+            mine.complete(result);
+            return result;
+        } catch (Throwable t) {
+            mine.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // 공유해도 되는 반환 타입 - 컬렉션(복사본으로 감싼다), record, 값 타입, public setter 가 없는 클래스
+    private static boolean hasShareableResult(Method method) {
+        Class<?> type = method.getReturnType();
+        if (type.isPrimitive() || type.isRecord() || type.isEnum() || type == String.class
+                || Number.class.isAssignableFrom(type) || Collection.class.isAssignableFrom(type)
+                || Map.class.isAssignableFrom(type)) {
+            return true;
+        }
+        return Arrays.stream(type.getMethods()).noneMatch(m -> Modifier.isPublic(m.getModifiers())
+                && !Modifier.isStatic(m.getModifiers()) && m.getName().startsWith("set") && m.getParameterCount() == 1);
+    }
+
+    // 한 호출자가 고친 컬렉션이 다른 호출자 결과에 보이지 않게 수정할 수 없는 복사본으로
+    private static Object readOnly(Object result) {
+        if (result instanceof List<?> list) {
+            return Collections.unmodifiableList(new ArrayList<>(list));
+        }
+        if (result instanceof Set<?> set) {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(set));
+        }
+        if (result instanceof Map<?, ?> map) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(map));
+        }
+        return result;
+    }
+
+    private Counter counter(String method, String result) {
+        return meterRegistry.counter("singleflight.calls", "method", method, "result", result);
+    }
+
+    private record Key(String method, List<Object> args) {
+    }
+}
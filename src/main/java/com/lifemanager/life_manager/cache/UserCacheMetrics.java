@@ -0,0 +1,46 @@
+package com.lifemanager.life_manager.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+
+// users 2차 캐시 리전(엔티티, 이메일 natural id)을 Micrometer 캐시 메트릭(cache.gets{cache=..., result=hit|miss} 등)으로 낸다.
+// 값은 Caffeine JCache 통계(caffeine-jcache.conf 의 monitoring.statistics)에서 읽으므로 Hibernate 통계는 켜지 않는다
+@Component
+public class UserCacheMetrics {
+
+    public static final String ENTITY_REGION = "users";
+    public static final String NATURAL_ID_REGION = "users-by-email";
+
+    private final MeterRegistry meterRegistry;
+
+    public UserCacheMetrics(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getCache().getRegionFactory();
+        if (!(regionFactory instanceof JCacheRegionFactory jcacheRegionFactory)) {
+            // 2차 캐시를 끈 설정이면 붙일 캐시가 없다
+            return;
+        }
+        for (String region : new String[]{ENTITY_REGION, NATURAL_ID_REGION}) {
+            Cache<Object, Object> cache = jcacheRegionFactory.getCacheManager().getCache(region);
+            if (cache != null) {
+                JCacheMetrics.monitor(meterRegistry, cache);
+            }
+        }
+    }
+
+    public double hits(String region) {
+        FunctionCounter counter = meterRegistry.find("cache.gets")
+                .tags("cache", region, "result", "hit").functionCounter();
+        return counter != null ? counter.count() : 0;
+    }
+}
@@ -0,0 +1,86 @@
+package com.lifemanager.life_manager.cache;
+
+import com.lifemanager.life_manager.exception.PreconditionFailedException;
+import com.lifemanager.life_manager.service.ChangeVersionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// 사용자 변경 버전으로 만든 ETag. 일정/거래가 바뀌면 버전이 오르므로 목록/기간/요약 응답을 함께 무효화한다.
+// 데이터보다 먼저 읽어야 한다 - 그래야 사이에 쓰기가 끼어도 ETag 가 데이터보다 낡은 쪽으로만 어긋난다.
+// 같은 URL 도 Accept 에 따라 JSON/CBOR/Smile 로 나가므로 포맷을 ETag 에 넣고, 응답에는 VARY (X-User-Id, Accept) 를 붙인다
+@Component
+@RequiredArgsConstructor
+public class VersionETags {
+
+    // 매번 재검증 (304 면 본문 없이)
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    // 사용자(X-User-Id)와 포맷(Accept)마다 다른 표현
+    public static final String[] VARY = {"X-User-Id", HttpHeaders.ACCEPT};
+
+    private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final ChangeVersionService changeVersionService;
+
+    public String forUser(Long userId, WebRequest request) {
+        return "\"v" + changeVersionService.current(userId) + variant(request) + "\"";
+    }
+
+    // 협상될 포맷 - JSON 이면 "" (기존 ETag 그대로), 아니면 "-cbor" / "-smile"
+    public static String variant(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return "";
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return "";
+        }
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            // */*, application/* 는 먼저 등록된 JSON 컨버터가 받는다
+            if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return "";
+            }
+            if (type.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)) {
+                return "-cbor";
+            }
+            if (type.equalsTypeAndSubtype(SMILE)) {
+                return "-smile";
+            }
+        }
+        return "";
+    }
+
+    // 단건 ETag. change_version 은 그 행을 쓸 때마다 새 값이 찍히므로 행 버전으로 쓴다
+    public static String forRow(long changeVersion) {
+        return "\"r" + changeVersion + "\"";
+    }
+
+    // If-Match -> 수정 조건에 넣을 행 버전. 없거나 * 면 null (조건 없음).
+    // 약한 ETag 나 형식이 다른 값은 어떤 행과도 강한 비교로 맞지 않으므로 412
+    public static Long expectedRowVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (!tag.matches("\"r\\d{1,18}\"")) {
+            throw new PreconditionFailedException("If-Match 가 현재 버전과 맞지 않습니다");
+        }
+        return Long.parseLong(tag.substring(2, tag.length() - 1));
+    }
+}
@@ -0,0 +1,19 @@
+package com.lifemanager.life_manager.calendar;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class IcsEvent {
+
+    private String title;
+    private String description;
+    private LocalDateTime startDatetime;
+    private LocalDateTime endDatetime;
+    private boolean allDay;
+    private String category;
+    private String color;
+}
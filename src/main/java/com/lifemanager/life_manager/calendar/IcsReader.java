@@ -0,0 +1,288 @@
+package com.lifemanager.life_manager.calendar;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+
+// .ics 파일을 한 줄씩 읽으며 VEVENT 를 하나씩 돌려주는 파서 (파일 전체를 메모리에 올리지 않음)
+public class IcsReader {
+
+    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_CATEGORY_LENGTH = 50;
+    private static final int MAX_COLOR_LENGTH = 20;
+    private static final String DEFAULT_TITLE = "(제목 없음)";
+
+    private final BufferedReader reader;
+    private final ZoneId zoneId;
+    private String lookahead;
+
+    public IcsReader(Reader reader, ZoneId zoneId) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.zoneId = zoneId;
+    }
+
+    // 다음 VEVENT 를 읽는다. 더 이상 없으면 null
+    public IcsEvent nextEvent() throws IOException {
+        String line;
+        while ((line = nextLogicalLine()) != null) {
+            if (line.equalsIgnoreCase("BEGIN:VEVENT")) {
+                IcsEvent event = readEvent();
+                if (event != null) {
+                    return event;
+                }
+            }
+        }
+        return null;
+    }
+
+    private IcsEvent readEvent() throws IOException {
+        String title = null;
+        String description = null;
+        String category = null;
+        String color = null;
+        ParsedTime start = null;
+        ParsedTime end = null;
+        Duration duration = null;
+
+        int depth = 0; // VALARM 같은 하위 컴포넌트는 건너뛴다
+        String line;
+        while ((line = nextLogicalLine()) != null) {
+            if (startsWithIgnoreCase(line, "BEGIN:")) {
+                depth++;
+                continue;
+            }
+            if (startsWithIgnoreCase(line, "END:")) {
+                if (depth == 0) {
+                    break;
+                }
+                depth--;
+                continue;
+            }
+            if (depth > 0) {
+                continue;
+            }
+
+            Property property = Property.parse(line);
+            if (property == null) {
+                continue;
+            }
+
+            switch (property.name) {
+                case "SUMMARY" -> title = unescape(property.value);
+                case "DESCRIPTION" -> description = unescape(property.value);
+                case "CATEGORIES" -> category = firstListValue(property.value);
+                case IcsWriter.COLOR_PROPERTY -> color = unescape(property.value);
+                case "DTSTART" -> start = parseTime(property);
+                case "DTEND" -> end = parseTime(property);
+                case "DURATION" -> duration = parseDuration(property.value);
+                default -> { }
+            }
+        }
+
+        if (start == null) {
+            return null;
+        }
+
+        return toEvent(title, description, category, color, start, end, duration);
+    }
+
+    private IcsEvent toEvent(String title, String description, String category, String color,
+                             ParsedTime start, ParsedTime end, Duration duration) {
+        LocalDateTime startDatetime;
+        LocalDateTime endDatetime;
+
+        if (start.dateOnly) {
+            // 종일 일정: DTEND 는 배타적 날짜이므로 마지막 날 23:59:59 로 맞춘다
+            LocalDate startDate = start.value.toLocalDate();
+            LocalDate exclusiveEnd;
+            if (end != null) {
+                exclusiveEnd = end.value.toLocalDate();
+            } else if (duration != null) {
+                exclusiveEnd = startDate.plusDays(Math.max(1, duration.toDays()));
+            } else {
+                exclusiveEnd = startDate.plusDays(1);
+            }
+            if (!exclusiveEnd.isAfter(startDate)) {
+                exclusiveEnd = startDate.plusDays(1);
+            }
+            startDatetime = startDate.atStartOfDay();
+            endDatetime = exclusiveEnd.atStartOfDay().minusSeconds(1);
+        } else {
+            startDatetime = start.value;
+            if (end != null) {
+                endDatetime = end.value;
+            } else if (duration != null) {
+                endDatetime = start.value.plus(duration);
+            } else {
+                endDatetime = start.value;
+            }
+        }
+
+        return IcsEvent.builder()
+                .title(truncate(title == null || title.isBlank() ? DEFAULT_TITLE : title, MAX_TITLE_LENGTH))
+                .description(description)
+                .startDatetime(startDatetime)
+                .endDatetime(endDatetime)
+                .allDay(start.dateOnly)
+                .category(truncate(category, MAX_CATEGORY_LENGTH))
+                .color(truncate(color, MAX_COLOR_LENGTH))
+                .build();
+    }
+
+    private ParsedTime parseTime(Property property) {
+        String value = property.value.trim();
+        try {
+            if ("DATE".equalsIgnoreCase(property.params.get("VALUE")) || value.length() == 8) {
+                return new ParsedTime(LocalDate.parse(value, IcsWriter.DATE).atStartOfDay(), true);
+            }
+
+            if (value.endsWith("Z")) {
+                LocalDateTime utc = LocalDateTime.parse(value.substring(0, value.length() - 1), LOCAL_DATE_TIME);
+                return new ParsedTime(utc.atOffset(ZoneOffset.UTC).atZoneSameInstant(zoneId).toLocalDateTime(), false);
+            }
+
+            LocalDateTime local = LocalDateTime.parse(value, LOCAL_DATE_TIME);
+            ZoneId sourceZone = resolveZone(property.params.get("TZID"));
+            return new ParsedTime(local.atZone(sourceZone).withZoneSameInstant(zoneId).toLocalDateTime(), false);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    // TZID 가 없거나 IANA 이름이 아니면(예: Windows 표준 시간대 이름) 서버 시간대의 floating time 으로 본다
+    private ZoneId resolveZone(String tzid) {
+        if (tzid == null) {
+            return zoneId;
+        }
+        try {
+            return ZoneId.of(tzid);
+        } catch (DateTimeException e) {
+            return zoneId;
+        }
+    }
+
+    private Duration parseDuration(String value) {
+        String trimmed = value.trim();
+        try {
+            if (trimmed.endsWith("W")) {
+                long weeks = Long.parseLong(trimmed.substring(trimmed.indexOf('P') + 1, trimmed.length() - 1));
+                return Duration.ofDays(weeks * 7);
+            }
+            return Duration.parse(trimmed);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    // 접힌 줄(CRLF + 공백/탭)을 펼쳐 논리적인 한 줄을 돌려준다
+    private String nextLogicalLine() throws IOException {
+        String line = lookahead != null ? lookahead : reader.readLine();
+        lookahead = null;
+        if (line == null) {
+            return null;
+        }
+
+        StringBuilder sb = null;
+        String next;
+        while ((next = reader.readLine()) != null) {
+            if (!next.isEmpty() && (next.charAt(0) == ' ' || next.charAt(0) == '\t')) {
+                if (sb == null) {
+                    sb = new StringBuilder(line);
+                }
+                sb.append(next, 1, next.length());
+            } else {
+                lookahead = next;
+                break;
+            }
+        }
+        return sb != null ? sb.toString() : line;
+    }
+
+    private static String firstListValue(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == ',') {
+                return unescape(value.substring(0, i));
+            }
+        }
+        return unescape(value);
+    }
+
+    static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                sb.append(next == 'n' || next == 'N' ? '\n' : next);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+
+    private static boolean startsWithIgnoreCase(String line, String prefix) {
+        return line.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    private record ParsedTime(LocalDateTime value, boolean dateOnly) {
+    }
+
+    // NAME;PARAM=VALUE;...:VALUE 형태의 content line
+    private record Property(String name, Map<String, String> params, String value) {
+
+        static Property parse(String line) {
+            int colon = -1;
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (c == ':' && !quoted) {
+                    colon = i;
+                    break;
+                }
+            }
+            if (colon < 0) {
+                return null;
+            }
+
+            String[] head = line.substring(0, colon).split(";");
+            Map<String, String> params = new HashMap<>();
+            for (int i = 1; i < head.length; i++) {
+                int eq = head[i].indexOf('=');
+                if (eq > 0) {
+                    String paramValue = head[i].substring(eq + 1);
+                    if (paramValue.length() >= 2 && paramValue.startsWith("\"") && paramValue.endsWith("\"")) {
+                        paramValue = paramValue.substring(1, paramValue.length() - 1);
+                    }
+                    params.put(head[i].substring(0, eq).toUpperCase(), paramValue);
+                }
+            }
+            return new Property(head[0].toUpperCase(), params, line.substring(colon + 1));
+        }
+    }
+}
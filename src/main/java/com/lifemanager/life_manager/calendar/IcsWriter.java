@@ -0,0 +1,141 @@
+package com.lifemanager.life_manager.calendar;
+
+import com.lifemanager.life_manager.domain.Schedule;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+// 일정을 VEVENT 단위로 바로 Writer 에 흘려보내는 iCalendar(RFC 5545) 작성기
+public class IcsWriter {
+
+    static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    static final String UID_SUFFIX = "@life-manager";
+    static final String COLOR_PROPERTY = "X-LIFEMANAGER-COLOR";
+
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final Writer writer;
+    private final ZoneId zoneId;
+
+    public IcsWriter(Writer writer, ZoneId zoneId) {
+        this.writer = writer;
+        this.zoneId = zoneId;
+    }
+
+    public void beginCalendar(String calendarName) throws IOException {
+        writeLine("BEGIN:VCALENDAR");
+        writeLine("VERSION:2.0");
+        writeLine("PRODID:-//Life Manager//Schedule Export//KO");
+        writeLine("CALSCALE:GREGORIAN");
+        writeLine("METHOD:PUBLISH");
+        if (calendarName != null) {
+            writeLine("X-WR-CALNAME:" + escape(calendarName));
+        }
+    }
+
+    public void writeEvent(Schedule schedule) throws IOException {
+        writeLine("BEGIN:VEVENT");
+        writeLine("UID:" + schedule.getId() + UID_SUFFIX);
+        writeLine("DTSTAMP:" + formatUtc(schedule.getUpdatedAt() != null ? schedule.getUpdatedAt() : LocalDateTime.now()));
+
+        if (Boolean.TRUE.equals(schedule.getIsAllDay())) {
+            LocalDate startDate = schedule.getStartDatetime().toLocalDate();
+            writeLine("DTSTART;VALUE=DATE:" + DATE.format(startDate));
+            writeLine("DTEND;VALUE=DATE:" + DATE.format(exclusiveEndDate(schedule, startDate)));
+        } else {
+            writeLine("DTSTART:" + formatUtc(schedule.getStartDatetime()));
+            writeLine("DTEND:" + formatUtc(schedule.getEndDatetime()));
+        }
+
+        writeLine("SUMMARY:" + escape(schedule.getTitle()));
+        if (schedule.getDescription() != null && !schedule.getDescription().isEmpty()) {
+            writeLine("DESCRIPTION:" + escape(schedule.getDescription()));
+        }
+        if (schedule.getCategory() != null && !schedule.getCategory().isEmpty()) {
+            writeLine("CATEGORIES:" + escape(schedule.getCategory()));
+        }
+        if (schedule.getColor() != null && !schedule.getColor().isEmpty()) {
+            writeLine(COLOR_PROPERTY + ":" + escape(schedule.getColor()));
+        }
+        writeLine("END:VEVENT");
+    }
+
+    public void endCalendar() throws IOException {
+        writeLine("END:VCALENDAR");
+        writer.flush();
+    }
+
+    // 종일 일정의 DTEND 는 다음 날짜(배타적)로 표현한다
+    private LocalDate exclusiveEndDate(Schedule schedule, LocalDate startDate) {
+        LocalDateTime end = schedule.getEndDatetime();
+        if (end == null || !end.toLocalDate().isAfter(startDate)) {
+            return startDate.plusDays(1);
+        }
+        if (end.toLocalTime().equals(LocalTime.MIDNIGHT)) {
+            return end.toLocalDate();
+        }
+        return end.toLocalDate().plusDays(1);
+    }
+
+    private String formatUtc(LocalDateTime dateTime) {
+        ZonedDateTime utc = dateTime.atZone(zoneId).withZoneSameInstant(ZoneOffset.UTC);
+        return UTC_DATE_TIME.format(utc);
+    }
+
+    // TEXT 값 이스케이프 (RFC 5545 3.3.11)
+    static String escape(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case ';' -> sb.append("\\;");
+                case ',' -> sb.append("\\,");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> { }
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // 한 줄이 75 옥텟을 넘으면 CRLF + 공백으로 접는다 (UTF-8 문자 중간에서 자르지 않음)
+    private void writeLine(String line) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            int charOctets;
+            if (Character.isHighSurrogate(c) && i + 1 < line.length()) {
+                charOctets = 4;
+            } else if (c < 0x80) {
+                charOctets = 1;
+            } else if (c < 0x800) {
+                charOctets = 2;
+            } else {
+                charOctets = 3;
+            }
+
+            if (octets + charOctets > MAX_LINE_OCTETS) {
+                writer.write(CRLF);
+                writer.write(' ');
+                octets = 1;
+            }
+
+            writer.write(c);
+            if (charOctets == 4) {
+                writer.write(line.charAt(++i));
+            }
+            octets += charOctets;
+        }
+        writer.write(CRLF);
+    }
+}
@@ -0,0 +1,14 @@
+package com.lifemanager.life_manager.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 오래 걸리는 집계/리포트/스트리밍 조회는 작은 별도 풀(analytics)의 커넥션을 쓴다.
+// 생성/수정 같은 짧은 요청이 이런 조회 때문에 커넥션을 기다리지 않게 한다.
+// 이미 트랜잭션 안에서 불리면 그 트랜잭션의 커넥션을 그대로 쓴다
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AnalyticsPool {
+}
@@ -0,0 +1,33 @@
+package com.lifemanager.life_manager.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// @AnalyticsPool 메서드 동안 analytics 풀로 라우팅.
+// 트랜잭션이 커넥션을 잡기 전에 표시해야 하므로 트랜잭션 인터셉터보다 먼저 (@SingleFlight 합치기 다음에) 실행한다
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class AnalyticsPoolAspect {
+
+    @Around("@annotation(com.lifemanager.life_manager.config.AnalyticsPool) " +
+            "|| @within(com.lifemanager.life_manager.config.AnalyticsPool)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                || PoolRoutingDataSource.current() == PoolRoutingDataSource.Pool.ANALYTICS) {
+            return joinPoint.proceed();
+        }
+
+        PoolRoutingDataSource.use(PoolRoutingDataSource.Pool.ANALYTICS);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            PoolRoutingDataSource.reset();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.lifemanager.life_manager.config;
+
+import com.lifemanager.life_manager.shard.ShardIdGenerator;
+import com.lifemanager.life_manager.shard.ShardRouter;
+import com.lifemanager.life_manager.shard.ShardRoutingDataSource;
+import com.lifemanager.life_manager.shard.ShardingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 커넥션 풀 두 개 - OLTP(spring.datasource.hikari.*) 와 리포트/스트리밍용 analytics(app.datasource.analytics.hikari.*).
+// 같은 DB 를 보고, 풀마다 hikaricp.connections.* 메트릭이 pool 태그(oltp/analytics)로 따로 나온다.
+// app.datasource.replica.enabled=true 면 읽기 전용 트랜잭션은 replica 풀(app.datasource.replica.*)로 간다.
+// app.sharding.enabled=true 면 그 앞에서 사용자별 샤드를 먼저 고른다 (home 샤드 = 위의 풀들)
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource oltpDataSource(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        return pool(properties.initializeDataSourceBuilder(), meterRegistry, "oltp");
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.analytics.hikari")
+    public HikariDataSource analyticsDataSource(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        return pool(properties.initializeDataSourceBuilder(), meterRegistry, "analytics");
+    }
+
+    // 드라이버는 primary 와 같고, 계정은 따로 주지 않으면 primary 것을 쓴다
+    @Bean
+    @ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, MeterRegistry meterRegistry,
+                                              @Value("${app.datasource.replica.url}") String url,
+                                              @Value("${app.datasource.replica.username:}") String username,
+                                              @Value("${app.datasource.replica.password:}") String password) {
+        DataSourceBuilder<?> builder = properties.initializeDataSourceBuilder().url(url);
+        if (!username.isEmpty()) {
+            builder.username(username).password(password);
+        }
+        return pool(builder, meterRegistry, "replica");
+    }
+
+    // home 이 아닌 샤드는 샤드마다 풀 하나 (pool 태그 shard-<이름>)
+    @Bean(destroyMethod = "close")
+    public ShardRouter shardRouter(ShardingProperties sharding, HikariDataSource oltpDataSource,
+                                   DataSourceProperties properties, MeterRegistry meterRegistry) {
+        if (!sharding.isEnabled()) {
+            return new ShardRouter(sharding.getHome(), oltpDataSource);
+        }
+
+        Map<String, DataSource> pools = new LinkedHashMap<>();
+        pools.put(sharding.getHome(), oltpDataSource);
+        sharding.getShards().forEach((name, shard) -> {
+            DataSourceBuilder<?> builder = properties.initializeDataSourceBuilder().url(shard.getUrl());
+            if (shard.getUsername() != null) {
+                builder.username(shard.getUsername()).password(shard.getPassword());
+            }
+            HikariDataSource pool = pool(builder, meterRegistry, "shard-" + name);
+            pool.setMaximumPoolSize(shard.getMaximumPoolSize());
+            pools.put(name, pool);
+        });
+        return new ShardRouter(sharding, pools);
+    }
+
+    // @ShardId 엔티티가 쓸 id 발급기. 샤딩을 끄면 넘기지 않아 ShardIdGenerator 가 IDENTITY 로 남는다
+    @Bean
+    public HibernatePropertiesCustomizer shardIdsCustomizer(ShardRouter shardRouter) {
+        return properties -> shardRouter.ids().ifPresent(ids -> properties.put(ShardIdGenerator.IDS_SETTING, ids));
+    }
+
+    // JPA/JdbcTemplate 가 쓰는 DataSource.
+    // 트랜잭션 시작이 아니라 첫 SQL 때 커넥션을 잡으므로, 라우팅 표시와 readOnly 설정이 끝난 뒤에 풀이 정해진다
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource oltpDataSource, HikariDataSource analyticsDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+                                 ReplicaLagGuard lagGuard, ShardRouter shardRouter) {
+        return routing(oltpDataSource, analyticsDataSource, replicaDataSource.getIfAvailable(), lagGuard, shardRouter);
+    }
+
+    static DataSource routing(DataSource oltp, DataSource analytics, DataSource replica,
+                              ReplicaLagGuard lagGuard, ShardRouter shardRouter) {
+        PoolRoutingDataSource routing = new PoolRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                PoolRoutingDataSource.Pool.OLTP, oltp,
+                PoolRoutingDataSource.Pool.ANALYTICS, analytics));
+        routing.setDefaultTargetDataSource(oltp);
+        routing.afterPropertiesSet();
+
+        // QueryDeadline 이 묶인 스레드(대시보드 병렬 조회)의 Statement 에는 남은 시간만큼 query timeout 이 걸린다
+        LazyConnectionDataSourceProxy proxy =
+                new LazyConnectionDataSourceProxy(QueryDeadline.applyTo(sharded(routing, shardRouter)));
+        if (replica != null) {
+            // 트랜잭션 매니저가 Connection.setReadOnly(true) 를 부른 커넥션만 이쪽으로 간다
+            ReplicaRoutingDataSource reads = new ReplicaRoutingDataSource(lagGuard);
+            reads.setTargetDataSources(Map.of(
+                    PoolRoutingDataSource.Pool.OLTP, oltp,
+                    PoolRoutingDataSource.Pool.ANALYTICS, analytics,
+                    PoolRoutingDataSource.Pool.REPLICA, replica));
+            reads.setDefaultTargetDataSource(oltp);
+            reads.afterPropertiesSet();
+            proxy.setReadOnlyDataSource(QueryDeadline.applyTo(sharded(reads, shardRouter)));
+        }
+        return proxy;
+    }
+
+    // home 샤드 자리에 위의 풀 라우팅을 그대로 두고, 나머지 샤드는 샤드 풀로
+    private static DataSource sharded(DataSource home, ShardRouter shardRouter) {
+        if (!shardRouter.isEnabled()) {
+            return home;
+        }
+        Map<Object, Object> targets = new HashMap<>();
+        for (String shard : shardRouter.shards()) {
+            targets.put(shard, shard.equals(shardRouter.home()) ? home : shardRouter.dataSource(shard));
+        }
+        ShardRoutingDataSource routing = new ShardRoutingDataSource(shardRouter);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(home);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    private static HikariDataSource pool(DataSourceBuilder<?> builder, MeterRegistry meterRegistry, String name) {
+        HikariDataSource dataSource = builder.type(HikariDataSource.class).build();
+        dataSource.setPoolName(name);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
@@ -0,0 +1,33 @@
+package com.lifemanager.life_manager.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.hibernate.SessionEventListener;
+
+import java.util.concurrent.TimeUnit;
+
+// 세션 flush 시간과 flush 때 살펴본 엔티티 수.
+// Hibernate 가 세션마다 새로 만들어 쓰므로 (hibernate.session.events.auto) 스프링 빈이 아니고 전역 레지스트리에 기록한다
+public class FlushMetricsListener implements SessionEventListener {
+
+    private static final Timer FLUSH_TIME = Timer.builder("hibernate.session.flush")
+            .publishPercentiles(0.5, 0.99)
+            .register(Metrics.globalRegistry);
+
+    private static final DistributionSummary FLUSH_ENTITIES = DistributionSummary.builder("hibernate.session.flush.entities")
+            .register(Metrics.globalRegistry);
+
+    private long flushStart;
+
+    @Override
+    public void flushStart() {
+        flushStart = System.nanoTime();
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        FLUSH_TIME.record(System.nanoTime() - flushStart, TimeUnit.NANOSECONDS);
+        FLUSH_ENTITIES.record(numberOfEntities);
+    }
+}
@@ -22,6 +22,7 @@ import java.nio.charset.StandardCharsets;
 public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final ReplicaLagGuard replicaLagGuard;
 
     @Value("${app.oauth2.authorized-redirect-uri}")
     private String redirectUri;
@@ -49,6 +50,8 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
                 .encode(StandardCharsets.UTF_8)
                 .toUriString();
 
+        // OAuth 로 방금 가입했으면 리다이렉트 뒤 첫 조회가 primary 로 가도록
+        replicaLagGuard.sendMarker(userId, response);
         getRedirectStrategy().sendRedirect(request, response, targetUrl);
     }
 }
@@ -0,0 +1,31 @@
+package com.lifemanager.life_manager.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+// 커넥션을 잡는 순간의 스레드 표시로 OLTP / analytics 풀을 고른다
+public class PoolRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Pool {
+        OLTP, ANALYTICS, REPLICA
+    }
+
+    private static final ThreadLocal<Pool> CURRENT = new ThreadLocal<>();
+
+    public static Pool current() {
+        Pool pool = CURRENT.get();
+        return pool != null ? pool : Pool.OLTP;
+    }
+
+    static void use(Pool pool) {
+        CURRENT.set(pool);
+    }
+
+    static void reset() {
+        CURRENT.remove();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return current();
+    }
+}
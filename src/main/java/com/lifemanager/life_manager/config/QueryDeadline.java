@@ -0,0 +1,89 @@
+package com.lifemanager.life_manager.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 스레드에 묶인 마감 시각. 그동안 만드는 JDBC Statement 에 남은 시간을 query timeout 으로 건다.
+// 작업 스레드를 interrupt 해도 드라이버는 소켓 읽기에서 깨어나지 않으므로, 늦은 쿼리는 DB 쪽에서 끊어야 커넥션이 돌아온다
+public final class QueryDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    private QueryDeadline() {
+    }
+
+    // deadlineNanos 는 System.nanoTime() 기준
+    public static <T> T callWithin(long deadlineNanos, Supplier<T> action) {
+        Long previous = DEADLINE.get();
+        DEADLINE.set(deadlineNanos);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                DEADLINE.remove();
+            } else {
+                DEADLINE.set(previous);
+            }
+        }
+    }
+
+    // 마감이 없으면 0 (제한 없음). 있으면 남은 시간을 초 단위로 올림 - 이미 지났어도 최소 1초
+    static int remainingSeconds() {
+        Long deadline = DEADLINE.get();
+        if (deadline == null) {
+            return 0;
+        }
+        long remaining = deadline - System.nanoTime();
+        return (int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remaining + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    // 이 DataSource 의 커넥션에서 만든 Statement 에 마감을 건다
+    static DataSource applyTo(DataSource target) {
+        return new DelegatingDataSource(target) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return withDeadline(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return withDeadline(super.getConnection(username, password));
+            }
+        };
+    }
+
+    private static Connection withDeadline(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(QueryDeadline.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    Object result;
+                    try {
+                        result = method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                    if (result instanceof Statement statement) {
+                        int seconds = remainingSeconds();
+                        if (seconds > 0) {
+                            statement.setQueryTimeout(seconds);
+                        }
+                    }
+                    return result;
+                });
+    }
+}
@@ -0,0 +1,142 @@
+package com.lifemanager.life_manager.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 사용자별 마지막 쓰기 시각.
+// 쓴 뒤 lag-guard 동안은 그 사용자의 읽기 전용 트랜잭션도 primary 로 보내, replica 지연 때문에 방금 쓴 내용이 안 보이는 일을 막는다.
+// 인스턴스가 여럿이면 다음 읽기가 다른 인스턴스로 갈 수 있으므로, 쓰기 요청 응답에 표시(쿠키 + X-Last-Write 헤더,
+// 값은 "userId.쓴 시각(epoch ms)")를 실어 보내고 어느 인스턴스든 요청에 그 표시가 있으면 여기 기록한 것처럼 본다.
+// 지금 사용자는 UserContext 에서 본다 (없으면 replica)
+@Component
+public class ReplicaLagGuard {
+
+    public static final String MARKER_COOKIE = "lm-last-write";
+    public static final String MARKER_HEADER = "X-Last-Write";
+
+    private final long windowMillis;
+    private final int maxUsers;
+    private final boolean shareMarker;
+    private final Map<Long, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReplicaLagGuard(@Value("${app.datasource.replica.lag-guard:PT5S}") Duration window,
+                           @Value("${app.datasource.replica.lag-guard-max-users:100000}") int maxUsers,
+                           @Value("${app.datasource.replica.enabled:false}") boolean shareMarker) {
+        this.windowMillis = window.toMillis();
+        this.maxUsers = maxUsers;
+        this.shareMarker = shareMarker;
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에 기록한다 (롤백된 쓰기는 기록하지 않음)
+    public void recordWrite(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            mark(userId, System.currentTimeMillis());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                mark(userId, System.currentTimeMillis());
+            }
+        });
+    }
+
+    public boolean readsFromPrimary(Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        Long writtenAt = lastWrites.get(userId);
+        return writtenAt != null && System.currentTimeMillis() - writtenAt < windowMillis;
+    }
+
+    // 요청 시작 때 (UserContextFilter).
+    // 요청에 실려 온 표시를 기록하고, 쓰기 메서드 요청이면 응답 본문을 쓰기 전에 새 표시를 붙인다.
+    // 커밋은 요청이 끝나기 전에 일어나므로 표시 시각이 실제 커밋보다 조금 이르다 - lag-guard 는 요청 시간까지 넉넉히 잡는다
+    public void exchangeMarker(Long userId, HttpServletRequest request, HttpServletResponse response) {
+        if (!shareMarker) {
+            return;
+        }
+        Long writtenAt = parseMarker(userId, request.getHeader(MARKER_HEADER));
+        if (writtenAt == null && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (MARKER_COOKIE.equals(cookie.getName())) {
+                    writtenAt = parseMarker(userId, cookie.getValue());
+                }
+            }
+        }
+        long now = System.currentTimeMillis();
+        if (writtenAt != null && now - writtenAt < windowMillis) {
+            // 미래 시각은 지금으로 본다 (표시로 창을 늘릴 수 없게)
+            mark(userId, Math.min(writtenAt, now));
+        }
+
+        if (isWrite(request.getMethod())) {
+            writeMarker(userId, now, response);
+        }
+    }
+
+    // X-User-Id 없이 사용자를 쓰는 요청 (가입, OAuth 가입/로그인) - 응답 때는 사용자를 알게 되므로
+    // 이 인스턴스가 방금 기록한 쓰기가 있으면 그 표시를 싣는다. 가입 직후 다른 인스턴스의 첫 조회도 primary 로 간다
+    public void sendMarker(Long userId, HttpServletResponse response) {
+        if (!shareMarker || userId == null) {
+            return;
+        }
+        Long writtenAt = lastWrites.get(userId);
+        if (writtenAt != null && System.currentTimeMillis() - writtenAt < windowMillis) {
+            writeMarker(userId, writtenAt, response);
+        }
+    }
+
+    private void writeMarker(Long userId, long writtenAt, HttpServletResponse response) {
+        String marker = userId + "." + writtenAt;
+        response.setHeader(MARKER_HEADER, marker);
+        response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(MARKER_COOKIE, marker)
+                .path("/")
+                .httpOnly(true)
+                .sameSite("Lax")
+                .maxAge(Duration.ofMillis(windowMillis).plusSeconds(1).toSeconds())
+                .build()
+                .toString());
+    }
+
+    private static Long parseMarker(Long userId, String marker) {
+        if (marker == null) {
+            return null;
+        }
+        int dot = marker.indexOf('.');
+        if (dot < 0 || !marker.substring(0, dot).equals(String.valueOf(userId))) {
+            return null;
+        }
+        try {
+            return Long.parseLong(marker.substring(dot + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean isWrite(String method) {
+        return !HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)
+                && !HttpMethod.OPTIONS.matches(method);
+    }
+
+    private void mark(Long userId, long writtenAt) {
+        lastWrites.merge(userId, writtenAt, Math::max);
+        if (lastWrites.size() > maxUsers) {
+            // 창이 지난 기록은 의미가 없으므로 그것만 버린다
+            long now = System.currentTimeMillis();
+            lastWrites.values().removeIf(at -> now - at >= windowMillis);
+        }
+    }
+}
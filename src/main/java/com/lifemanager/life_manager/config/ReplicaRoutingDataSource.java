@@ -0,0 +1,24 @@
+package com.lifemanager.life_manager.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+// 읽기 전용 트랜잭션이 쓰는 커넥션.
+// analytics 표시가 있으면 analytics 풀, lag-guard 안의 사용자는 OLTP(primary), 나머지는 replica 로 보낸다
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagGuard lagGuard;
+
+    public ReplicaRoutingDataSource(ReplicaLagGuard lagGuard) {
+        this.lagGuard = lagGuard;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (PoolRoutingDataSource.current() == PoolRoutingDataSource.Pool.ANALYTICS) {
+            return PoolRoutingDataSource.Pool.ANALYTICS;
+        }
+        return lagGuard.readsFromPrimary(UserContext.currentUser())
+                ? PoolRoutingDataSource.Pool.OLTP
+                : PoolRoutingDataSource.Pool.REPLICA;
+    }
+}
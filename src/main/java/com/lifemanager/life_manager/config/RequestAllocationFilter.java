@@ -0,0 +1,61 @@
+package com.lifemanager.life_manager.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+// 요청 하나가 요청 스레드에서 할당한 힙 바이트 (http.server.requests.allocated).
+// 비동기로 넘긴 작업(SSE 전달, 대시보드 병렬 조회)의 할당은 포함되지 않는다
+@Component
+public class RequestAllocationFilter extends OncePerRequestFilter {
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    public RequestAllocationFilter(MeterRegistry meterRegistry,
+                                   @Value("${metrics.request-allocation.enabled:true}") boolean enabled) {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        this.threads = bean instanceof com.sun.management.ThreadMXBean sun && sun.isThreadAllocatedMemorySupported()
+                ? sun
+                : null;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled && threads != null;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long before = threads.getCurrentThreadAllocatedBytes();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("http.server.requests.allocated")
+                    .baseUnit("bytes")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry)
+                    .record(allocated);
+        }
+    }
+}
@@ -47,6 +47,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/health").permitAll()
+                        .requestMatchers("/api/calendar/feed/**").permitAll()
                         .requestMatchers("/login/oauth2/**", "/oauth2/**", "/oauth2.0/**").permitAll()
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,37 @@
+package com.lifemanager.life_manager.config;
+
+import java.util.function.Supplier;
+
+// 지금 스레드가 누구의 데이터를 다루는지 (요청이면 UserContextFilter 가 X-User-Id 로 묶는다).
+// 커넥션을 잡을 때 샤드와 replica lag-guard 가 이 값을 본다
+public final class UserContext {
+
+    private static final ThreadLocal<Long> CURRENT_USER = new ThreadLocal<>();
+
+    private UserContext() {
+    }
+
+    public static Long currentUser() {
+        return CURRENT_USER.get();
+    }
+
+    // 다른 스레드로 넘긴 작업이나 요청 밖의 작업에서 사용자를 묶는다
+    public static <T> T callAs(Long userId, Supplier<T> action) {
+        Long previous = CURRENT_USER.get();
+        bind(userId);
+        try {
+            return action.get();
+        } finally {
+            bind(previous);
+        }
+    }
+
+    // 요청 필터, 샤드 aspect 처럼 앞뒤로 직접 묶고 풀 때 (풀 때는 null)
+    public static void bind(Long userId) {
+        if (userId == null) {
+            CURRENT_USER.remove();
+        } else {
+            CURRENT_USER.set(userId);
+        }
+    }
+}
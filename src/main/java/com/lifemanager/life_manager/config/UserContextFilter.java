@@ -0,0 +1,47 @@
+package com.lifemanager.life_manager.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// 요청 동안 X-User-Id 사용자를 스레드에 묶어 샤드 / replica 라우팅이 볼 수 있게 한다.
+// 헤더 검증은 CurrentUserIdArgumentResolver 가 하므로 여기서는 읽을 수 없는 값이면 그냥 넘어간다.
+// replica 를 쓰면 인스턴스 사이에 최근 쓰기 표시도 여기서 주고받는다
+@Component
+@RequiredArgsConstructor
+public class UserContextFilter extends OncePerRequestFilter {
+
+    private final ReplicaLagGuard replicaLagGuard;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader("X-User-Id") == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Long userId;
+        try {
+            userId = Long.parseLong(request.getHeader("X-User-Id"));
+        } catch (NumberFormatException e) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        UserContext.bind(userId);
+        try {
+            replicaLagGuard.exchangeMarker(userId, request, response);
+            filterChain.doFilter(request, response);
+        } finally {
+            UserContext.bind(null);
+        }
+    }
+}
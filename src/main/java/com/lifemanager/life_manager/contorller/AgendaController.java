@@ -0,0 +1,36 @@
+package com.lifemanager.life_manager.contorller;
+
+import com.lifemanager.life_manager.config.CurrentUserId;
+import com.lifemanager.life_manager.dto.agenda.AgendaPage;
+import com.lifemanager.life_manager.service.AgendaService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/agenda")
+@RequiredArgsConstructor
+public class AgendaController {
+
+    private final AgendaService agendaService;
+
+    // 일정 + 거래 타임라인 (시간순, 커서 페이지네이션)
+    @GetMapping
+    public ResponseEntity<AgendaPage> getAgenda(
+            @CurrentUserId Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        if (size < 1 || size > 200) {
+            throw new IllegalArgumentException("size 는 1 ~ 200 사이여야 합니다");
+        }
+        return ResponseEntity.ok(agendaService.getAgenda(userId, start, end, cursor, size));
+    }
+}
@@ -1,9 +1,11 @@
 package com.lifemanager.life_manager.contorller;
 
+import com.lifemanager.life_manager.config.ReplicaLagGuard;
 import com.lifemanager.life_manager.dto.auth.AuthResponse;
 import com.lifemanager.life_manager.dto.auth.LoginRequest;
 import com.lifemanager.life_manager.dto.auth.SignupRequest;
 import com.lifemanager.life_manager.service.AuthService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -18,16 +20,23 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthService authService;
+    private final ReplicaLagGuard replicaLagGuard;
 
+    // 가입 응답에 최근 쓰기 표시를 실어 첫 조회가 다른 인스턴스의 replica 로 가지 않게 한다
     @PostMapping("/signup")
-    public ResponseEntity<AuthResponse> signup(@Valid @RequestBody SignupRequest request) {
+    public ResponseEntity<AuthResponse> signup(@Valid @RequestBody SignupRequest request,
+                                               HttpServletResponse servletResponse) {
         AuthResponse response = authService.signup(request);
+        replicaLagGuard.sendMarker(response.getUserId(), servletResponse);
         return ResponseEntity.ok(response);
     }
 
+    // 가입 직후 로그인이면 가입한 인스턴스의 표시를 다시 싣는다
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request,
+                                              HttpServletResponse servletResponse) {
         AuthResponse response = authService.login(request);
+        replicaLagGuard.sendMarker(response.getUserId(), servletResponse);
         return ResponseEntity.ok(response);
     }
 }
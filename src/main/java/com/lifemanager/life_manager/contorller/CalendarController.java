@@ -0,0 +1,78 @@
+package com.lifemanager.life_manager.contorller;
+
+import com.lifemanager.life_manager.config.CurrentUserId;
+import com.lifemanager.life_manager.domain.User;
+import com.lifemanager.life_manager.dto.schedule.ScheduleImportResponse;
+import com.lifemanager.life_manager.service.ScheduleCalendarService;
+import com.lifemanager.life_manager.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/calendar")
+@RequiredArgsConstructor
+public class CalendarController {
+
+    private static final String CALENDAR_CONTENT_TYPE = "text/calendar;charset=UTF-8";
+
+    private final ScheduleCalendarService scheduleCalendarService;
+    private final UserService userService;
+
+    // 내 일정 .ics 내보내기
+    @GetMapping("/export")
+    public void exportCalendar(
+            @CurrentUserId Long userId,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(CALENDAR_CONTENT_TYPE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"life-manager.ics\"");
+        scheduleCalendarService.exportCalendar(userId, response.getWriter());
+    }
+
+    // .ics 가져오기 (text/calendar 본문을 스트리밍으로 읽음)
+    @PostMapping(value = "/import", consumes = "text/calendar")
+    public ResponseEntity<ScheduleImportResponse> importCalendar(
+            @CurrentUserId Long userId,
+            HttpServletRequest request) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            int imported = scheduleCalendarService.importCalendar(userId, reader);
+            return ResponseEntity.ok(new ScheduleImportResponse(imported));
+        }
+    }
+
+    // 구독 피드 토큰 발급
+    @PostMapping("/feed-token")
+    public ResponseEntity<Map<String, String>> issueFeedToken(@CurrentUserId Long userId) {
+        String token = userService.issueCalendarFeedToken(userId);
+        return ResponseEntity.ok(Map.of("feedPath", "/api/calendar/feed/" + token + ".ics"));
+    }
+
+    // 캘린더 앱 구독 피드 - 변경이 없으면 304
+    @GetMapping("/feed/{token}.ics")
+    public void getFeed(
+            @PathVariable String token,
+            WebRequest webRequest,
+            HttpServletResponse response) throws IOException {
+        User user = userService.findByCalendarFeedToken(token);
+        String etag = scheduleCalendarService.getCalendarETag(user.getId());
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        if (webRequest.checkNotModified(etag)) {
+            return;
+        }
+
+        response.setContentType(CALENDAR_CONTENT_TYPE);
+        scheduleCalendarService.exportCalendar(user.getId(), response.getWriter());
+    }
+}
@@ -0,0 +1,24 @@
+package com.lifemanager.life_manager.contorller;
+
+import com.lifemanager.life_manager.config.CurrentUserId;
+import com.lifemanager.life_manager.dto.dashboard.DashboardResponse;
+import com.lifemanager.life_manager.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    // 홈 화면 데이터 (프로필, 이번 달 요약, 오늘/다음 일정, 최근 거래)
+    @GetMapping
+    public ResponseEntity<DashboardResponse> getDashboard(@CurrentUserId Long userId) {
+        return ResponseEntity.ok(dashboardService.getDashboard(userId));
+    }
+}
@@ -0,0 +1,24 @@
+package com.lifemanager.life_manager.contorller;
+
+import com.lifemanager.life_manager.config.CurrentUserId;
+import com.lifemanager.life_manager.reminder.ReminderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/reminders")
+@RequiredArgsConstructor
+public class ReminderController {
+
+    private final ReminderService reminderService;
+
+    // 일정 알림 구독 (Server-Sent Events)
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamReminders(@CurrentUserId Long userId) {
+        return reminderService.subscribe(userId);
+    }
+}
@@ -1,9 +1,14 @@
 package com.lifemanager.life_manager.contorller;
 
+import com.lifemanager.life_manager.cache.VersionETags;
 import com.lifemanager.life_manager.config.CurrentUserId;
-import com.lifemanager.life_manager.domain.Schedule;
+import com.lifemanager.life_manager.dto.common.BulkOperationResponse;
+import com.lifemanager.life_manager.dto.schedule.ScheduleAnalyticsResponse;
+import com.lifemanager.life_manager.dto.schedule.ScheduleListItem;
 import com.lifemanager.life_manager.dto.schedule.ScheduleRequest;
 import com.lifemanager.life_manager.dto.schedule.ScheduleResponse;
+import com.lifemanager.life_manager.dto.schedule.ScheduleShiftRequest;
+import com.lifemanager.life_manager.service.IdempotencyService;
 import com.lifemanager.life_manager.service.ScheduleService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -12,11 +17,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 @RestController
@@ -25,36 +33,46 @@ import java.util.logging.Logger;
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
+    private final VersionETags versionETags;
+    private final IdempotencyService idempotencyService;
 
     // 일정 생성
     @PostMapping
     public ResponseEntity<ScheduleResponse> createSchedule(
             @CurrentUserId Long userId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody ScheduleRequest request) {
         Logger logger = Logger.getLogger("[jiwon]");
-        ScheduleResponse response = scheduleService.createSchedule(userId, request);
+        ScheduleResponse response = idempotencyService.execute(userId, idempotencyKey, "POST /api/schedules", request,
+                ScheduleResponse.class, () -> scheduleService.createSchedule(userId, request));
         return ResponseEntity.ok(response);
     }
 
     // 사용자의 모든 일정 조회
     @GetMapping
-    public ResponseEntity<Page<ScheduleResponse>> getAllSchedules(
+    public ResponseEntity<Page<ScheduleListItem>> getAllSchedules(
             @CurrentUserId Long userId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "startDatetime") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDirection
+            @RequestParam(defaultValue = "desc") String sortDirection,
+            WebRequest webRequest
     ) {
+        String eTag = versionETags.forUser(userId, webRequest);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         Sort.Direction direction = sortDirection.equalsIgnoreCase("asc")
                 ? Sort.Direction.ASC
                 : Sort.Direction.DESC;
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        Page<Schedule> schedules = scheduleService.getAllSchedules(userId, pageable);
-        Page<ScheduleResponse> response = schedules.map(ScheduleResponse::from);
+        Page<ScheduleListItem> response = scheduleService.getScheduleList(userId, pageable);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(VersionETags.REVALIDATE)
+                .varyBy(VersionETags.VARY).body(response);
     }
 
     // 기간별 일정 조회
@@ -62,9 +80,96 @@ public class ScheduleController {
     public ResponseEntity<List<ScheduleResponse>> getSchedulesByRange(
             @CurrentUserId Long userId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)LocalDateTime start,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)LocalDateTime end) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)LocalDateTime end,
+            WebRequest webRequest) {
+        String eTag = versionETags.forUser(userId, webRequest);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         List<ScheduleResponse> schedules = scheduleService.getSchedulesByDateRange(userId, start, end);
-        return ResponseEntity.ok(schedules);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(VersionETags.REVALIDATE)
+                .varyBy(VersionETags.VARY).body(schedules);
+    }
+
+    // 전체 일정 조회 - 요청한 필드만 (?fields=id,title,startDatetime)
+    @GetMapping(params = "fields")
+    public ResponseEntity<Page<Map<String, Object>>> getAllSchedulesFields(
+            @CurrentUserId Long userId,
+            @RequestParam String fields,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "startDatetime") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDirection,
+            WebRequest webRequest
+    ) {
+        String eTag = versionETags.forUser(userId, webRequest);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("asc")
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+
+        Page<Map<String, Object>> response = scheduleService.getScheduleList(userId, fields, pageable);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(VersionETags.REVALIDATE)
+                .varyBy(VersionETags.VARY).body(response);
+    }
+
+    // 기간별 일정 조회 - 요청한 필드만
+    @GetMapping(value = "/range", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getSchedulesByRangeFields(
+            @CurrentUserId Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam String fields,
+            WebRequest webRequest) {
+        String eTag = versionETags.forUser(userId, webRequest);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        List<Map<String, Object>> schedules = scheduleService.getSchedulesByDateRange(userId, start, end, fields);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(VersionETags.REVALIDATE)
+                .varyBy(VersionETags.VARY).body(schedules);
+    }
+
+    // 일정 상세 (설명 포함)
+    @GetMapping("/{scheduleId}")
+    public ResponseEntity<ScheduleResponse> getSchedule(
+            @PathVariable Long scheduleId,
+            @CurrentUserId Long userId) {
+        ScheduleResponse response = scheduleService.getSchedule(scheduleId, userId);
+        return ResponseEntity.ok().eTag(VersionETags.forRow(response.getChangeVersion())).body(response);
+    }
+
+    // 기간별 카테고리/색상 시간 배분 통계
+    @GetMapping("/analytics")
+    public ResponseEntity<ScheduleAnalyticsResponse> getTimeAllocation(
+            @CurrentUserId Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+        return ResponseEntity.ok(scheduleService.getTimeAllocation(userId, start, end));
+    }
+
+    // 지금 진행 중인 일정
+    @GetMapping("/now")
+    public ResponseEntity<List<ScheduleResponse>> getCurrentSchedules(@CurrentUserId Long userId) {
+        return ResponseEntity.ok(scheduleService.getCurrentSchedules(userId, LocalDateTime.now()));
+    }
+
+    // 다음 일정 N개
+    @GetMapping("/next")
+    public ResponseEntity<List<ScheduleResponse>> getNextSchedules(
+            @CurrentUserId Long userId,
+            @RequestParam(defaultValue = "5") int count) {
+        if (count < 1 || count > 100) {
+            throw new IllegalArgumentException("count 는 1 ~ 100 사이여야 합니다");
+        }
+        return ResponseEntity.ok(scheduleService.getNextSchedules(userId, LocalDateTime.now(), count));
     }
 
     // 일정 수정
@@ -72,9 +177,11 @@ public class ScheduleController {
     public ResponseEntity<ScheduleResponse> updateSchedule(
             @PathVariable Long scheduleId,
             @CurrentUserId Long userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ScheduleRequest request) {
-        ScheduleResponse response = scheduleService.updateSchedule(scheduleId, userId, request);
-        return ResponseEntity.ok(response);
+        ScheduleResponse response = scheduleService.updateSchedule(
+                scheduleId, userId, request, VersionETags.expectedRowVersion(ifMatch));
+        return ResponseEntity.ok().eTag(VersionETags.forRow(response.getChangeVersion())).body(response);
     }
 
     // 일정 삭제
@@ -85,4 +192,24 @@ public class ScheduleController {
         scheduleService.deleteSchedule(scheduleId, userId);
         return ResponseEntity.noContent().build();
     }
+
+    // 범위 내 일정 일괄 이동
+    @PostMapping("/bulk/shift")
+    public ResponseEntity<BulkOperationResponse> shiftSchedules(
+            @CurrentUserId Long userId,
+            @Valid @RequestBody ScheduleShiftRequest request) {
+        int affected = scheduleService.shiftSchedules(
+                userId, request.getStart(), request.getEnd(), request.getShiftMinutes());
+        return ResponseEntity.ok(new BulkOperationResponse(affected));
+    }
+
+    // 범위 내 일정 일괄 삭제
+    @DeleteMapping("/bulk")
+    public ResponseEntity<BulkOperationResponse> deleteSchedulesInRange(
+            @CurrentUserId Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+        int affected = scheduleService.deleteSchedulesInRange(userId, start, end);
+        return ResponseEntity.ok(new BulkOperationResponse(affected));
+    }
 }
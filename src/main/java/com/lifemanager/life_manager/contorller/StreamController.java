@@ -0,0 +1,24 @@
+package com.lifemanager.life_manager.contorller;
+
+import com.lifemanager.life_manager.config.CurrentUserId;
+import com.lifemanager.life_manager.stream.ChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/stream")
+@RequiredArgsConstructor
+public class StreamController {
+
+    private final ChangeFeedService changeFeedService;
+
+    // 일정/거래 변경 피드 구독 (Server-Sent Events)
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@CurrentUserId Long userId) {
+        return changeFeedService.subscribe(userId);
+    }
+}
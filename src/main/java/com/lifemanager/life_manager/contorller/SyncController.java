@@ -0,0 +1,31 @@
+package com.lifemanager.life_manager.contorller;
+
+import com.lifemanager.life_manager.config.CurrentUserId;
+import com.lifemanager.life_manager.dto.sync.SyncResponse;
+import com.lifemanager.life_manager.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    // since 버전 이후의 변경분 (처음이면 since=0)
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(
+            @CurrentUserId Long userId,
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "500") int limit) {
+        if (limit < 1 || limit > 1000) {
+            throw new IllegalArgumentException("limit 은 1 ~ 1000 사이여야 합니다");
+        }
+        return ResponseEntity.ok(syncService.getChanges(userId, since, limit));
+    }
+}
@@ -1,10 +1,15 @@
 package com.lifemanager.life_manager.contorller;
 
+import com.lifemanager.life_manager.cache.VersionETags;
 import com.lifemanager.life_manager.config.CurrentUserId;
-import com.lifemanager.life_manager.domain.Transaction;
+import com.lifemanager.life_manager.dto.common.BulkOperationResponse;
+import com.lifemanager.life_manager.dto.transaction.TransactionListItem;
+import com.lifemanager.life_manager.dto.transaction.TransactionRecategorizeRequest;
 import com.lifemanager.life_manager.dto.transaction.TransactionRequest;
 import com.lifemanager.life_manager.dto.transaction.TransactionResponse;
 import com.lifemanager.life_manager.dto.transaction.TransactionSummary;
+import com.lifemanager.life_manager.service.IdempotencyService;
+import com.lifemanager.life_manager.service.TransactionPeriodLock;
 import com.lifemanager.life_manager.service.TransactionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -13,12 +18,17 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/transactions")
@@ -26,27 +36,38 @@ import java.util.List;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final VersionETags versionETags;
+    private final TransactionPeriodLock periodLock;
+    private final IdempotencyService idempotencyService;
 
     // 수입/지출 생성
     @PostMapping
     public ResponseEntity<TransactionResponse> createTransaction(
             @CurrentUserId Long userId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody TransactionRequest request) {
-        TransactionResponse response = transactionService.createTransaction(userId, request);
+        TransactionResponse response = idempotencyService.execute(userId, idempotencyKey, "POST /api/transactions", request,
+                TransactionResponse.class, () -> transactionService.createTransaction(userId, request));
         return ResponseEntity.ok(response);
     }
 
     // 기간별 거래 내역 조회
     @GetMapping
-    public ResponseEntity<Page<TransactionResponse>> getTransactionsByDateRange(
+    public ResponseEntity<Page<TransactionListItem>> getTransactionsByDateRange(
             @CurrentUserId Long userId,
             @RequestParam String startDate,
             @RequestParam String endDate,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "transactionDate") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDirection
+            @RequestParam(defaultValue = "desc") String sortDirection,
+            WebRequest webRequest
     ) {
+        String eTag = versionETags.forUser(userId, webRequest);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         LocalDate start = LocalDate.parse(startDate);
         LocalDate end = LocalDate.parse(endDate);
 
@@ -56,12 +77,47 @@ public class TransactionController {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        Page<Transaction> transactions = transactionService.getTransactionsByDateRange(
+        Page<TransactionListItem> response = transactionService.getTransactionList(
                 userId, start, end, pageable
         );
-        Page<TransactionResponse> response = transactions.map(TransactionResponse::from);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(VersionETags.REVALIDATE)
+                .varyBy(VersionETags.VARY).body(response);
+    }
+
+    // 기간별 거래 내역 조회 - 요청한 필드만 (?fields=amount,category)
+    @GetMapping(params = "fields")
+    public ResponseEntity<Page<Map<String, Object>>> getTransactionsByDateRangeFields(
+            @CurrentUserId Long userId,
+            @RequestParam String startDate,
+            @RequestParam String endDate,
+            @RequestParam String fields,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "transactionDate") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDirection,
+            WebRequest webRequest
+    ) {
+        String eTag = versionETags.forUser(userId, webRequest);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        LocalDate start = LocalDate.parse(startDate);
+        LocalDate end = LocalDate.parse(endDate);
+
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("asc")
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+
+        Page<Map<String, Object>> response = transactionService.getTransactionList(
+                userId, start, end, fields, pageable
+        );
+
+        return ResponseEntity.ok().eTag(eTag).cacheControl(VersionETags.REVALIDATE)
+                .varyBy(VersionETags.VARY).body(response);
     }
 
     // 기간별 요약 정리
@@ -69,9 +125,32 @@ public class TransactionController {
     public ResponseEntity<TransactionSummary> getSummary(
             @CurrentUserId Long userId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            WebRequest webRequest) {
+        // 마감된 기간의 요약은 더 바뀌지 않으니 버전과 상관없이 기간별로 오래 캐시한다 (사용자는 X-User-Id 로 나뉜다)
+        boolean closed = periodLock.isClosed(endDate);
+        String eTag = closed
+                ? "\"closed-" + userId + "-" + startDate + "-" + endDate + VersionETags.variant(webRequest) + "\""
+                : versionETags.forUser(userId, webRequest);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         TransactionSummary summary = transactionService.getSummary(userId, startDate, endDate);
-        return ResponseEntity.ok(summary);
+        CacheControl cacheControl = closed
+                ? CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable()
+                : VersionETags.REVALIDATE;
+        return ResponseEntity.ok().eTag(eTag).cacheControl(cacheControl)
+                .varyBy(VersionETags.VARY).body(summary);
+    }
+
+    // 거래 상세 (설명 포함)
+    @GetMapping("/{transactionId}")
+    public ResponseEntity<TransactionResponse> getTransaction(
+            @PathVariable Long transactionId,
+            @CurrentUserId Long userId) {
+        TransactionResponse response = transactionService.getTransaction(transactionId, userId);
+        return ResponseEntity.ok().eTag(VersionETags.forRow(response.getChangeVersion())).body(response);
     }
 
     // 거래 수정
@@ -79,9 +158,11 @@ public class TransactionController {
     public ResponseEntity<TransactionResponse> updateTransaction(
             @PathVariable Long transactionId,
             @CurrentUserId Long userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TransactionRequest request) {
-        TransactionResponse response = transactionService.updateTransaction(transactionId, userId, request);
-        return ResponseEntity.ok(response);
+        TransactionResponse response = transactionService.updateTransaction(
+                transactionId, userId, request, VersionETags.expectedRowVersion(ifMatch));
+        return ResponseEntity.ok().eTag(VersionETags.forRow(response.getChangeVersion())).body(response);
     }
 
     // 거래 삭제
@@ -92,4 +173,23 @@ public class TransactionController {
         transactionService.deleteTransaction(transactionId, userId);
         return ResponseEntity.noContent().build();
     }
+
+    // 조건에 맞는 거래 카테고리 일괄 변경
+    @PostMapping("/bulk/recategorize")
+    public ResponseEntity<BulkOperationResponse> recategorizeTransactions(
+            @CurrentUserId Long userId,
+            @Valid @RequestBody TransactionRecategorizeRequest request) {
+        int affected = transactionService.recategorizeTransactions(userId, request);
+        return ResponseEntity.ok(new BulkOperationResponse(affected));
+    }
+
+    // 기간 내 거래 일괄 삭제
+    @DeleteMapping("/bulk")
+    public ResponseEntity<BulkOperationResponse> deleteTransactionsInRange(
+            @CurrentUserId Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        int affected = transactionService.deleteTransactionsInRange(userId, startDate, endDate);
+        return ResponseEntity.ok(new BulkOperationResponse(affected));
+    }
 }
@@ -42,4 +42,11 @@ public class UserController {
         userService.changePassword(userId, request);
         return ResponseEntity.ok("비밀번호가 변경되었습니다");
     }
+
+    // 회원 탈퇴
+    @DeleteMapping("/me")
+    public ResponseEntity<Void> deleteUser(@CurrentUserId Long userId) {
+        userService.deleteUser(userId);
+        return ResponseEntity.noContent().build();
+    }
 }
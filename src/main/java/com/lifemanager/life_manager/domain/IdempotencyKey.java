@@ -0,0 +1,43 @@
+package com.lifemanager.life_manager.domain;
+
+import com.lifemanager.life_manager.shard.ShardId;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 생성 요청의 Idempotency-Key 와 그때 돌려준 응답(JSON).
+// 만료(expires_at)가 지나면 주기적으로 지우므로 users 외래키 없이 id 만 둔다
+@Entity
+@Table(name = "idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_user_key", columnNames = {"user_id", "idempotency_key"}),
+        indexes = @Index(name = "idx_idempotency_expires", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyKey {
+
+    @Id
+    @ShardId
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 64)
+    private String idempotencyKey;
+
+    // 요청 본문 + 엔드포인트의 SHA-256 (Base64) - 같은 키로 다른 요청이 오면 거절
+    @Column(name = "request_hash", nullable = false, length = 44)
+    private String requestHash;
+
+    @Column(name = "response_body", nullable = false, columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -1,12 +1,26 @@
 package com.lifemanager.life_manager.domain;
 
+import com.lifemanager.life_manager.shard.ShardId;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "schedules")
+@Table(name = "schedules", indexes = {
+        @Index(name = "idx_schedules_user_start", columnList = "user_id, start_datetime"),
+        @Index(name = "idx_schedules_reminder_at", columnList = "reminder_at"),
+        @Index(name = "idx_schedules_user_version", columnList = "user_id, change_version"),
+        @Index(name = "idx_schedules_deleted_updated", columnList = "deleted, updated_at")
+})
+@SQLDelete(sql = "UPDATE schedules SET deleted = true, change_version = " +
+        "(SELECT v.current_version FROM user_change_versions v WHERE v.user_id = schedules.user_id) WHERE id = ?")
+@SQLRestriction("deleted = false")
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,7 +29,7 @@ import java.time.LocalDateTime;
 public class Schedule extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ShardId
     private Long id;
 
     @Column(nullable = false)
@@ -24,7 +38,7 @@ public class Schedule extends BaseEntity {
     @Column(columnDefinition = "TEXT")
     private String description;
 
-    @Column(nullable = false)
+    @Column(name = "start_datetime", nullable = false)
     private LocalDateTime startDatetime;
 
     @Column(nullable = false)
@@ -40,6 +54,21 @@ public class Schedule extends BaseEntity {
     @Column(length = 20)
     private String color; // 캘린더 색상 구분용
 
+    private Integer reminderMinutes; // 시작 몇 분 전에 알릴지 (null 이면 알림 없음)
+
+    @Column(name = "reminder_at")
+    private LocalDateTime reminderAt; // startDatetime - reminderMinutes
+
+    // 동기화용 - 사용자 변경 버전 (일정/거래를 쓸 때마다 증가한 값)
+    @Column(name = "change_version", nullable = false)
+    @ColumnDefault("0")
+    private long changeVersion;
+
+    // 삭제 표시 (동기화 클라이언트에 삭제를 전달하기 위한 툼스톤)
+    @Column(nullable = false)
+    @ColumnDefault("false")
+    private boolean deleted;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
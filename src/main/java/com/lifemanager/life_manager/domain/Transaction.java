@@ -1,13 +1,26 @@
 package com.lifemanager.life_manager.domain;
 
+import com.lifemanager.life_manager.shard.ShardId;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_user_date", columnList = "user_id, transaction_date"),
+        @Index(name = "idx_transactions_user_version", columnList = "user_id, change_version"),
+        @Index(name = "idx_transactions_deleted_updated", columnList = "deleted, updated_at")
+})
+@SQLDelete(sql = "UPDATE transactions SET deleted = true, change_version = " +
+        "(SELECT v.current_version FROM user_change_versions v WHERE v.user_id = transactions.user_id) WHERE id = ?")
+@SQLRestriction("deleted = false")
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,7 +29,7 @@ import java.time.LocalDate;
 public class Transaction extends BaseEntity{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ShardId
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -32,9 +45,19 @@ public class Transaction extends BaseEntity{
     @Column(columnDefinition = "TEXT")
     private String description;
 
-    @Column(nullable = false)
+    @Column(name = "transaction_date", nullable = false)
     private LocalDate transactionDate;
 
+    // 동기화용 - 사용자 변경 버전 (일정/거래를 쓸 때마다 증가한 값)
+    @Column(name = "change_version", nullable = false)
+    @ColumnDefault("0")
+    private long changeVersion;
+
+    // 삭제 표시 (동기화 클라이언트에 삭제를 전달하기 위한 툼스톤)
+    @Column(nullable = false)
+    @ColumnDefault("false")
+    private boolean deleted;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
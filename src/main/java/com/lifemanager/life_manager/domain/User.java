@@ -1,23 +1,36 @@
 package com.lifemanager.life_manager.domain;
 
+import com.lifemanager.life_manager.shard.ShardId;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name = "users")
+@DynamicUpdate
+// 거의 안 바뀌는 행이라 2차 캐시에 둔다 (id 조회, 이메일 -> id 조회). 쓰기는 엔티티로만 하므로 Hibernate 가 캐시를 맞춘다
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users-by-email")
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class User extends BaseEntity {
+public class User extends BaseEntity implements Persistable<Long> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ShardId
     private Long id;
 
+    @NaturalId
     @Column(unique = true, nullable = false)
-    private String email;
+    private String email; // OAuth 사용자는 "provider_이메일"
 
     private String password; // OAuth 사용자는 null
 
@@ -33,4 +46,12 @@ public class User extends BaseEntity {
     @Column(length = 255)
     private String providerId; // OAuth 제공자의 사용자 ID
 
+    @Column(unique = true, length = 64)
+    private String calendarFeedToken; // 캘린더 구독 피드 URL 용 토큰
+
+    // 샤딩 가입처럼 id 를 먼저 정해도 save 가 merge(SELECT 후 INSERT)가 아니라 persist 하도록, 저장 전인지는 생성 시각으로 본다
+    @Override
+    public boolean isNew() {
+        return getCreatedAt() == null;
+    }
 }
@@ -0,0 +1,32 @@
+package com.lifemanager.life_manager.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+// 사용자별 변경 버전 카운터. 일정/거래를 쓸 때마다 1씩 올리고 그 값을 행의 change_version 에 남긴다.
+// users 테이블과 분리해 두어 쓰기마다 사용자 행이 바뀌지 않게 한다
+@Entity
+@Table(name = "user_change_versions")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangeVersion {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "current_version", nullable = false)
+    private long currentVersion;
+
+    // 이 버전 이하의 툼스톤은 지워졌다 - 이보다 오래된 since 로는 삭제를 놓치므로 전체 재동기화가 필요하다
+    @ColumnDefault("0")
+    @Column(name = "purged_version", nullable = false)
+    private long purgedVersion;
+}
@@ -0,0 +1,29 @@
+package com.lifemanager.life_manager.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 이메일/캘린더 피드 토큰 -> 사용자 (home DB 에서만 쓴다).
+// users 의 unique 제약은 샤드 안에서만 걸리므로 샤드 전체의 중복은 여기서 막고, 사용자를 모르는 조회도 여기서 한 번에 찾는다.
+// ShardDirectory 가 JDBC 로 다루고, 엔티티는 테이블 생성용이다
+@Entity
+@Table(name = "user_emails")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserEmail {
+
+    @Id
+    private String email;
+
+    @Column(name = "user_id", nullable = false, unique = true)
+    private Long userId;
+
+    @Column(name = "calendar_feed_token", unique = true, length = 64)
+    private String calendarFeedToken;
+}
@@ -0,0 +1,30 @@
+package com.lifemanager.life_manager.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 사용자가 지금 있는 샤드 (home DB 에서만 쓴다).
+// 라우팅 도중에 읽어야 해서 ShardDirectory 가 JDBC 로 다루고, 엔티티는 테이블 생성용이다
+@Entity
+@Table(name = "user_shards")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserShard {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, length = 50)
+    private String shard;
+
+    // 다른 샤드로 옮기는 중 - 쓰기를 막는다
+    @Column(nullable = false)
+    private boolean moving;
+}
@@ -0,0 +1,55 @@
+package com.lifemanager.life_manager.dto.agenda;
+
+import com.lifemanager.life_manager.domain.Schedule;
+import com.lifemanager.life_manager.domain.Transaction;
+import com.lifemanager.life_manager.domain.TransactionType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class AgendaItem {
+
+    private AgendaItemType itemType;
+    private Long id;
+    private LocalDateTime time;          // 정렬 기준 시각 (거래는 거래일 00:00)
+    private String title;
+    private String category;
+
+    // 일정
+    private LocalDateTime endDatetime;
+    private Boolean isAllDay;
+    private String color;
+
+    // 거래
+    private TransactionType transactionType;
+    private BigDecimal amount;
+
+    public static AgendaItem from(Schedule schedule) {
+        return AgendaItem.builder()
+                .itemType(AgendaItemType.SCHEDULE)
+                .id(schedule.getId())
+                .time(schedule.getStartDatetime())
+                .title(schedule.getTitle())
+                .category(schedule.getCategory())
+                .endDatetime(schedule.getEndDatetime())
+                .isAllDay(schedule.getIsAllDay())
+                .color(schedule.getColor())
+                .build();
+    }
+
+    public static AgendaItem from(Transaction transaction) {
+        return AgendaItem.builder()
+                .itemType(AgendaItemType.TRANSACTION)
+                .id(transaction.getId())
+                .time(transaction.getTransactionDate().atStartOfDay())
+                .title(transaction.getDescription() != null ? transaction.getDescription() : transaction.getCategory())
+                .category(transaction.getCategory())
+                .transactionType(transaction.getType())
+                .amount(transaction.getAmount())
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.lifemanager.life_manager.dto.agenda;
+
+// 같은 시각이면 선언 순서대로 (일정 → 거래) 정렬된다
+public enum AgendaItemType {
+    SCHEDULE,
+    TRANSACTION
+}
@@ -0,0 +1,15 @@
+package com.lifemanager.life_manager.dto.agenda;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class AgendaPage {
+
+    private List<AgendaItem> items;
+    private String nextCursor; // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
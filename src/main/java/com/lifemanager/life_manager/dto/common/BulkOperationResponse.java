@@ -0,0 +1,11 @@
+package com.lifemanager.life_manager.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BulkOperationResponse {
+
+    private int affectedCount; // 변경/삭제된 행 수
+}
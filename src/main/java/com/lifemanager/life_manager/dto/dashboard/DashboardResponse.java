@@ -0,0 +1,23 @@
+package com.lifemanager.life_manager.dto.dashboard;
+
+import com.lifemanager.life_manager.dto.schedule.ScheduleResponse;
+import com.lifemanager.life_manager.dto.transaction.TransactionListItem;
+import com.lifemanager.life_manager.dto.transaction.TransactionSummary;
+import com.lifemanager.life_manager.dto.user.UserResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 홈 화면 한 번에 내려주기. 시간 안에 못 받은 항목은 null 이고 unavailable 에 이름이 들어간다
+@Getter
+@Builder
+public class DashboardResponse {
+
+    private UserResponse profile;
+    private TransactionSummary monthlySummary;
+    private List<ScheduleResponse> todaySchedules;
+    private List<ScheduleResponse> nextSchedules;
+    private List<TransactionListItem> recentTransactions;
+    private List<String> unavailable;
+}
@@ -0,0 +1,23 @@
+package com.lifemanager.life_manager.dto.reminder;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ReminderNotification {
+
+    private Long scheduleId;
+    private String title;
+    private LocalDateTime startDatetime;
+
+    public static ReminderNotification from(ReminderTarget target) {
+        return ReminderNotification.builder()
+                .scheduleId(target.getScheduleId())
+                .title(target.getTitle())
+                .startDatetime(target.getStartDatetime())
+                .build();
+    }
+}
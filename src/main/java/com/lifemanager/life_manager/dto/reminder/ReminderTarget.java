@@ -0,0 +1,18 @@
+package com.lifemanager.life_manager.dto.reminder;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 타이밍 휠에 올라가는 리마인더 한 건 (필요한 컬럼만 담는다)
+@Getter
+@AllArgsConstructor
+public class ReminderTarget {
+
+    private Long scheduleId;
+    private Long userId;
+    private String title;
+    private LocalDateTime startDatetime;
+    private LocalDateTime reminderAt;
+}
@@ -0,0 +1,17 @@
+package com.lifemanager.life_manager.dto.schedule;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class ScheduleAnalyticsResponse {
+
+    private LocalDateTime start;
+    private LocalDateTime end;
+    private List<ScheduleTimeAllocation> byCategory;
+    private List<ScheduleTimeAllocation> byColor;
+}
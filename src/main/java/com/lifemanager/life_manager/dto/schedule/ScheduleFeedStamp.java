@@ -0,0 +1,10 @@
+package com.lifemanager.life_manager.dto.schedule;
+
+import java.time.LocalDateTime;
+
+public interface ScheduleFeedStamp {
+
+    long getScheduleCount();
+
+    LocalDateTime getLastUpdatedAt();
+}
@@ -0,0 +1,11 @@
+package com.lifemanager.life_manager.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ScheduleImportResponse {
+
+    private int importedCount;
+}
@@ -0,0 +1,24 @@
+package com.lifemanager.life_manager.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 목록 화면용 일정 (JPQL 에서 바로 만든다. 설명은 상세 조회에서만 내려준다)
+@Getter
+@AllArgsConstructor
+public class ScheduleListItem {
+
+    private Long id;
+    private String title;
+    private LocalDateTime startDatetime;
+    private LocalDateTime endDatetime;
+    private Boolean isAllDay;
+    private String category;
+    private String color;
+    private Integer reminderMinutes;
+    private long changeVersion;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -1,5 +1,7 @@
 package com.lifemanager.life_manager.dto.schedule;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
@@ -28,4 +30,8 @@ public class ScheduleRequest {
 
     private String color;
 
+    @Min(value = 0, message = "알림 시간은 0분 이상이어야 합니다")
+    @Max(value = 10080, message = "알림 시간은 7일(10080분) 이내여야 합니다")
+    private Integer reminderMinutes;
+
 }
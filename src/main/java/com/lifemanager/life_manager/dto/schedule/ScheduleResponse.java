@@ -1,13 +1,18 @@
 package com.lifemanager.life_manager.dto.schedule;
 
 import com.lifemanager.life_manager.domain.Schedule;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE) // Idempotency-Key 재시도 시 저장된 JSON 에서 복원
 public class ScheduleResponse {
 
     private Long id;
@@ -18,6 +23,8 @@ public class ScheduleResponse {
     private Boolean isAllDay;
     private String category;
     private String color;
+    private Integer reminderMinutes;
+    private long changeVersion;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -32,6 +39,8 @@ public class ScheduleResponse {
                 .isAllDay(schedule.getIsAllDay())
                 .category(schedule.getCategory())
                 .color(schedule.getColor())
+                .reminderMinutes(schedule.getReminderMinutes())
+                .changeVersion(schedule.getChangeVersion())
                 .createdAt(schedule.getCreatedAt())
                 .updatedAt(schedule.getUpdatedAt())
                 .build();
@@ -0,0 +1,21 @@
+package com.lifemanager.life_manager.dto.schedule;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class ScheduleShiftRequest {
+
+    @NotNull(message = "시작 시간은 필수입니다")
+    private LocalDateTime start;
+
+    @NotNull(message = "종료 시간은 필수입니다")
+    private LocalDateTime end;
+
+    @NotNull(message = "이동할 시간(분)은 필수입니다")
+    private Long shiftMinutes; // 음수면 앞으로 당김
+}
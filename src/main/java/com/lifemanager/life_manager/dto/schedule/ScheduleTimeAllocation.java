@@ -0,0 +1,30 @@
+package com.lifemanager.life_manager.dto.schedule;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ScheduleTimeAllocation {
+
+    private String key;             // 카테고리 또는 색상 (없으면 null)
+    private long eventCount;        // 시간 일정 수
+    private long totalSeconds;      // 시간 일정 합계 (기간 경계에서 잘라낸 길이)
+    private long allDayEventCount;  // 종일 일정 수
+    private long allDayDays;        // 종일 일정이 차지한 일수
+
+    // [그룹, 시간 일정 수, 시간 일정 초, 종일 일정 수, 종일 일정 일수] 행 변환
+    public static ScheduleTimeAllocation from(Object[] row) {
+        return ScheduleTimeAllocation.builder()
+                .key((String) row[0])
+                .eventCount(toLong(row[1]))
+                .totalSeconds(toLong(row[2]))
+                .allDayEventCount(toLong(row[3]))
+                .allDayDays(toLong(row[4]))
+                .build();
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? Math.round(((Number) value).doubleValue()) : 0L;
+    }
+}
@@ -0,0 +1,15 @@
+package com.lifemanager.life_manager.dto.stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 변경 피드로 보내는 최소 정보. 클라이언트는 이걸 보고 필요한 것만 다시 읽는다
+@Getter
+@AllArgsConstructor
+public class ChangeNotification {
+
+    private String entity;  // schedule, transaction
+    private Long id;        // 일괄 변경이면 null
+    private String op;      // CREATED, UPDATED, DELETED, BULK
+    private long version;   // 사용자 변경 버전 - /api/sync?since= 에 그대로 쓸 수 있다
+}
@@ -0,0 +1,22 @@
+package com.lifemanager.life_manager.dto.sync;
+
+import com.lifemanager.life_manager.dto.schedule.ScheduleResponse;
+import com.lifemanager.life_manager.dto.transaction.TransactionResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class SyncResponse {
+
+    private long version;   // 다음 요청의 since 로 쓸 값
+    private boolean hasMore; // true 면 version 으로 바로 이어서 요청
+    private boolean resyncRequired; // true 면 since 이후의 툼스톤이 이미 지워졌다 - 로컬 데이터를 버리고 since=0 부터 다시
+
+    private List<ScheduleResponse> schedules;           // 생성/수정된 일정
+    private List<Long> deletedScheduleIds;
+    private List<TransactionResponse> transactions;     // 생성/수정된 거래
+    private List<Long> deletedTransactionIds;
+}
@@ -0,0 +1,24 @@
+package com.lifemanager.life_manager.dto.transaction;
+
+import com.lifemanager.life_manager.domain.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 목록 화면용 거래 (JPQL 에서 바로 만든다. 설명은 상세 조회에서만 내려준다)
+@Getter
+@AllArgsConstructor
+public class TransactionListItem {
+
+    private Long id;
+    private TransactionType type;
+    private BigDecimal amount;
+    private String category;
+    private LocalDate transactionDate;
+    private long changeVersion;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,29 @@
+package com.lifemanager.life_manager.dto.transaction;
+
+import com.lifemanager.life_manager.domain.TransactionType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+public class TransactionRecategorizeRequest {
+
+    @NotNull(message = "시작 날짜는 필수입니다")
+    private LocalDate startDate;
+
+    @NotNull(message = "종료 날짜는 필수입니다")
+    private LocalDate endDate;
+
+    private String category;       // 이 카테고리인 거래만 (null 이면 전체)
+
+    private TransactionType type;  // 이 유형인 거래만 (null 이면 전체)
+
+    @NotBlank(message = "새 카테고리는 필수입니다")
+    @Size(max = 50, message = "카테고리는 50자 이하여야 합니다")
+    private String newCategory;
+}
@@ -2,8 +2,11 @@ package com.lifemanager.life_manager.dto.transaction;
 
 import com.lifemanager.life_manager.domain.Transaction;
 import com.lifemanager.life_manager.domain.TransactionType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -11,6 +14,8 @@ import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE) // Idempotency-Key 재시도 시 저장된 JSON 에서 복원
 public class TransactionResponse {
 
     private Long id;
@@ -19,6 +24,7 @@ public class TransactionResponse {
     private String category;
     private String description;
     private LocalDate transactionDate;
+    private long changeVersion;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -31,6 +37,7 @@ public class TransactionResponse {
                 .category(trans.getCategory())
                 .description(trans.getDescription())
                 .transactionDate(trans.getTransactionDate())
+                .changeVersion(trans.getChangeVersion())
                 .createdAt(trans.getCreatedAt())
                 .updatedAt(trans.getUpdatedAt())
                 .build();
@@ -0,0 +1,7 @@
+package com.lifemanager.life_manager.event;
+
+public enum ChangeType {
+    CREATED, // 생성
+    UPDATED, // 수정
+    DELETED  // 삭제
+}
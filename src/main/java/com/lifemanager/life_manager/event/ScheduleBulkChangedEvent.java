@@ -0,0 +1,14 @@
+package com.lifemanager.life_manager.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 범위 일괄 수정/삭제 이벤트 - 어떤 일정이 바뀌었는지 모르므로 구독자는 사용자 단위로 다시 읽는다
+@Getter
+@AllArgsConstructor
+public class ScheduleBulkChangedEvent {
+
+    private Long userId;
+    private int affectedCount;
+    private long version;
+}
@@ -0,0 +1,17 @@
+package com.lifemanager.life_manager.event;
+
+import com.lifemanager.life_manager.dto.schedule.ScheduleResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 일정 변경 이벤트 - 커밋 이후 리마인더/캐시 등이 구독한다
+@Getter
+@AllArgsConstructor
+public class ScheduleChangedEvent {
+
+    private Long userId;
+    private Long scheduleId;
+    private ChangeType type;
+    private long version;              // 이 변경의 사용자 변경 버전
+    private ScheduleResponse schedule; // 삭제 시 null
+}
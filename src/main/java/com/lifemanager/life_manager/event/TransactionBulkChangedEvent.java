@@ -0,0 +1,14 @@
+package com.lifemanager.life_manager.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 거래 범위 일괄 수정/삭제 이벤트
+@Getter
+@AllArgsConstructor
+public class TransactionBulkChangedEvent {
+
+    private Long userId;
+    private int affectedCount;
+    private long version;
+}
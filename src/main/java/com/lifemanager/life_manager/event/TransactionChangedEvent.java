@@ -0,0 +1,15 @@
+package com.lifemanager.life_manager.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 거래 변경 이벤트 - 커밋 이후 변경 피드 등이 구독한다
+@Getter
+@AllArgsConstructor
+public class TransactionChangedEvent {
+
+    private Long userId;
+    private Long transactionId;
+    private ChangeType type;
+    private long version;
+}
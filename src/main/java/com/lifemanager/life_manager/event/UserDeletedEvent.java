@@ -0,0 +1,12 @@
+package com.lifemanager.life_manager.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 회원 탈퇴 (커밋 후 사용자별 캐시 정리용)
+@Getter
+@AllArgsConstructor
+public class UserDeletedEvent {
+
+    private Long userId;
+}
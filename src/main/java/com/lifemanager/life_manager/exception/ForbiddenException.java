@@ -0,0 +1,9 @@
+package com.lifemanager.life_manager.exception;
+
+// 다른 사용자의 데이터 (403). 기존 호출부가 IllegalArgumentException 으로 받던 것과 호환되도록 상속한다
+public class ForbiddenException extends IllegalArgumentException {
+
+    public ForbiddenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.lifemanager.life_manager.exception;
+
+// If-Match 로 보낸 버전이 현재 행과 다름 (412). 다른 기기에서 먼저 수정한 경우
+public class PreconditionFailedException extends IllegalArgumentException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.lifemanager.life_manager.exception;
+
+// 같은 요청(같은 Idempotency-Key)이 아직 처리 중 (409). 잠시 뒤 같은 키로 다시 보내면 저장된 응답을 받는다
+public class RequestInProgressException extends IllegalStateException {
+
+    public RequestInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.lifemanager.life_manager.exception;
+
+// 대상이 없음 (404). 기존 호출부가 IllegalArgumentException 으로 받던 것과 호환되도록 상속한다
+public class ResourceNotFoundException extends IllegalArgumentException {
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
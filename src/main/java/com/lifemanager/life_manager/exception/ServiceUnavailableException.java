@@ -0,0 +1,9 @@
+package com.lifemanager.life_manager.exception;
+
+// 서버가 지금은 처리하지 못한 요청 (503). 잠시 뒤 다시 보내면 된다
+public class ServiceUnavailableException extends IllegalStateException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.lifemanager.life_manager.exception;
+
+// 사용자 데이터를 다른 샤드로 옮기는 동안의 쓰기 (503). 잠시 뒤 다시 보내면 된다
+public class ShardMovingException extends IllegalStateException {
+
+    public ShardMovingException(String message) {
+        super(message);
+    }
+}
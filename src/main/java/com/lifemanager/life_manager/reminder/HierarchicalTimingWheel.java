@@ -0,0 +1,172 @@
+package com.lifemanager.life_manager.reminder;
+
+import java.util.function.Consumer;
+
+// 계층형 타이밍 휠 - 등록/취소 O(1), 틱마다 만료 슬롯 하나만 처리한다.
+// 레벨 k 의 슬롯 하나는 wheelSize^k 틱을 덮고, 경계에 도달하면 한 단계 아래 레벨로 재배치된다.
+// 스레드 안전하지 않으므로 호출하는 쪽에서 동기화한다.
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMs;
+    private final long startMs;
+    private final int bits;
+    private final int wheelSize;
+    private final long mask;
+    private final int levels;
+    private final Timeout<T>[][] buckets;
+
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMs, int bits, int levels, long startMs) {
+        if (tickMs <= 0 || bits <= 0 || levels <= 0 || (long) bits * levels >= 62) {
+            throw new IllegalArgumentException("타이밍 휠 설정이 올바르지 않습니다");
+        }
+        this.tickMs = tickMs;
+        this.startMs = startMs;
+        this.bits = bits;
+        this.wheelSize = 1 << bits;
+        this.mask = wheelSize - 1;
+        this.levels = levels;
+        this.buckets = new Timeout[levels][wheelSize];
+        for (int level = 0; level < levels; level++) {
+            for (int slot = 0; slot < wheelSize; slot++) {
+                buckets[level][slot] = Timeout.sentinel();
+            }
+        }
+    }
+
+    public Timeout<T> schedule(long deadlineMs, T payload) {
+        // 올림 처리해서 절대 일찍 울리지 않게 하고, 이미 지난 시각은 다음 틱에 울린다
+        long deadlineTick = Math.max(Math.floorDiv(deadlineMs - startMs + tickMs - 1, tickMs), currentTick + 1);
+        Timeout<T> timeout = new Timeout<>(deadlineTick, payload);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout == null || !timeout.isPending()) {
+            return false;
+        }
+        timeout.unlink();
+        size--;
+        return true;
+    }
+
+    // nowMs 까지 틱을 진행하며 만료된 항목을 consumer 에 넘긴다 (벽시계 기준이라 누적 오차가 없다)
+    public void advanceTo(long nowMs, Consumer<T> expired) {
+        long targetTick = Math.floorDiv(nowMs - startMs, tickMs);
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            int highest = 0;
+            for (int level = 1; level < levels; level++) {
+                long lowerBits = (1L << (bits * level)) - 1;
+                if ((currentTick & lowerBits) != 0) {
+                    break;
+                }
+                highest = level;
+            }
+            for (int level = highest; level >= 1; level--) {
+                Timeout<T> sentinel = buckets[level][(int) ((currentTick >> (bits * level)) & mask)];
+                Timeout<T> timeout = sentinel.detachAll();
+                while (timeout != null) {
+                    Timeout<T> next = timeout.next;
+                    timeout.prev = null;
+                    timeout.next = null;
+                    place(timeout);
+                    timeout = next;
+                }
+            }
+
+            Timeout<T> timeout = buckets[0][(int) (currentTick & mask)].detachAll();
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                timeout.prev = null;
+                timeout.next = null;
+                size--;
+                expired.accept(timeout.payload);
+                timeout = next;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 휠 한 바퀴가 덮는 시간 (이 범위를 넘는 항목은 최상위 레벨 마지막 슬롯에서 다시 배치된다)
+    public long horizonMs() {
+        return tickMs << (bits * levels);
+    }
+
+    private void place(Timeout<T> timeout) {
+        for (int level = 0; level < levels; level++) {
+            int shift = bits * level;
+            long diff = (timeout.deadlineTick >> shift) - (currentTick >> shift);
+            if (diff < wheelSize) {
+                buckets[level][(int) ((timeout.deadlineTick >> shift) & mask)].append(timeout);
+                return;
+            }
+        }
+        int shift = bits * (levels - 1);
+        buckets[levels - 1][(int) (((currentTick >> shift) + mask) & mask)].append(timeout);
+    }
+
+    // 슬롯마다 sentinel 을 둔 원형 이중 연결 리스트 노드
+    public static final class Timeout<T> {
+
+        private final long deadlineTick;
+        private final T payload;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(long deadlineTick, T payload) {
+            this.deadlineTick = deadlineTick;
+            this.payload = payload;
+        }
+
+        private static <T> Timeout<T> sentinel() {
+            Timeout<T> sentinel = new Timeout<>(-1, null);
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            return sentinel;
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+
+        public boolean isPending() {
+            return next != null;
+        }
+
+        private void append(Timeout<T> timeout) {
+            timeout.prev = prev;
+            timeout.next = this;
+            prev.next = timeout;
+            prev = timeout;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+        }
+
+        // 슬롯의 항목들을 떼어내 null 로 끝나는 단일 체인으로 돌려준다
+        private Timeout<T> detachAll() {
+            if (next == this) {
+                return null;
+            }
+            Timeout<T> first = next;
+            prev.next = null;
+            prev = this;
+            next = this;
+            return first;
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.lifemanager.life_manager.reminder;
+
+import com.lifemanager.life_manager.dto.reminder.ReminderNotification;
+import com.lifemanager.life_manager.dto.reminder.ReminderTarget;
+import com.lifemanager.life_manager.dto.schedule.ScheduleResponse;
+import com.lifemanager.life_manager.event.ChangeType;
+import com.lifemanager.life_manager.event.ScheduleBulkChangedEvent;
+import com.lifemanager.life_manager.event.ScheduleChangedEvent;
+import com.lifemanager.life_manager.event.UserDeletedEvent;
+import com.lifemanager.life_manager.repository.ScheduleRepository;
+import com.lifemanager.life_manager.shard.ShardRouter;
+import com.lifemanager.life_manager.stream.SseEmitterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// 다가오는 윈도우의 리마인더만 타이밍 휠에 올려두고, 시간이 흐르면 다음 구간을 이어서 적재한다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReminderService {
+
+    private final ScheduleRepository scheduleRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ShardRouter shardRouter;
+
+    @Value("${reminder.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reminder.tick-ms:100}")
+    private long tickMs;
+
+    @Value("${reminder.window-minutes:60}")
+    private long windowMinutes;
+
+    @Value("${reminder.refill-minutes:5}")
+    private long refillMinutes;
+
+    @Value("${reminder.sse-timeout-ms:1800000}")
+    private long sseTimeoutMs;
+
+    private final Object lock = new Object();
+    private final Map<Long, HierarchicalTimingWheel.Timeout<ReminderTarget>> timeouts = new HashMap<>();
+    private final Map<Long, Set<Long>> scheduleIdsByUser = new HashMap<>(); // userId -> 휠에 올라간 scheduleId (lock 으로 보호)
+    private final Set<Long> changedDuringRefill = ConcurrentHashMap.newKeySet();
+    private final Set<Long> usersChangedDuringRefill = ConcurrentHashMap.newKeySet();
+
+    private HierarchicalTimingWheel<ReminderTarget> wheel;
+    private SseEmitterRegistry emitterRegistry;
+    private TransactionTemplate readOnlyTransaction;
+    private ScheduledExecutorService timer;
+    private ExecutorService deliveryExecutor;
+
+    private long loadedUntil; // lock 으로 보호
+    private volatile long loadingUntil;
+    private volatile boolean refilling;
+
+    @PostConstruct
+    public void start() {
+        emitterRegistry = new SseEmitterRegistry(sseTimeoutMs);
+        if (!enabled) {
+            return;
+        }
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        long now = System.currentTimeMillis();
+        // 틱 100ms 기준 레벨당 256 슬롯 x 3 레벨 ≒ 19일 범위
+        wheel = new HierarchicalTimingWheel<>(tickMs, 8, 3, now);
+        loadedUntil = now;
+
+        timer = Executors.newScheduledThreadPool(2, new CustomizableThreadFactory("reminder-timer-"));
+        deliveryExecutor = Executors.newFixedThreadPool(2, new CustomizableThreadFactory("reminder-delivery-"));
+        timer.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+        timer.scheduleWithFixedDelay(this::refill, 0, refillMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (timer != null) {
+            timer.shutdownNow();
+            deliveryExecutor.shutdownNow();
+        }
+    }
+
+    // 리마인더 SSE 구독
+    public SseEmitter subscribe(Long userId) {
+        return emitterRegistry.register(userId);
+    }
+
+    public int pendingCount() {
+        if (!enabled) {
+            return 0;
+        }
+        synchronized (lock) {
+            return wheel.size();
+        }
+    }
+
+    // 일정 생성/수정/삭제가 커밋되면 휠을 갱신한다
+    @TransactionalEventListener
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (refilling) {
+            changedDuringRefill.add(event.getScheduleId());
+        }
+
+        synchronized (lock) {
+            cancel(event.getScheduleId());
+        }
+
+        ScheduleResponse schedule = event.getSchedule();
+        if (event.getType() == ChangeType.DELETED || schedule == null || schedule.getReminderMinutes() == null) {
+            return;
+        }
+
+        LocalDateTime reminderAt = schedule.getStartDatetime().minusMinutes(schedule.getReminderMinutes());
+        long reminderAtMs = toEpochMilli(reminderAt);
+        long limit;
+        synchronized (lock) {
+            limit = refilling ? Math.max(loadedUntil, loadingUntil) : loadedUntil;
+        }
+        if (reminderAtMs >= System.currentTimeMillis() && reminderAtMs < limit) {
+            add(new ReminderTarget(schedule.getId(), event.getUserId(), schedule.getTitle(),
+                    schedule.getStartDatetime(), reminderAt));
+        }
+    }
+
+    // 범위 일괄 수정/삭제 - 어떤 일정이 바뀌었는지 모르므로 사용자의 리마인더를 모두 내리고 다시 읽는다
+    @TransactionalEventListener
+    public void onScheduleBulkChanged(ScheduleBulkChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Long userId = event.getUserId();
+        if (refilling) {
+            usersChangedDuringRefill.add(userId);
+        }
+
+        long limit;
+        synchronized (lock) {
+            cancelUser(userId);
+            limit = refilling ? Math.max(loadedUntil, loadingUntil) : loadedUntil;
+        }
+
+        long now = System.currentTimeMillis();
+        if (limit <= now) {
+            return;
+        }
+        List<ReminderTarget> targets = readOnlyTransaction.execute(status ->
+                scheduleRepository.findReminderTargetsByUserId(userId, toLocalDateTime(now), toLocalDateTime(limit)));
+        if (targets != null) {
+            targets.forEach(this::add);
+        }
+    }
+
+    // 탈퇴한 사용자의 대기 중인 리마인더와 SSE 연결을 정리한다
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        Long userId = event.getUserId();
+        emitterRegistry.close(userId);
+        if (!enabled) {
+            return;
+        }
+        if (refilling) {
+            usersChangedDuringRefill.add(userId);
+        }
+        synchronized (lock) {
+            cancelUser(userId);
+        }
+    }
+
+    private void tick() {
+        try {
+            List<ReminderTarget> due = new ArrayList<>();
+            synchronized (lock) {
+                wheel.advanceTo(System.currentTimeMillis(), target -> {
+                    unindex(target.getScheduleId(), timeouts.remove(target.getScheduleId()));
+                    due.add(target);
+                });
+            }
+            for (ReminderTarget target : due) {
+                deliveryExecutor.execute(() ->
+                        emitterRegistry.send(target.getUserId(), "reminder", ReminderNotification.from(target)));
+            }
+        } catch (RuntimeException e) {
+            log.error("리마인더 틱 처리 실패", e);
+        }
+    }
+
+    // [loadedUntil, now + window) 구간만 새로 읽어 휠에 올린다
+    private void refill() {
+        long now = System.currentTimeMillis();
+        long from;
+        synchronized (lock) {
+            from = Math.max(loadedUntil, now);
+        }
+        long until = now + TimeUnit.MINUTES.toMillis(windowMinutes);
+        if (until <= from) {
+            return;
+        }
+
+        loadingUntil = until;
+        refilling = true;
+        try {
+            int[] loaded = {0};
+            // 전체 사용자 대상이라 샤드마다 따로 읽는다
+            shardRouter.forEachShard(shard -> readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<ReminderTarget> targets =
+                             scheduleRepository.streamReminderTargets(toLocalDateTime(from), toLocalDateTime(until))) {
+                    targets.forEach(target -> {
+                        if (!changedDuringRefill.contains(target.getScheduleId())
+                                && !usersChangedDuringRefill.contains(target.getUserId())) {
+                            add(target);
+                            loaded[0]++;
+                        }
+                    });
+                }
+            }));
+            synchronized (lock) {
+                loadedUntil = until;
+            }
+            log.debug("리마인더 {}건 적재 ({} ~ {})", loaded[0], toLocalDateTime(from), toLocalDateTime(until));
+        } catch (RuntimeException e) {
+            log.error("리마인더 적재 실패", e);
+        } finally {
+            refilling = false;
+            changedDuringRefill.clear();
+            usersChangedDuringRefill.clear();
+        }
+    }
+
+    private void add(ReminderTarget target) {
+        synchronized (lock) {
+            cancel(target.getScheduleId());
+            timeouts.put(target.getScheduleId(), wheel.schedule(toEpochMilli(target.getReminderAt()), target));
+            scheduleIdsByUser.computeIfAbsent(target.getUserId(), id -> new HashSet<>()).add(target.getScheduleId());
+        }
+    }
+
+    // 아래 세 메서드는 lock 을 잡은 상태에서 호출
+    private void cancel(Long scheduleId) {
+        HierarchicalTimingWheel.Timeout<ReminderTarget> timeout = timeouts.remove(scheduleId);
+        wheel.cancel(timeout);
+        unindex(scheduleId, timeout);
+    }
+
+    // 그 사용자의 리마인더만 내린다 (전체 휠을 훑지 않게)
+    private void cancelUser(Long userId) {
+        Set<Long> scheduleIds = scheduleIdsByUser.remove(userId);
+        if (scheduleIds == null) {
+            return;
+        }
+        for (Long scheduleId : scheduleIds) {
+            wheel.cancel(timeouts.remove(scheduleId));
+        }
+    }
+
+    private void unindex(Long scheduleId, HierarchicalTimingWheel.Timeout<ReminderTarget> timeout) {
+        if (timeout == null) {
+            return;
+        }
+        Long userId = timeout.getPayload().getUserId();
+        Set<Long> scheduleIds = scheduleIdsByUser.get(userId);
+        if (scheduleIds != null && scheduleIds.remove(scheduleId) && scheduleIds.isEmpty()) {
+            scheduleIdsByUser.remove(userId);
+        }
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+}
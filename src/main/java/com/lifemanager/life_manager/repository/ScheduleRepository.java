@@ -1,24 +1,273 @@
 package com.lifemanager.life_manager.repository;
 
 import com.lifemanager.life_manager.domain.Schedule;
+import com.lifemanager.life_manager.dto.reminder.ReminderTarget;
+import com.lifemanager.life_manager.dto.schedule.ScheduleFeedStamp;
+import com.lifemanager.life_manager.dto.schedule.ScheduleListItem;
+import com.lifemanager.life_manager.dto.schedule.ScheduleResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
+    // 엔티티 목록 조회는 모두 읽기 전용 - 쓰기 트랜잭션 안에서 불려도 스냅샷/더티 체크 대상이 되지 않는다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Schedule> findByUserId(Long userId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     Page<Schedule> findByUserId(Long userId, Pageable pageable);
 
+    // 목록 화면 - 엔티티/스냅샷 없이 필요한 컬럼만 (description 제외)
+    @Query(value = "SELECT new com.lifemanager.life_manager.dto.schedule.ScheduleListItem(" +
+            "s.id, s.title, s.startDatetime, s.endDatetime, s.isAllDay, s.category, s.color, " +
+            "s.reminderMinutes, s.changeVersion, s.createdAt, s.updatedAt) " +
+            "FROM Schedule s WHERE s.user.id = :userId",
+            countQuery = "SELECT COUNT(s) FROM Schedule s WHERE s.user.id = :userId")
+    Page<ScheduleListItem> findListItemsByUserId(@Param("userId") Long userId, Pageable pageable);
+
     // 날짜 범위로 조회
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Schedule> findByUserIdAndStartDatetimeBetween(
             Long userId,
             LocalDateTime start,
             LocalDateTime end
     );
+
+    // 인덱스 적재용 (시작 시각 순)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Schedule> findByUserIdOrderByStartDatetimeAsc(Long userId, Limit limit);
+
+    // 지금 진행 중인 일정
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Schedule> findByUserIdAndStartDatetimeLessThanEqualAndEndDatetimeGreaterThanOrderByStartDatetimeAsc(
+            Long userId,
+            LocalDateTime startBound,
+            LocalDateTime endBound
+    );
+
+    // 다음 일정 N개
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Schedule> findByUserIdAndStartDatetimeAfterOrderByStartDatetimeAsc(
+            Long userId,
+            LocalDateTime after,
+            Limit limit
+    );
+
+    // iCalendar 내보내기 - 커서로 한 건씩 흘려보낸다
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Schedule s WHERE s.user.id = :userId ORDER BY s.startDatetime")
+    Stream<Schedule> streamByUserId(@Param("userId") Long userId);
+
+    // 구독 피드 ETag 계산용 (일정 수, 마지막 수정 시각)
+    @Query("SELECT COUNT(s) AS scheduleCount, MAX(s.updatedAt) AS lastUpdatedAt " +
+            "FROM Schedule s WHERE s.user.id = :userId")
+    ScheduleFeedStamp findFeedStampByUserId(@Param("userId") Long userId);
+
+    // 리마인더 윈도우 적재용 - 알림 시각이 [from, until) 인 일정
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.lifemanager.life_manager.dto.reminder.ReminderTarget(" +
+            "s.id, s.user.id, s.title, s.startDatetime, s.reminderAt) " +
+            "FROM Schedule s WHERE s.reminderAt >= :from AND s.reminderAt < :until")
+    Stream<ReminderTarget> streamReminderTargets(
+            @Param("from") LocalDateTime from,
+            @Param("until") LocalDateTime until
+    );
+
+    // 특정 사용자의 리마인더만 다시 적재할 때
+    @Query("SELECT new com.lifemanager.life_manager.dto.reminder.ReminderTarget(" +
+            "s.id, s.user.id, s.title, s.startDatetime, s.reminderAt) " +
+            "FROM Schedule s WHERE s.user.id = :userId AND s.reminderAt >= :from AND s.reminderAt < :until")
+    List<ReminderTarget> findReminderTargetsByUserId(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("until") LocalDateTime until
+    );
+
+    // 시작 시각이 범위에 드는 일정을 한 번에 이동
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Schedule s SET " +
+            "s.startDatetime = s.startDatetime + (:shiftSeconds) SECOND, " +
+            "s.endDatetime = s.endDatetime + (:shiftSeconds) SECOND, " +
+            "s.reminderAt = s.reminderAt + (:shiftSeconds) SECOND, " +
+            "s.changeVersion = :version, " +
+            "s.updatedAt = :now " +
+            "WHERE s.user.id = :userId AND s.deleted = false AND s.startDatetime BETWEEN :start AND :end")
+    int shiftByUserIdAndStartDatetimeBetween(
+            @Param("userId") Long userId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("shiftSeconds") long shiftSeconds,
+            @Param("version") long version,
+            @Param("now") LocalDateTime now
+    );
+
+    // 시작 시각이 범위에 드는 일정 일괄 삭제 (툼스톤으로 표시)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Schedule s SET s.deleted = true, s.changeVersion = :version, s.updatedAt = :now " +
+            "WHERE s.user.id = :userId AND s.deleted = false AND s.startDatetime BETWEEN :start AND :end")
+    int deleteByUserIdAndStartDatetimeBetween(
+            @Param("userId") Long userId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("version") long version,
+            @Param("now") LocalDateTime now
+    );
+
+    // 동기화 - since < change_version <= upTo 인 행 (툼스톤 포함이라 네이티브 쿼리)
+    @Query(value = "SELECT * FROM schedules WHERE user_id = :userId " +
+            "AND change_version > :since AND change_version <= :upTo " +
+            "ORDER BY change_version, id LIMIT :limit", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Schedule> findChangedSince(
+            @Param("userId") Long userId,
+            @Param("since") long since,
+            @Param("upTo") long upTo,
+            @Param("limit") int limit
+    );
+
+    // 아젠다 키셋 페이지 - (startDatetime, id) 가 커서 다음이고 end 이전인 일정
+    @Query("SELECT s FROM Schedule s WHERE s.user.id = :userId " +
+            "AND (s.startDatetime > :time OR (s.startDatetime = :time AND s.id > :afterId)) " +
+            "AND s.startDatetime < :end " +
+            "ORDER BY s.startDatetime ASC, s.id ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Schedule> findAgendaPage(
+            @Param("userId") Long userId,
+            @Param("time") LocalDateTime time,
+            @Param("afterId") long afterId,
+            @Param("end") LocalDateTime end,
+            Limit limit
+    );
+
+    // 시간 배분 통계 - 기간 경계에서 잘라낸 길이를 카테고리별로 합산
+    // [그룹, 시간 일정 수, 시간 일정 초, 종일 일정 수, 종일 일정 일수]
+    @Query("SELECT s.category, " +
+            "SUM(CASE WHEN s.isAllDay = false THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN s.isAllDay = false " +
+            "THEN (LEAST(s.endDatetime, :end) - GREATEST(s.startDatetime, :start)) BY SECOND ELSE 0 END), " +
+            "SUM(CASE WHEN s.isAllDay = true THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN s.isAllDay = true " +
+            "THEN GREATEST(CEILING(((LEAST(s.endDatetime, :end) - GREATEST(s.startDatetime, :start)) BY SECOND) / 86400.0), 1) " +
+            "ELSE 0 END) " +
+            "FROM Schedule s " +
+            "WHERE s.user.id = :userId AND s.startDatetime < :end AND s.endDatetime > :start " +
+            "GROUP BY s.category")
+    List<Object[]> sumDurationByCategory(
+            @Param("userId") Long userId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    // 시간 배분 통계 - 색상별 (컬럼 구성은 카테고리별과 같음)
+    @Query("SELECT s.color, " +
+            "SUM(CASE WHEN s.isAllDay = false THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN s.isAllDay = false " +
+            "THEN (LEAST(s.endDatetime, :end) - GREATEST(s.startDatetime, :start)) BY SECOND ELSE 0 END), " +
+            "SUM(CASE WHEN s.isAllDay = true THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN s.isAllDay = true " +
+            "THEN GREATEST(CEILING(((LEAST(s.endDatetime, :end) - GREATEST(s.startDatetime, :start)) BY SECOND) / 86400.0), 1) " +
+            "ELSE 0 END) " +
+            "FROM Schedule s " +
+            "WHERE s.user.id = :userId AND s.startDatetime < :end AND s.endDatetime > :start " +
+            "GROUP BY s.color")
+    List<Object[]> sumDurationByColor(
+            @Param("userId") Long userId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    // 소유자/버전 조건을 건 단건 수정 - 0 이면 없거나, 다른 사용자의 일정이거나, If-Match 버전과 다름
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Schedule s SET s.title = :title, s.description = :description, " +
+            "s.startDatetime = :startDatetime, s.endDatetime = :endDatetime, s.isAllDay = :isAllDay, " +
+            "s.category = :category, s.color = :color, s.reminderMinutes = :reminderMinutes, " +
+            "s.reminderAt = :reminderAt, s.changeVersion = :version, s.updatedAt = :now " +
+            "WHERE s.id = :id AND s.user.id = :userId AND s.deleted = false " +
+            "AND (:expectedVersion IS NULL OR s.changeVersion = :expectedVersion)")
+    int updateByIdAndUserId(
+            @Param("id") Long id,
+            @Param("userId") Long userId,
+            @Param("title") String title,
+            @Param("description") String description,
+            @Param("startDatetime") LocalDateTime startDatetime,
+            @Param("endDatetime") LocalDateTime endDatetime,
+            @Param("isAllDay") Boolean isAllDay,
+            @Param("category") String category,
+            @Param("color") String color,
+            @Param("reminderMinutes") Integer reminderMinutes,
+            @Param("reminderAt") LocalDateTime reminderAt,
+            @Param("expectedVersion") Long expectedVersion,
+            @Param("version") long version,
+            @Param("now") LocalDateTime now
+    );
+
+    // 소유자 조건을 건 단건 삭제 표시 - 0 이면 없거나 다른 사용자의 일정
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Schedule s SET s.deleted = true, s.changeVersion = :version, s.updatedAt = :now " +
+            "WHERE s.id = :id AND s.user.id = :userId AND s.deleted = false")
+    int deleteByIdAndUserId(
+            @Param("id") Long id,
+            @Param("userId") Long userId,
+            @Param("version") long version,
+            @Param("now") LocalDateTime now
+    );
+
+    // 수정/삭제가 0 건일 때 404/403 구분용
+    @Query("SELECT s.user.id FROM Schedule s WHERE s.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+
+    // 수정 응답 - 엔티티를 올리지 않고 바로 DTO 로
+    @Query("SELECT new com.lifemanager.life_manager.dto.schedule.ScheduleResponse(" +
+            "s.id, s.title, s.description, s.startDatetime, s.endDatetime, s.isAllDay, s.category, s.color, " +
+            "s.reminderMinutes, s.changeVersion, s.createdAt, s.updatedAt) " +
+            "FROM Schedule s WHERE s.id = :id")
+    Optional<ScheduleResponse> findResponseById(@Param("id") Long id);
+
+    // 회원 탈퇴 - 삭제 표시된 행까지 실제로 지운다 (@SQLDelete 를 거치지 않도록 네이티브).
+    // 건드리는 테이블을 알려 주지 않으면 Hibernate 가 2차 캐시 전체를 비운다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM schedules WHERE user_id = :userId", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "schedules"))
+    int purgeByUserId(@Param("userId") Long userId);
+
+    // 변경 버전 도입 전에 만들어져 change_version 이 0 인 행이 있는 사용자 (since=0 동기화에서 빠지므로 버전을 매긴다)
+    @Query(value = "SELECT DISTINCT user_id FROM schedules WHERE change_version = 0", nativeQuery = true)
+    List<Long> findUserIdsWithUnversionedRows();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE schedules SET change_version = :version WHERE user_id = :userId AND change_version = 0",
+            nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "schedules"))
+    int stampUnversioned(@Param("userId") Long userId, @Param("version") long version);
+
+    // 보관 기간이 지난 툼스톤
+    @Query(value = "SELECT DISTINCT user_id FROM schedules WHERE deleted = true AND updated_at < :cutoff", nativeQuery = true)
+    List<Long> findUserIdsWithTombstonesBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Query(value = "SELECT MAX(change_version) FROM schedules " +
+            "WHERE user_id = :userId AND deleted = true AND updated_at < :cutoff", nativeQuery = true)
+    Long findMaxTombstoneVersionBefore(@Param("userId") Long userId, @Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM schedules WHERE user_id = :userId AND deleted = true AND change_version <= :version",
+            nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "schedules"))
+    int purgeTombstones(@Param("userId") Long userId, @Param("version") long version);
 }
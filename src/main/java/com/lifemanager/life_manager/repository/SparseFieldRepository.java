@@ -0,0 +1,143 @@
+package com.lifemanager.life_manager.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// ?fields= 로 고른 컬럼만 SELECT 해서 (필드명 -> 값) 행으로 돌려준다.
+// 필드/정렬 이름은 아래 화이트리스트에 있는 것만 JPQL 에 들어간다
+@Repository
+@RequiredArgsConstructor
+public class SparseFieldRepository {
+
+    // 응답 필드명 -> JPQL 경로
+    public static final Map<String, String> SCHEDULE_FIELDS = fields("s",
+            "id", "title", "description", "startDatetime", "endDatetime", "isAllDay",
+            "category", "color", "reminderMinutes", "changeVersion", "createdAt", "updatedAt");
+
+    public static final Map<String, String> TRANSACTION_FIELDS = fields("t",
+            "id", "type", "amount", "category", "description", "transactionDate",
+            "changeVersion", "createdAt", "updatedAt");
+
+    private final EntityManager entityManager;
+
+    // "id,title" -> [id, title]. 빈 값이나 모르는 필드는 거절
+    public static List<String> parse(String fields, Map<String, String> allowed) {
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.containsKey(name)) {
+                throw new IllegalArgumentException("알 수 없는 필드입니다: " + name);
+            }
+            selected.add(name);
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("fields 에 필드를 하나 이상 지정해야 합니다");
+        }
+        return new ArrayList<>(selected);
+    }
+
+    public Page<Map<String, Object>> findSchedules(Long userId, List<String> fields, Pageable pageable) {
+        String where = " FROM Schedule s WHERE s.user.id = :userId";
+        TypedQuery<Tuple> query = entityManager.createQuery(
+                select(fields, SCHEDULE_FIELDS) + where + orderBy(pageable.getSort(), SCHEDULE_FIELDS, "s"), Tuple.class)
+                .setParameter("userId", userId)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize());
+
+        return PageableExecutionUtils.getPage(rows(query, fields), pageable, () ->
+                entityManager.createQuery("SELECT COUNT(s)" + where, Long.class)
+                        .setParameter("userId", userId)
+                        .getSingleResult());
+    }
+
+    public List<Map<String, Object>> findSchedulesBetween(Long userId, LocalDateTime start, LocalDateTime end,
+                                                          List<String> fields) {
+        TypedQuery<Tuple> query = entityManager.createQuery(
+                select(fields, SCHEDULE_FIELDS) + " FROM Schedule s WHERE s.user.id = :userId " +
+                        "AND s.startDatetime BETWEEN :start AND :end ORDER BY s.startDatetime, s.id", Tuple.class)
+                .setParameter("userId", userId)
+                .setParameter("start", start)
+                .setParameter("end", end);
+        return rows(query, fields);
+    }
+
+    public Page<Map<String, Object>> findTransactions(Long userId, LocalDate startDate, LocalDate endDate,
+                                                      List<String> fields, Pageable pageable) {
+        String where = " FROM Transaction t WHERE t.user.id = :userId " +
+                "AND t.transactionDate BETWEEN :startDate AND :endDate";
+        TypedQuery<Tuple> query = entityManager.createQuery(
+                select(fields, TRANSACTION_FIELDS) + where + orderBy(pageable.getSort(), TRANSACTION_FIELDS, "t"), Tuple.class)
+                .setParameter("userId", userId)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize());
+
+        return PageableExecutionUtils.getPage(rows(query, fields), pageable, () ->
+                entityManager.createQuery("SELECT COUNT(t)" + where, Long.class)
+                        .setParameter("userId", userId)
+                        .setParameter("startDate", startDate)
+                        .setParameter("endDate", endDate)
+                        .getSingleResult());
+    }
+
+    private static String select(List<String> fields, Map<String, String> allowed) {
+        return fields.stream()
+                .map(allowed::get)
+                .collect(Collectors.joining(", ", "SELECT ", ""));
+    }
+
+    // 페이지가 흔들리지 않도록 마지막에 id 를 붙인다
+    private static String orderBy(Sort sort, Map<String, String> allowed, String alias) {
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String path = allowed.get(order.getProperty());
+            if (path == null) {
+                throw new IllegalArgumentException("정렬할 수 없는 필드입니다: " + order.getProperty());
+            }
+            orders.add(path + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        orders.add(alias + ".id");
+        return " ORDER BY " + String.join(", ", orders);
+    }
+
+    private static List<Map<String, Object>> rows(TypedQuery<Tuple> query, List<String> fields) {
+        return query.getResultList().stream()
+                .map(tuple -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (int i = 0; i < fields.size(); i++) {
+                        row.put(fields.get(i), tuple.get(i));
+                    }
+                    return row;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static Map<String, String> fields(String alias, String... names) {
+        Map<String, String> paths = new LinkedHashMap<>();
+        for (String name : names) {
+            paths.put(name, alias + "." + name);
+        }
+        return Map.copyOf(paths);
+    }
+}
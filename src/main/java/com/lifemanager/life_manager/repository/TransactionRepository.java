@@ -2,20 +2,30 @@ package com.lifemanager.life_manager.repository;
 
 import com.lifemanager.life_manager.domain.Transaction;
 import com.lifemanager.life_manager.domain.TransactionType;
+import com.lifemanager.life_manager.dto.transaction.TransactionListItem;
+import com.lifemanager.life_manager.dto.transaction.TransactionResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
     // 기존 메서드 - 날짜 범위로 조회
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Transaction> findByUserIdAndTransactionDateBetween(
             Long userId,
             LocalDate startDate,
@@ -23,6 +33,7 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     );
 
     // 페이지네이션 메서드 추가
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     Page<Transaction> findByUserIdAndTransactionDateBetween(
             Long userId,
             LocalDate startDate,
@@ -30,9 +41,23 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             Pageable pageable
     );
 
+    // 목록 화면 - 엔티티/스냅샷 없이 필요한 컬럼만 (description 제외)
+    @Query(value = "SELECT new com.lifemanager.life_manager.dto.transaction.TransactionListItem(" +
+            "t.id, t.type, t.amount, t.category, t.transactionDate, t.changeVersion, t.createdAt, t.updatedAt) " +
+            "FROM Transaction t WHERE t.user.id = :userId " +
+            "AND t.transactionDate BETWEEN :startDate AND :endDate",
+            countQuery = "SELECT COUNT(t) FROM Transaction t WHERE t.user.id = :userId " +
+                    "AND t.transactionDate BETWEEN :startDate AND :endDate")
+    Page<TransactionListItem> findListItemsByUserIdAndTransactionDateBetween(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable
+    );
+
     // Summary 계산 - 총 수입
     @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
-            "WHERE t.user.id = :userId " +
+            "WHERE t.user.id = :userId AND t.deleted = false " +
             "AND t.transactionDate BETWEEN :startDate AND :endDate " +
             "AND t.type = :type")
     BigDecimal sumAmountByUserIdAndTypeAndDateBetween(
@@ -41,4 +66,141 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
-}
\ No newline at end of file
+
+    // 아젠다 키셋 페이지 - (transactionDate, id) 가 커서 다음이고 endDate 이전인 거래
+    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId " +
+            "AND (t.transactionDate > :date OR (t.transactionDate = :date AND t.id > :afterId)) " +
+            "AND t.transactionDate < :endDate " +
+            "ORDER BY t.transactionDate ASC, t.id ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Transaction> findAgendaPage(
+            @Param("userId") Long userId,
+            @Param("date") LocalDate date,
+            @Param("afterId") long afterId,
+            @Param("endDate") LocalDate endDate,
+            Limit limit
+    );
+
+    // 조건에 맞는 거래의 카테고리를 한 번에 변경 (category/type 이 null 이면 조건에서 제외)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Transaction t SET t.category = :newCategory, t.changeVersion = :version, t.updatedAt = :now " +
+            "WHERE t.user.id = :userId AND t.deleted = false " +
+            "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+            "AND (:category IS NULL OR t.category = :category) " +
+            "AND (:type IS NULL OR t.type = :type)")
+    int recategorize(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("category") String category,
+            @Param("type") TransactionType type,
+            @Param("newCategory") String newCategory,
+            @Param("version") long version,
+            @Param("now") LocalDateTime now
+    );
+
+    // 기간 내 거래 일괄 삭제 (툼스톤으로 표시)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Transaction t SET t.deleted = true, t.changeVersion = :version, t.updatedAt = :now " +
+            "WHERE t.user.id = :userId AND t.deleted = false AND t.transactionDate BETWEEN :startDate AND :endDate")
+    int deleteByUserIdAndTransactionDateBetween(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("version") long version,
+            @Param("now") LocalDateTime now
+    );
+
+    // 동기화 - since < change_version <= upTo 인 행 (툼스톤 포함이라 네이티브 쿼리)
+    @Query(value = "SELECT * FROM transactions WHERE user_id = :userId " +
+            "AND change_version > :since AND change_version <= :upTo " +
+            "ORDER BY change_version, id LIMIT :limit", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Transaction> findChangedSince(
+            @Param("userId") Long userId,
+            @Param("since") long since,
+            @Param("upTo") long upTo,
+            @Param("limit") int limit
+    );
+
+    // 소유자/마감/버전 조건을 건 단건 수정 - 0 이면 없거나, 다른 사용자의 거래거나, 마감된 기간이거나, If-Match 버전과 다름
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Transaction t SET t.type = :type, t.amount = :amount, t.category = :category, " +
+            "t.description = :description, t.transactionDate = :transactionDate, " +
+            "t.changeVersion = :version, t.updatedAt = :now " +
+            "WHERE t.id = :id AND t.user.id = :userId AND t.deleted = false " +
+            "AND (:writableFrom IS NULL OR t.transactionDate >= :writableFrom) " +
+            "AND (:expectedVersion IS NULL OR t.changeVersion = :expectedVersion)")
+    int updateByIdAndUserId(
+            @Param("id") Long id,
+            @Param("userId") Long userId,
+            @Param("type") TransactionType type,
+            @Param("amount") BigDecimal amount,
+            @Param("category") String category,
+            @Param("description") String description,
+            @Param("transactionDate") LocalDate transactionDate,
+            @Param("writableFrom") LocalDate writableFrom,
+            @Param("expectedVersion") Long expectedVersion,
+            @Param("version") long version,
+            @Param("now") LocalDateTime now
+    );
+
+    // 소유자/마감 조건을 건 단건 삭제 표시
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Transaction t SET t.deleted = true, t.changeVersion = :version, t.updatedAt = :now " +
+            "WHERE t.id = :id AND t.user.id = :userId AND t.deleted = false " +
+            "AND (:writableFrom IS NULL OR t.transactionDate >= :writableFrom)")
+    int deleteByIdAndUserId(
+            @Param("id") Long id,
+            @Param("userId") Long userId,
+            @Param("writableFrom") LocalDate writableFrom,
+            @Param("version") long version,
+            @Param("now") LocalDateTime now
+    );
+
+    // 수정/삭제가 0 건일 때 404/403 구분용
+    @Query("SELECT t.user.id FROM Transaction t WHERE t.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+
+    // 수정이 0 건일 때 마감(400)과 버전 충돌(412) 구분용
+    @Query("SELECT t.changeVersion FROM Transaction t WHERE t.id = :id")
+    Optional<Long> findChangeVersionById(@Param("id") Long id);
+
+    // 수정 응답 - 엔티티를 올리지 않고 바로 DTO 로
+    @Query("SELECT new com.lifemanager.life_manager.dto.transaction.TransactionResponse(" +
+            "t.id, t.type, t.amount, t.category, t.description, t.transactionDate, " +
+            "t.changeVersion, t.createdAt, t.updatedAt) " +
+            "FROM Transaction t WHERE t.id = :id")
+    Optional<TransactionResponse> findResponseById(@Param("id") Long id);
+
+    // 회원 탈퇴 - 삭제 표시된 행까지 실제로 지운다 (@SQLDelete 를 거치지 않도록 네이티브).
+    // 건드리는 테이블을 알려 주지 않으면 Hibernate 가 2차 캐시 전체를 비운다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM transactions WHERE user_id = :userId", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "transactions"))
+    int purgeByUserId(@Param("userId") Long userId);
+
+    // 변경 버전 도입 전에 만들어져 change_version 이 0 인 행이 있는 사용자 (since=0 동기화에서 빠지므로 버전을 매긴다)
+    @Query(value = "SELECT DISTINCT user_id FROM transactions WHERE change_version = 0", nativeQuery = true)
+    List<Long> findUserIdsWithUnversionedRows();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE transactions SET change_version = :version WHERE user_id = :userId AND change_version = 0",
+            nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "transactions"))
+    int stampUnversioned(@Param("userId") Long userId, @Param("version") long version);
+
+    // 보관 기간이 지난 툼스톤
+    @Query(value = "SELECT DISTINCT user_id FROM transactions WHERE deleted = true AND updated_at < :cutoff", nativeQuery = true)
+    List<Long> findUserIdsWithTombstonesBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Query(value = "SELECT MAX(change_version) FROM transactions " +
+            "WHERE user_id = :userId AND deleted = true AND updated_at < :cutoff", nativeQuery = true)
+    Long findMaxTombstoneVersionBefore(@Param("userId") Long userId, @Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM transactions WHERE user_id = :userId AND deleted = true AND change_version <= :version",
+            nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "transactions"))
+    int purgeTombstones(@Param("userId") Long userId, @Param("version") long version);
+}
@@ -0,0 +1,31 @@
+package com.lifemanager.life_manager.repository;
+
+import com.lifemanager.life_manager.domain.UserChangeVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserChangeVersionRepository extends JpaRepository<UserChangeVersion, Long> {
+
+    // 카운터 행을 잠그고 1 올린다 (잠금은 커밋까지 유지)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserChangeVersion v SET v.currentVersion = v.currentVersion + 1 WHERE v.userId = :userId")
+    int increment(@Param("userId") Long userId);
+
+    @Query("SELECT v.currentVersion FROM UserChangeVersion v WHERE v.userId = :userId")
+    Optional<Long> findCurrentVersion(@Param("userId") Long userId);
+
+    @Query("SELECT v.purgedVersion FROM UserChangeVersion v WHERE v.userId = :userId")
+    Optional<Long> findPurgedVersion(@Param("userId") Long userId);
+
+    // 툼스톤을 지우는 트랜잭션 안에서 올린다 (내려가지는 않는다)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserChangeVersion v SET v.purgedVersion = :version " +
+            "WHERE v.userId = :userId AND v.purgedVersion < :version")
+    int raisePurgedVersion(@Param("userId") Long userId, @Param("version") long version);
+}
@@ -0,0 +1,11 @@
+package com.lifemanager.life_manager.repository;
+
+import com.lifemanager.life_manager.domain.User;
+
+import java.util.Optional;
+
+// UserRepository 조각 - 이메일(natural id) 조회를 2차 캐시를 거치는 natural id 로드로 한다
+public interface UserNaturalIdLookup {
+
+    Optional<User> findByEmail(String email);
+}
@@ -0,0 +1,24 @@
+package com.lifemanager.life_manager.repository;
+
+import com.lifemanager.life_manager.domain.User;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+// JPQL 로 찾으면 매번 users 를 조회하므로, 이메일 -> id 는 natural id 캐시에서, 엔티티는 엔티티 캐시에서 찾는다
+@RequiredArgsConstructor
+public class UserNaturalIdLookupImpl implements UserNaturalIdLookup {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
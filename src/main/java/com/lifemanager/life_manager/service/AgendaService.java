@@ -0,0 +1,82 @@
+package com.lifemanager.life_manager.service;
+
+import com.lifemanager.life_manager.agenda.AgendaCursor;
+import com.lifemanager.life_manager.agenda.AgendaMerger;
+import com.lifemanager.life_manager.agenda.KeysetSource;
+import com.lifemanager.life_manager.dto.agenda.AgendaItem;
+import com.lifemanager.life_manager.dto.agenda.AgendaItemType;
+import com.lifemanager.life_manager.dto.agenda.AgendaPage;
+import com.lifemanager.life_manager.repository.ScheduleRepository;
+import com.lifemanager.life_manager.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AgendaService {
+
+    private final ScheduleRepository scheduleRepository;
+    private final TransactionRepository transactionRepository;
+
+    // [start, end) 의 일정과 거래를 시간순으로 합친 한 페이지. cursor 가 있으면 그 다음부터
+    public AgendaPage getAgenda(Long userId, LocalDateTime start, LocalDateTime end, String cursor, int size) {
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("종료 시간은 시작 시간보다 뒤여야 합니다");
+        }
+
+        AgendaCursor after = cursor != null ? AgendaCursor.decode(cursor) : AgendaCursor.before(start);
+        if (after.getTime().isBefore(start)) {
+            after = AgendaCursor.before(start);
+        }
+
+        // 한 페이지 + 다음 페이지 유무 확인용 1개. 소스는 모자랄 때만 다음 배치를 읽는다
+        int batchSize = size + 1;
+        LocalDate endDate = exclusiveEndDate(end);
+        KeysetSource schedules = new KeysetSource(after, batchSize,
+                (position, limit) -> fetchSchedules(userId, position, end, limit));
+        KeysetSource transactions = new KeysetSource(after, batchSize,
+                (position, limit) -> fetchTransactions(userId, position, endDate, limit));
+
+        List<AgendaItem> items = AgendaMerger.merge(List.of(schedules, transactions), size + 1);
+        boolean hasNext = items.size() > size;
+        if (hasNext) {
+            items = items.subList(0, size);
+        }
+
+        return AgendaPage.builder()
+                .items(items)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? AgendaCursor.of(items.get(items.size() - 1)).encode() : null)
+                .build();
+    }
+
+    private List<AgendaItem> fetchSchedules(Long userId, AgendaCursor after, LocalDateTime end, int limit) {
+        long afterId = after.afterIdFor(AgendaItemType.SCHEDULE.ordinal());
+        return scheduleRepository.findAgendaPage(userId, after.getTime(), afterId, end, Limit.of(limit)).stream()
+                .map(AgendaItem::from)
+                .toList();
+    }
+
+    private List<AgendaItem> fetchTransactions(Long userId, AgendaCursor after, LocalDate endDate, int limit) {
+        // 거래의 정렬 시각은 거래일 00:00 이라서, 커서가 하루 중간이면 그날 거래는 이미 지나갔다
+        long afterId = after.getTime().toLocalTime().equals(LocalTime.MIDNIGHT)
+                ? after.afterIdFor(AgendaItemType.TRANSACTION.ordinal())
+                : Long.MAX_VALUE;
+        return transactionRepository.findAgendaPage(userId, after.getTime().toLocalDate(), afterId, endDate, Limit.of(limit)).stream()
+                .map(AgendaItem::from)
+                .toList();
+    }
+
+    // 거래일 00:00 < end 인 마지막 날의 다음 날
+    private LocalDate exclusiveEndDate(LocalDateTime end) {
+        return end.toLocalTime().equals(LocalTime.MIDNIGHT) ? end.toLocalDate() : end.toLocalDate().plusDays(1);
+    }
+}
@@ -0,0 +1,55 @@
+package com.lifemanager.life_manager.service;
+
+import com.lifemanager.life_manager.config.ReplicaLagGuard;
+import com.lifemanager.life_manager.domain.UserChangeVersion;
+import com.lifemanager.life_manager.repository.UserChangeVersionRepository;
+import com.lifemanager.life_manager.repository.UserRepository;
+import com.lifemanager.life_manager.shard.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class ChangeVersionService {
+
+    private final UserChangeVersionRepository userChangeVersionRepository;
+    private final UserRepository userRepository;
+    private final ReplicaLagGuard replicaLagGuard;
+    private final ShardRouter shardRouter;
+
+    // 쓰기 트랜잭션 안에서 다음 변경 버전을 받는다.
+    // 카운터 행 잠금이 커밋까지 유지되므로, 커밋된 버전 이하의 변경은 모두 이미 커밋돼 있다.
+    // 일정/거래 쓰기는 모두 여기를 지나므로 샤드 이동 중 쓰기 차단과 replica lag-guard 기록도 여기서 한다
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long next(Long userId) {
+        shardRouter.checkWritable(userId);
+        replicaLagGuard.recordWrite(userId);
+        int updated = userChangeVersionRepository.increment(userId);
+        // 잠금을 얻는 동안 이동이 시작됐을 수 있으니 다시 본다 (이동은 이 행을 잠그고 복사한다 - ShardRebalancer)
+        shardRouter.checkWritable(userId);
+        if (updated == 0) {
+            // 첫 쓰기 - 사용자 행을 잠가 동시에 카운터 행을 만들지 않게 한다
+            userRepository.findWithLockById(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+            if (userChangeVersionRepository.increment(userId) == 0) {
+                userChangeVersionRepository.saveAndFlush(new UserChangeVersion(userId, 1, 0));
+                return 1;
+            }
+        }
+        return userChangeVersionRepository.findCurrentVersion(userId).orElseThrow();
+    }
+
+    // 마지막으로 커밋된 변경 버전 (쓰기 전이면 0)
+    @Transactional(readOnly = true)
+    public long current(Long userId) {
+        return userChangeVersionRepository.findCurrentVersion(userId).orElse(0L);
+    }
+
+    // 이 버전 이하의 툼스톤은 지워졌다
+    @Transactional(readOnly = true)
+    public long purged(Long userId) {
+        return userChangeVersionRepository.findPurgedVersion(userId).orElse(0L);
+    }
+}
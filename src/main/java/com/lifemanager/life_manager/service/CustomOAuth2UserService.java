@@ -1,5 +1,6 @@
 package com.lifemanager.life_manager.service;
 
+import com.lifemanager.life_manager.config.UserContext;
 import com.lifemanager.life_manager.domain.User;
 import com.lifemanager.life_manager.dto.auth.*;
 import com.lifemanager.life_manager.repository.UserRepository;
@@ -22,6 +23,7 @@ import java.util.UUID;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final UserService userService;
     private final PasswordEncoder passwordEncoder;
 
     @Override
@@ -56,24 +58,25 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     private User saveOrUpdate(OAuth2UserInfo oAuth2UserInfo) {
         String email = oAuth2UserInfo.getProvider() + "_" + oAuth2UserInfo.getEmail();
 
-        Optional<User> userOptional = userRepository.findByEmail(email);
+        Optional<User> userOptional = userService.findOptionalByEmail(email);
 
-        User user;
         if (userOptional.isPresent()) {
-            user = userOptional.get();
+            // 사용자가 있는 샤드에 쓴다
+            User user = userOptional.get();
             user.setName(oAuth2UserInfo.getName());
-        } else {
-            user = User.builder()
-                    .email(email)
-                    .password(passwordEncoder.encode(UUID.randomUUID().toString()))
-                    .name(oAuth2UserInfo.getName())
-                    .provider(oAuth2UserInfo.getProvider())
-                    .providerId(oAuth2UserInfo.getProviderId())
-                    .build();
-            log.info("새로운 OAuth2 사용자 등록 - provider: {}, email: {}",
-                    oAuth2UserInfo.getProvider(), oAuth2UserInfo.getEmail());
+            return UserContext.callAs(user.getId(), () -> userRepository.save(user));
         }
 
-        return userRepository.save(user);
+        User user = User.builder()
+                .email(email)
+                .password(passwordEncoder.encode(UUID.randomUUID().toString()))
+                .name(oAuth2UserInfo.getName())
+                .provider(oAuth2UserInfo.getProvider())
+                .providerId(oAuth2UserInfo.getProviderId())
+                .build();
+        log.info("새로운 OAuth2 사용자 등록 - provider: {}, email: {}",
+                oAuth2UserInfo.getProvider(), oAuth2UserInfo.getEmail());
+
+        return userService.register(user);
     }
 }
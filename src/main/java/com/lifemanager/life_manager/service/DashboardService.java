@@ -0,0 +1,127 @@
+package com.lifemanager.life_manager.service;
+
+import com.lifemanager.life_manager.config.QueryDeadline;
+import com.lifemanager.life_manager.config.UserContext;
+import com.lifemanager.life_manager.dto.dashboard.DashboardResponse;
+import com.lifemanager.life_manager.dto.schedule.ScheduleResponse;
+import com.lifemanager.life_manager.dto.transaction.TransactionListItem;
+import com.lifemanager.life_manager.dto.transaction.TransactionSummary;
+import com.lifemanager.life_manager.dto.user.UserResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// 홈 화면에 필요한 조회를 제한된 풀에서 동시에 돌리고, 마감 시간까지 끝난 것만 모아 돌려준다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+
+    private static final int RECENT_TRANSACTION_DAYS = 30;
+    private static final int RECENT_TRANSACTION_COUNT = 10;
+    private static final int NEXT_SCHEDULE_COUNT = 5;
+
+    private final UserService userService;
+    private final ScheduleService scheduleService;
+    private final TransactionService transactionService;
+
+    @Value("${dashboard.timeout-ms:800}")
+    private long timeoutMs;
+
+    // 동시에 DB 커넥션을 잡는 작업 수 상한 - 커넥션 풀보다 작게
+    @Value("${dashboard.threads:8}")
+    private int threads;
+
+    @Value("${dashboard.queue-size:200}")
+    private int queueSize;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void start() {
+        // 대기열이 차면 거절 → 해당 항목만 unavailable 로 처리
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), new CustomizableThreadFactory("dashboard-"));
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public DashboardResponse getDashboard(Long userId) {
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+
+        Future<UserResponse> profile = submit(deadline, () -> userService.getUserById(userId));
+        Future<TransactionSummary> summary = submit(deadline, () ->
+                transactionService.getSummary(userId, today.withDayOfMonth(1), today.withDayOfMonth(today.lengthOfMonth())));
+        Future<List<ScheduleResponse>> todaySchedules = submit(deadline, () ->
+                scheduleService.getSchedulesByDateRange(userId, today.atStartOfDay(), today.atTime(23, 59, 59)));
+        Future<List<ScheduleResponse>> nextSchedules = submit(deadline, () ->
+                scheduleService.getNextSchedules(userId, now, NEXT_SCHEDULE_COUNT));
+        Future<List<TransactionListItem>> recentTransactions = submit(deadline, () ->
+                transactionService.getTransactionList(userId, today.minusDays(RECENT_TRANSACTION_DAYS), today,
+                                PageRequest.of(0, RECENT_TRANSACTION_COUNT,
+                                        Sort.by(Sort.Direction.DESC, "transactionDate", "id")))
+                        .getContent());
+
+        List<String> unavailable = new ArrayList<>();
+        return DashboardResponse.builder()
+                .profile(await("profile", profile, deadline, unavailable))
+                .monthlySummary(await("monthlySummary", summary, deadline, unavailable))
+                .todaySchedules(await("todaySchedules", todaySchedules, deadline, unavailable))
+                .nextSchedules(await("nextSchedules", nextSchedules, deadline, unavailable))
+                .recentTransactions(await("recentTransactions", recentTransactions, deadline, unavailable))
+                .unavailable(unavailable)
+                .build();
+    }
+
+    // 요청 스레드의 사용자를 넘겨 replica lag-guard 가 병렬 조회에도 적용되게 한다.
+    // FutureTask 라 시간 초과 때 cancel 이 작업 스레드를 interrupt 하고, 쿼리에는 남은 시간만큼 timeout 이 걸린다
+    private <T> Future<T> submit(long deadline, Supplier<T> query) {
+        Long userId = UserContext.currentUser();
+        try {
+            return executor.submit(() -> UserContext.callAs(userId, () -> QueryDeadline.callWithin(deadline, query)));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // 남은 시간만큼만 기다리고, 늦거나 실패한 항목은 비워 둔다
+    private <T> T await(String name, Future<T> future, long deadline, List<String> unavailable) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("대시보드 {} 조회 시간 초과", name);
+        } catch (ExecutionException e) {
+            log.warn("대시보드 {} 조회 실패", name, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        unavailable.add(name);
+        return null;
+    }
+}
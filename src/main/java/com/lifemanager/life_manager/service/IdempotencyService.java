@@ -0,0 +1,231 @@
+package com.lifemanager.life_manager.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lifemanager.life_manager.domain.IdempotencyKey;
+import com.lifemanager.life_manager.exception.RequestInProgressException;
+import com.lifemanager.life_manager.repository.IdempotencyKeyRepository;
+import com.lifemanager.life_manager.shard.ShardRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// Idempotency-Key 가 붙은 생성 요청을 한 번만 실행한다.
+// 처음 요청은 쓰기와 키 저장을 한 트랜잭션으로 묶고, 재시도는 메모리 캐시 -> 테이블 순으로 찾아 저장된 응답을 그대로 돌려준다.
+// 같은 키로 동시에 들어온 요청은 먼저 시작한 실행이 끝나기를 wait-timeout 까지 기다리고, 그래도 진행 중이면 409 로 돌려보낸다
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ShardRouter shardRouter;
+    private final Duration ttl;
+    private final long waitTimeoutNanos;
+
+    private final Map<Key, Stored> recent;
+    private final Map<Key, CompletableFuture<Stored>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              ShardRouter shardRouter,
+                              @Value("${idempotency.ttl:PT24H}") Duration ttl,
+                              @Value("${idempotency.cache.max-size:10000}") int cacheSize,
+                              @Value("${idempotency.wait-timeout:PT5S}") Duration waitTimeout) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.shardRouter = shardRouter;
+        this.ttl = ttl;
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+        this.recent = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Stored> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    // key 가 없으면 그냥 실행. scope 는 엔드포인트 구분용 ("POST /api/transactions")
+    public <T> T execute(Long userId, String key, String scope, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 는 1~" + MAX_KEY_LENGTH + "자여야 합니다");
+        }
+
+        String requestHash = hash(scope, request);
+        Key id = new Key(userId, key);
+
+        Stored cached = cached(id);
+        if (cached != null) {
+            count("replayed");
+            return replay(cached, requestHash, responseType);
+        }
+
+        CompletableFuture<Stored> mine = new CompletableFuture<>();
+        CompletableFuture<Stored> leader = inFlight.putIfAbsent(id, mine);
+        if (leader != null) {
+            count("waited");
+            try {
+                return replay(leader.get(waitTimeoutNanos, TimeUnit.NANOSECONDS), requestHash, responseType);
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+            } catch (TimeoutException e) {
+                count("in-progress");
+                throw new RequestInProgressException("같은 Idempotency-Key 요청이 아직 처리 중입니다");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RequestInProgressException("같은 Idempotency-Key 요청이 아직 처리 중입니다");
+            }
+        }
+
+        try {
+            Stored stored = executeOnce(id, requestHash, responseType, action);
+            synchronized (recent) {
+                recent.put(id, stored);
+            }
+            mine.complete(stored);
+            return replay(stored, requestHash, responseType);
+        } catch (RuntimeException e) {
+            // 실패한 요청은 저장하지 않는다 - 같은 키로 다시 보내면 다시 실행
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(id, mine);
+        }
+    }
+
+    // 만료된 키 정리 (샤드마다)
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval:PT10M}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        shardRouter.forEachShard(shard -> {
+            Integer purged = transactionTemplate.execute(status -> idempotencyKeyRepository.deleteAllExpired(now));
+            if (purged != null && purged > 0) {
+                log.debug("만료된 Idempotency-Key {}건 삭제 ({})", purged, shard);
+            }
+        });
+    }
+
+    private <T> Stored executeOnce(Key id, String requestHash, Class<T> responseType, Supplier<T> action) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<Stored> saved = load(id, responseType, now);
+        if (saved.isPresent()) {
+            count("replayed");
+            return saved.get();
+        }
+
+        try {
+            Stored stored = transactionTemplate.execute(status -> {
+                idempotencyKeyRepository.deleteExpired(id.userId(), id.key(), now);
+                T response = action.get();
+                LocalDateTime expiresAt = now.plus(ttl);
+                idempotencyKeyRepository.saveAndFlush(IdempotencyKey.builder()
+                        .userId(id.userId())
+                        .idempotencyKey(id.key())
+                        .requestHash(requestHash)
+                        .responseBody(write(response))
+                        .expiresAt(expiresAt)
+                        .build());
+                return new Stored(requestHash, response, expiresAt);
+            });
+            count("executed");
+            return stored;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 키를 먼저 저장했다 - 이쪽 쓰기는 롤백됐으니 그 응답을 돌려준다
+            return load(id, responseType, now).orElseThrow(() -> e);
+        }
+    }
+
+    private Stored cached(Key id) {
+        synchronized (recent) {
+            Stored stored = recent.get(id);
+            if (stored != null && !stored.expiresAt().isAfter(LocalDateTime.now())) {
+                recent.remove(id);
+                return null;
+            }
+            return stored;
+        }
+    }
+
+    private <T> Optional<Stored> load(Key id, Class<T> responseType, LocalDateTime now) {
+        return idempotencyKeyRepository.findByUserIdAndIdempotencyKeyAndExpiresAtAfter(id.userId(), id.key(), now)
+                .map(row -> new Stored(row.getRequestHash(), read(row.getResponseBody(), responseType), row.getExpiresAt()));
+    }
+
+    private <T> T replay(Stored stored, String requestHash, Class<T> responseType) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IllegalArgumentException("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다");
+        }
+        return responseType.cast(stored.response());
+    }
+
+    private String hash(String scope, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(scope.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            return Base64.getEncoder().encodeToString(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String write(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T read(String json, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(json, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("idempotency.requests", "result", result).increment();
+    }
+
+    private record Key(Long userId, String key) {
+    }
+
+    // 응답은 여러 재시도가 공유하므로 수정하면 안 된다
+    private record Stored(String requestHash, Object response, LocalDateTime expiresAt) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.lifemanager.life_manager.service;
+
+import com.lifemanager.life_manager.calendar.IcsEvent;
+import com.lifemanager.life_manager.calendar.IcsReader;
+import com.lifemanager.life_manager.calendar.IcsWriter;
+import com.lifemanager.life_manager.config.AnalyticsPool;
+import com.lifemanager.life_manager.domain.Schedule;
+import com.lifemanager.life_manager.dto.schedule.ScheduleFeedStamp;
+import com.lifemanager.life_manager.event.ScheduleBulkChangedEvent;
+import com.lifemanager.life_manager.repository.ScheduleRepository;
+import com.lifemanager.life_manager.shard.ShardRouter;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ScheduleCalendarService {
+
+    private static final int IMPORT_BATCH_SIZE = 500;
+    private static final String INSERT_SQL = "INSERT INTO schedules " +
+            "(title, description, start_datetime, end_datetime, is_all_day, category, color, user_id, " +
+            "change_version, deleted, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, false, ?, ?)";
+    // 샤딩을 켜면 id 를 직접 넣는다 (ShardIds)
+    private static final String INSERT_WITH_ID_SQL = "INSERT INTO schedules " +
+            "(id, title, description, start_datetime, end_datetime, is_all_day, category, color, user_id, " +
+            "change_version, deleted, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false, ?, ?)";
+
+    private final ScheduleRepository scheduleRepository;
+    private final UserService userService;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final ChangeVersionService changeVersionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShardRouter shardRouter;
+
+    // 사용자의 전체 일정을 .ics 로 내보내기 (엔티티를 하나씩 쓰고 바로 detach 해서 메모리 일정 유지)
+    @AnalyticsPool
+    public void exportCalendar(Long userId, Writer writer) throws IOException {
+        IcsWriter icsWriter = new IcsWriter(writer, ZoneId.systemDefault());
+        icsWriter.beginCalendar("Life Manager");
+
+        try (Stream<Schedule> schedules = scheduleRepository.streamByUserId(userId)) {
+            Iterator<Schedule> iterator = schedules.iterator();
+            while (iterator.hasNext()) {
+                Schedule schedule = iterator.next();
+                icsWriter.writeEvent(schedule);
+                entityManager.detach(schedule);
+            }
+        }
+
+        icsWriter.endCalendar();
+    }
+
+    // 구독 피드 ETag - 일정 수와 마지막 수정 시각이 같으면 내용도 같다
+    public String getCalendarETag(Long userId) {
+        ScheduleFeedStamp stamp = scheduleRepository.findFeedStampByUserId(userId);
+        long lastUpdated = stamp.getLastUpdatedAt() != null
+                ? stamp.getLastUpdatedAt().toInstant(ZoneOffset.UTC).toEpochMilli()
+                : 0L;
+        return "\"ics-" + userId + "-" + stamp.getScheduleCount() + "-" + lastUpdated + "\"";
+    }
+
+    // .ics 가져오기 - VEVENT 를 읽는 대로 JDBC 배치로 저장한다
+    @Transactional
+    public int importCalendar(Long userId, Reader reader) throws IOException {
+        userService.getReference(userId);
+        long version = changeVersionService.next(userId);
+
+        IcsReader icsReader = new IcsReader(reader, ZoneId.systemDefault());
+        List<IcsEvent> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        int imported = 0;
+
+        IcsEvent event;
+        while ((event = icsReader.nextEvent()) != null) {
+            batch.add(event);
+            if (batch.size() == IMPORT_BATCH_SIZE) {
+                imported += insertBatch(userId, version, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            imported += insertBatch(userId, version, batch);
+        }
+        if (imported > 0) {
+            // JDBC 로 넣었으므로 인덱스 캐시/리마인더/변경 피드에 사용자 단위로 알린다
+            eventPublisher.publishEvent(new ScheduleBulkChangedEvent(userId, imported, version));
+        }
+
+        return imported;
+    }
+
+    private int insertBatch(Long userId, long version, List<IcsEvent> events) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean sharded = shardRouter.isEnabled();
+        jdbcTemplate.batchUpdate(sharded ? INSERT_WITH_ID_SQL : INSERT_SQL, events, events.size(), (ps, event) -> {
+            int p = 0;
+            if (sharded) {
+                ps.setLong(++p, shardRouter.nextId());
+            }
+            ps.setString(++p, event.getTitle());
+            ps.setString(++p, event.getDescription());
+            ps.setObject(++p, event.getStartDatetime());
+            ps.setObject(++p, event.getEndDatetime());
+            ps.setBoolean(++p, event.isAllDay());
+            ps.setString(++p, event.getCategory());
+            ps.setString(++p, event.getColor());
+            ps.setLong(++p, userId);
+            ps.setLong(++p, version);
+            ps.setObject(++p, now);
+            ps.setObject(++p, now);
+        });
+        return events.size();
+    }
+}
@@ -1,11 +1,26 @@
 package com.lifemanager.life_manager.service;
 
+import com.lifemanager.life_manager.cache.ScheduleIndexCache;
+import com.lifemanager.life_manager.cache.SingleFlight;
+import com.lifemanager.life_manager.config.AnalyticsPool;
 import com.lifemanager.life_manager.domain.Schedule;
 import com.lifemanager.life_manager.domain.User;
+import com.lifemanager.life_manager.dto.schedule.ScheduleAnalyticsResponse;
+import com.lifemanager.life_manager.dto.schedule.ScheduleListItem;
 import com.lifemanager.life_manager.dto.schedule.ScheduleRequest;
 import com.lifemanager.life_manager.dto.schedule.ScheduleResponse;
+import com.lifemanager.life_manager.dto.schedule.ScheduleTimeAllocation;
+import com.lifemanager.life_manager.event.ChangeType;
+import com.lifemanager.life_manager.event.ScheduleBulkChangedEvent;
+import com.lifemanager.life_manager.event.ScheduleChangedEvent;
+import com.lifemanager.life_manager.exception.ForbiddenException;
+import com.lifemanager.life_manager.exception.PreconditionFailedException;
+import com.lifemanager.life_manager.exception.ResourceNotFoundException;
 import com.lifemanager.life_manager.repository.ScheduleRepository;
+import com.lifemanager.life_manager.repository.SparseFieldRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -13,6 +28,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,11 +38,16 @@ public class ScheduleService {
 
     private final ScheduleRepository scheduleRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduleIndexCache scheduleIndexCache;
+    private final ChangeVersionService changeVersionService;
+    private final SparseFieldRepository sparseFieldRepository;
 
     // 스케줄 생성
     @Transactional
     public ScheduleResponse createSchedule(Long userId, ScheduleRequest request) {
-        User user = userService.findById(userId);
+        User user = userService.getReference(userId);
+        long version = changeVersionService.next(userId);
 
         Schedule schedule = Schedule.builder()
                 .user(user)
@@ -37,10 +58,15 @@ public class ScheduleService {
                 .isAllDay(request.getIsAllDay())
                 .category(request.getCategory())
                 .color(request.getColor())
+                .reminderMinutes(request.getReminderMinutes())
+                .reminderAt(reminderAt(request))
+                .changeVersion(version)
                 .build();
 
         Schedule saved = scheduleRepository.save(schedule);
-        return ScheduleResponse.from(saved);
+        ScheduleResponse response = ScheduleResponse.from(saved);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(userId, saved.getId(), ChangeType.CREATED, version, response));
+        return response;
 
     }
 
@@ -49,46 +75,185 @@ public class ScheduleService {
         return scheduleRepository.findByUserId(userId, pageable);
     }
 
+    // 목록 화면용 - 엔티티를 올리지 않고 프로젝션으로 바로 조회
+    public Page<ScheduleListItem> getScheduleList(Long userId, Pageable pageable) {
+        return scheduleRepository.findListItemsByUserId(userId, pageable);
+    }
+
+    // 목록 화면 - 요청한 필드만 조회 (?fields=id,title,startDatetime)
+    public Page<Map<String, Object>> getScheduleList(Long userId, String fields, Pageable pageable) {
+        List<String> selected = SparseFieldRepository.parse(fields, SparseFieldRepository.SCHEDULE_FIELDS);
+        return sparseFieldRepository.findSchedules(userId, selected, pageable);
+    }
+
+    // 기간 조회 - 요청한 필드만 (인덱스 캐시를 거치지 않고 고른 컬럼만 읽는다)
+    public List<Map<String, Object>> getSchedulesByDateRange(Long userId, LocalDateTime start, LocalDateTime end,
+                                                             String fields) {
+        List<String> selected = SparseFieldRepository.parse(fields, SparseFieldRepository.SCHEDULE_FIELDS);
+        return sparseFieldRepository.findSchedulesBetween(userId, start, end, selected);
+    }
+
+    // 일정 상세 (설명 포함)
+    public ScheduleResponse getSchedule(Long scheduleId, Long userId) {
+        Schedule schedule = scheduleRepository.findById(scheduleId)
+                .orElseThrow(() -> new ResourceNotFoundException("일정을 찾을 수 없습니다"));
+
+        if (!schedule.getUser().getId().equals(userId)) {
+            throw new ForbiddenException("해당 일정을 조회할 권한이 없습니다");
+        }
+        return ScheduleResponse.from(schedule);
+    }
+
     // UserId에 맞으면서 날짜 범위에 해당하는 스케줄을 조회
+    @SingleFlight
     public List<ScheduleResponse> getSchedulesByDateRange(Long userId, LocalDateTime start, LocalDateTime end) {
-        return scheduleRepository.findByUserIdAndStartDatetimeBetween(userId, start, end)
-                .stream()
-                .map(ScheduleResponse::from)
-                .collect(Collectors.toList());
+        return scheduleIndexCache.get(userId)
+                .map(index -> index.startingBetween(start, end))
+                .orElseGet(() -> scheduleRepository.findByUserIdAndStartDatetimeBetween(userId, start, end)
+                        .stream()
+                        .map(ScheduleResponse::from)
+                        .collect(Collectors.toList()));
+    }
+
+    // 지금 진행 중인 일정
+    public List<ScheduleResponse> getCurrentSchedules(Long userId, LocalDateTime now) {
+        return scheduleIndexCache.get(userId)
+                .map(index -> index.happeningAt(now))
+                .orElseGet(() -> scheduleRepository
+                        .findByUserIdAndStartDatetimeLessThanEqualAndEndDatetimeGreaterThanOrderByStartDatetimeAsc(userId, now, now)
+                        .stream()
+                        .map(ScheduleResponse::from)
+                        .collect(Collectors.toList()));
+    }
+
+    // 다음 일정 count 개
+    public List<ScheduleResponse> getNextSchedules(Long userId, LocalDateTime after, int count) {
+        return scheduleIndexCache.get(userId)
+                .map(index -> index.next(after, count))
+                .orElseGet(() -> scheduleRepository
+                        .findByUserIdAndStartDatetimeAfterOrderByStartDatetimeAsc(userId, after, Limit.of(count))
+                        .stream()
+                        .map(ScheduleResponse::from)
+                        .collect(Collectors.toList()));
+    }
+
+    // 기간 내 카테고리/색상별 시간 배분 (DB 에서 집계)
+    @AnalyticsPool
+    public ScheduleAnalyticsResponse getTimeAllocation(Long userId, LocalDateTime start, LocalDateTime end) {
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("종료 시간은 시작 시간보다 뒤여야 합니다");
+        }
+
+        return ScheduleAnalyticsResponse.builder()
+                .start(start)
+                .end(end)
+                .byCategory(scheduleRepository.sumDurationByCategory(userId, start, end).stream()
+                        .map(ScheduleTimeAllocation::from)
+                        .collect(Collectors.toList()))
+                .byColor(scheduleRepository.sumDurationByColor(userId, start, end).stream()
+                        .map(ScheduleTimeAllocation::from)
+                        .collect(Collectors.toList()))
+                .build();
     }
 
-    // 일정 수정
+    // 일정 수정 - 소유자 조건을 건 UPDATE 한 번 (엔티티를 올리지 않는다)
     @Transactional
     public ScheduleResponse updateSchedule(Long scheduleId, Long userId, ScheduleRequest request) {
-        Schedule schedule = scheduleRepository.findById(scheduleId)
-                .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다"));
+        return updateSchedule(scheduleId, userId, request, null);
+    }
 
-        if (!schedule.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("해당 일정을 수정할 권한이 없습니다");
+    // expectedVersion 이 있으면 행의 change_version 이 같을 때만 바꾼다 (If-Match). 잠금 없이 UPDATE 조건으로 충돌을 잡는다
+    @Transactional
+    public ScheduleResponse updateSchedule(Long scheduleId, Long userId, ScheduleRequest request, Long expectedVersion) {
+        long version = changeVersionService.next(userId);
+        int affected = scheduleRepository.updateByIdAndUserId(
+                scheduleId,
+                userId,
+                request.getTitle(),
+                request.getDescription(),
+                request.getStartDatetime(),
+                request.getEndDatetime(),
+                request.getIsAllDay(),
+                request.getCategory(),
+                request.getColor(),
+                request.getReminderMinutes(),
+                reminderAt(request),
+                expectedVersion,
+                version,
+                LocalDateTime.now()
+        );
+        if (affected == 0) {
+            throw rejection(scheduleId, userId, "수정", expectedVersion);
         }
 
-        schedule.setTitle(request.getTitle());
-        schedule.setDescription(request.getDescription());
-        schedule.setStartDatetime(request.getStartDatetime());
-        schedule.setEndDatetime(request.getEndDatetime());
-        schedule.setIsAllDay(request.getIsAllDay());
-        schedule.setCategory(request.getCategory());
-        schedule.setColor(request.getColor());
-
-        return ScheduleResponse.from(schedule);
+        // createdAt/updatedAt 까지 DB 값으로 응답을 만든다 (직렬화 캐시/인덱스가 같은 버전으로 보관)
+        ScheduleResponse response = scheduleRepository.findResponseById(scheduleId)
+                .orElseThrow(() -> new ResourceNotFoundException("일정을 찾을 수 없습니다"));
+        eventPublisher.publishEvent(new ScheduleChangedEvent(userId, scheduleId, ChangeType.UPDATED, version, response));
+        return response;
     }
 
-    // 일정 삭제
+    // 일정 삭제 - 소유자 조건을 건 UPDATE 한 번으로 삭제 표시
     @Transactional
     public void deleteSchedule(Long scheduleId, Long userId) {
-        Schedule schedule = scheduleRepository.findById(scheduleId)
-                .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다"));
+        long version = changeVersionService.next(userId);
+        int affected = scheduleRepository.deleteByIdAndUserId(scheduleId, userId, version, LocalDateTime.now());
+        if (affected == 0) {
+            throw rejection(scheduleId, userId, "삭제", null);
+        }
+        eventPublisher.publishEvent(new ScheduleChangedEvent(userId, scheduleId, ChangeType.DELETED, version, null));
+    }
 
-        // 권한 체크
-        if (!schedule.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("해당 일정을 삭제할 권한이 없습니다");
+    // 시작 시각이 [start, end] 인 일정을 한 번의 UPDATE 로 이동
+    @Transactional
+    public int shiftSchedules(Long userId, LocalDateTime start, LocalDateTime end, long shiftMinutes) {
+        validateRange(start, end);
+        if (shiftMinutes == 0) {
+            throw new IllegalArgumentException("이동할 시간은 0분이 아니어야 합니다");
         }
 
-        scheduleRepository.delete(schedule);
+        long version = changeVersionService.next(userId);
+        int affected = scheduleRepository.shiftByUserIdAndStartDatetimeBetween(
+                userId, start, end, shiftMinutes * 60, version, LocalDateTime.now());
+        if (affected > 0) {
+            eventPublisher.publishEvent(new ScheduleBulkChangedEvent(userId, affected, version));
+        }
+        return affected;
+    }
+
+    // 시작 시각이 [start, end] 인 일정을 한 번의 UPDATE 로 삭제 표시
+    @Transactional
+    public int deleteSchedulesInRange(Long userId, LocalDateTime start, LocalDateTime end) {
+        validateRange(start, end);
+
+        long version = changeVersionService.next(userId);
+        int affected = scheduleRepository.deleteByUserIdAndStartDatetimeBetween(userId, start, end, version, LocalDateTime.now());
+        if (affected > 0) {
+            eventPublisher.publishEvent(new ScheduleBulkChangedEvent(userId, affected, version));
+        }
+        return affected;
+    }
+
+    // 단건 수정/삭제가 0 건이면 없는 일정(404)인지, 남의 일정(403)인지, 버전 충돌(412)인지 구분한다
+    private IllegalArgumentException rejection(Long scheduleId, Long userId, String action, Long expectedVersion) {
+        return scheduleRepository.findUserIdById(scheduleId)
+                .filter(ownerId -> !ownerId.equals(userId) || expectedVersion != null)
+                .<IllegalArgumentException>map(ownerId -> ownerId.equals(userId)
+                        ? new PreconditionFailedException("다른 곳에서 먼저 수정된 일정입니다. 다시 조회한 뒤 수정해 주세요")
+                        : new ForbiddenException("해당 일정을 " + action + "할 권한이 없습니다"))
+                .orElseGet(() -> new ResourceNotFoundException("일정을 찾을 수 없습니다"));
+    }
+
+    private void validateRange(LocalDateTime start, LocalDateTime end) {
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("종료 시간은 시작 시간보다 뒤여야 합니다");
+        }
+    }
+
+    private LocalDateTime reminderAt(ScheduleRequest request) {
+        if (request.getReminderMinutes() == null) {
+            return null;
+        }
+        return request.getStartDatetime().minusMinutes(request.getReminderMinutes());
     }
 }
@@ -0,0 +1,124 @@
+package com.lifemanager.life_manager.service;
+
+import com.lifemanager.life_manager.config.UserContext;
+import com.lifemanager.life_manager.repository.ScheduleRepository;
+import com.lifemanager.life_manager.repository.TransactionRepository;
+import com.lifemanager.life_manager.repository.UserChangeVersionRepository;
+import com.lifemanager.life_manager.shard.ShardRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TreeSet;
+
+// 동기화용 change_version 관리.
+// 시작할 때 변경 버전 도입 전 행(change_version = 0)에 사용자별 버전을 매기고 (since=0 전체 동기화에 나오도록),
+// 보관 기간이 지난 툼스톤은 주기적으로 지우며 user_change_versions.purged_version 을 올린다
+@Slf4j
+@Component
+public class SyncMaintenance implements ApplicationRunner {
+
+    private final ScheduleRepository scheduleRepository;
+    private final TransactionRepository transactionRepository;
+    private final UserChangeVersionRepository userChangeVersionRepository;
+    private final ChangeVersionService changeVersionService;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean backfillOnStart;
+    private final Duration tombstoneRetention;
+
+    public SyncMaintenance(ScheduleRepository scheduleRepository,
+                           TransactionRepository transactionRepository,
+                           UserChangeVersionRepository userChangeVersionRepository,
+                           ChangeVersionService changeVersionService,
+                           ShardRouter shardRouter,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${sync.backfill-on-start:true}") boolean backfillOnStart,
+                           @Value("${sync.tombstone-retention:P30D}") Duration tombstoneRetention) {
+        this.scheduleRepository = scheduleRepository;
+        this.transactionRepository = transactionRepository;
+        this.userChangeVersionRepository = userChangeVersionRepository;
+        this.changeVersionService = changeVersionService;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backfillOnStart = backfillOnStart;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (backfillOnStart) {
+            backfill();
+        }
+    }
+
+    // 새 쓰기는 항상 1 이상의 버전을 받으므로 한 번 돌고 나면 다음부터는 대상이 없다
+    public int backfill() {
+        int[] users = {0};
+        shardRouter.forEachShard(shard -> {
+            for (Long userId : usersOf(scheduleRepository.findUserIdsWithUnversionedRows(),
+                    transactionRepository.findUserIdsWithUnversionedRows())) {
+                UserContext.callAs(userId, () -> transactionTemplate.execute(status -> {
+                    long version = changeVersionService.next(userId);
+                    scheduleRepository.stampUnversioned(userId, version);
+                    transactionRepository.stampUnversioned(userId, version);
+                    return null;
+                }));
+                users[0]++;
+            }
+        });
+        if (users[0] > 0) {
+            log.info("변경 버전이 없던 일정/거래에 버전 부여 - 사용자 {}명", users[0]);
+        }
+        return users[0];
+    }
+
+    @Scheduled(fixedDelayString = "${sync.purge-interval:PT1H}")
+    public void purgeTombstones() {
+        purgeTombstonesBefore(LocalDateTime.now().minus(tombstoneRetention));
+    }
+
+    // 사용자마다 한 트랜잭션에서 purged_version 을 올리고 그 버전 이하의 툼스톤을 지운다.
+    // 시각이 아니라 버전으로 지워서 "purged_version 이하 툼스톤은 없고 그 위는 모두 있다" 가 유지된다
+    int purgeTombstonesBefore(LocalDateTime cutoff) {
+        int[] purged = {0};
+        shardRouter.forEachShard(shard -> {
+            int before = purged[0];
+            for (Long userId : usersOf(scheduleRepository.findUserIdsWithTombstonesBefore(cutoff),
+                    transactionRepository.findUserIdsWithTombstonesBefore(cutoff))) {
+                Integer count = UserContext.callAs(userId, () -> transactionTemplate.execute(status -> {
+                    long version = Math.max(
+                            orZero(scheduleRepository.findMaxTombstoneVersionBefore(userId, cutoff)),
+                            orZero(transactionRepository.findMaxTombstoneVersionBefore(userId, cutoff)));
+                    userChangeVersionRepository.raisePurgedVersion(userId, version);
+                    return scheduleRepository.purgeTombstones(userId, version)
+                            + transactionRepository.purgeTombstones(userId, version);
+                }));
+                purged[0] += count != null ? count : 0;
+            }
+            if (purged[0] > before) {
+                log.debug("보관 기간이 지난 툼스톤 {}건 삭제 ({})", purged[0] - before, shard);
+            }
+        });
+        return purged[0];
+    }
+
+    // 사용자 id 순으로 처리해 다른 쓰기와 카운터 행을 같은 순서로 잠근다
+    private static TreeSet<Long> usersOf(List<Long> first, List<Long> second) {
+        TreeSet<Long> userIds = new TreeSet<>(first);
+        userIds.addAll(second);
+        return userIds;
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
@@ -0,0 +1,104 @@
+package com.lifemanager.life_manager.service;
+
+import com.lifemanager.life_manager.domain.Schedule;
+import com.lifemanager.life_manager.domain.Transaction;
+import com.lifemanager.life_manager.dto.schedule.ScheduleResponse;
+import com.lifemanager.life_manager.dto.sync.SyncResponse;
+import com.lifemanager.life_manager.dto.transaction.TransactionResponse;
+import com.lifemanager.life_manager.repository.ScheduleRepository;
+import com.lifemanager.life_manager.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SyncService {
+
+    private final ChangeVersionService changeVersionService;
+    private final ScheduleRepository scheduleRepository;
+    private final TransactionRepository transactionRepository;
+
+    // since 이후 바뀐 일정/거래와 삭제된 id. 한 번에 limit 개를 넘으면 버전 경계에서 끊는다
+    public SyncResponse getChanges(Long userId, long since, int limit) {
+        // 커밋된 버전을 먼저 읽는다. 이 버전 이하의 변경은 모두 커밋돼 있으므로 그 뒤 쿼리에서 빠지는 행이 없다
+        long current = changeVersionService.current(userId);
+        if (since >= current) {
+            return build(current, false, List.of(), List.of());
+        }
+
+        List<Schedule> schedules = scheduleRepository.findChangedSince(userId, since, current, limit + 1);
+        List<Transaction> transactions = transactionRepository.findChangedSince(userId, since, current, limit + 1);
+
+        // 일괄 변경은 여러 행이 같은 버전을 가지므로, 넘친 행의 버전 직전까지만 보낸다
+        long upTo = current;
+        if (schedules.size() > limit) {
+            upTo = Math.min(upTo, schedules.get(limit).getChangeVersion() - 1);
+        }
+        if (transactions.size() > limit) {
+            upTo = Math.min(upTo, transactions.get(limit).getChangeVersion() - 1);
+        }
+        if (upTo <= since) {
+            // 첫 버전 하나가 limit 보다 크다 - 그 버전은 나눌 수 없으니 통째로 보낸다
+            upTo = since + 1;
+            schedules = scheduleRepository.findChangedSince(userId, since, upTo, Integer.MAX_VALUE);
+            transactions = transactionRepository.findChangedSince(userId, since, upTo, Integer.MAX_VALUE);
+        }
+
+        // 툼스톤 정리는 purged_version 을 올린 트랜잭션에서 행을 지우므로, 행을 읽은 뒤에 확인해야 놓친 삭제가 없다
+        if (since > 0 && since < changeVersionService.purged(userId)) {
+            return SyncResponse.builder()
+                    .resyncRequired(true)
+                    .schedules(List.of())
+                    .deletedScheduleIds(List.of())
+                    .transactions(List.of())
+                    .deletedTransactionIds(List.of())
+                    .build();
+        }
+
+        return build(upTo, upTo < current, schedulesUpTo(schedules, upTo), transactionsUpTo(transactions, upTo));
+    }
+
+    private SyncResponse build(long version, boolean hasMore, List<Schedule> schedules, List<Transaction> transactions) {
+        List<ScheduleResponse> changedSchedules = new ArrayList<>();
+        List<Long> deletedScheduleIds = new ArrayList<>();
+        for (Schedule schedule : schedules) {
+            if (schedule.isDeleted()) {
+                deletedScheduleIds.add(schedule.getId());
+            } else {
+                changedSchedules.add(ScheduleResponse.from(schedule));
+            }
+        }
+
+        List<TransactionResponse> changedTransactions = new ArrayList<>();
+        List<Long> deletedTransactionIds = new ArrayList<>();
+        for (Transaction transaction : transactions) {
+            if (transaction.isDeleted()) {
+                deletedTransactionIds.add(transaction.getId());
+            } else {
+                changedTransactions.add(TransactionResponse.from(transaction));
+            }
+        }
+
+        return SyncResponse.builder()
+                .version(version)
+                .hasMore(hasMore)
+                .schedules(changedSchedules)
+                .deletedScheduleIds(deletedScheduleIds)
+                .transactions(changedTransactions)
+                .deletedTransactionIds(deletedTransactionIds)
+                .build();
+    }
+
+    private static List<Schedule> schedulesUpTo(List<Schedule> schedules, long version) {
+        return schedules.stream().filter(s -> s.getChangeVersion() <= version).toList();
+    }
+
+    private static List<Transaction> transactionsUpTo(List<Transaction> transactions, long version) {
+        return transactions.stream().filter(t -> t.getChangeVersion() <= version).toList();
+    }
+}
@@ -0,0 +1,42 @@
+package com.lifemanager.life_manager.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+// 지난 달 장부 마감. 켜져 있으면 매달 grace-days 가 지난 뒤 이전 달 거래는 바꿀 수 없고,
+// 그 기간의 요약은 다시 바뀌지 않으므로 오래 캐시해도 된다
+@Component
+public class TransactionPeriodLock {
+
+    private final boolean enabled;
+    private final int graceDays;
+
+    public TransactionPeriodLock(@Value("${transaction.period-lock.enabled:false}") boolean enabled,
+                                 @Value("${transaction.period-lock.grace-days:5}") int graceDays) {
+        this.enabled = enabled;
+        this.graceDays = graceDays;
+    }
+
+    // 이 날짜 이전은 마감됨
+    public LocalDate closedBefore(LocalDate today) {
+        LocalDate monthStart = today.withDayOfMonth(1);
+        return today.getDayOfMonth() > graceDays ? monthStart : monthStart.minusMonths(1);
+    }
+
+    public boolean isClosed(LocalDate date) {
+        return enabled && date.isBefore(closedBefore(LocalDate.now()));
+    }
+
+    // 이 날짜부터 변경 가능 (마감을 안 쓰면 null). 단건 UPDATE 조건에 그대로 넣는다
+    public LocalDate writableFrom() {
+        return enabled ? closedBefore(LocalDate.now()) : null;
+    }
+
+    public void checkWritable(LocalDate date) {
+        if (isClosed(date)) {
+            throw new IllegalArgumentException("마감된 기간의 거래는 변경할 수 없습니다");
+        }
+    }
+}
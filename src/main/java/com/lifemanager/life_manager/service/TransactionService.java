@@ -1,21 +1,37 @@
 package com.lifemanager.life_manager.service;
 
+import com.lifemanager.life_manager.cache.SingleFlight;
+import com.lifemanager.life_manager.config.AnalyticsPool;
 import com.lifemanager.life_manager.domain.Transaction;
 import com.lifemanager.life_manager.domain.TransactionType;
-import com.lifemanager.life_manager.domain.User;
+import com.lifemanager.life_manager.dto.transaction.TransactionListItem;
+import com.lifemanager.life_manager.dto.transaction.TransactionRecategorizeRequest;
 import com.lifemanager.life_manager.dto.transaction.TransactionRequest;
 import com.lifemanager.life_manager.dto.transaction.TransactionResponse;
 import com.lifemanager.life_manager.dto.transaction.TransactionSummary;
+import com.lifemanager.life_manager.event.ChangeType;
+import com.lifemanager.life_manager.event.TransactionBulkChangedEvent;
+import com.lifemanager.life_manager.event.TransactionChangedEvent;
+import com.lifemanager.life_manager.exception.ForbiddenException;
+import com.lifemanager.life_manager.exception.PreconditionFailedException;
+import com.lifemanager.life_manager.exception.ResourceNotFoundException;
+import com.lifemanager.life_manager.repository.SparseFieldRepository;
 import com.lifemanager.life_manager.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,24 +41,27 @@ public class TransactionService {
 
     private final TransactionRepository transactionRepository;
     private final UserService userService;
-
-    // 수입 또는 지출 기록
-    @Transactional
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeVersionService changeVersionService;
+    private final TransactionPeriodLock periodLock;
+    private final SparseFieldRepository sparseFieldRepository;
+    private final TransactionWriter transactionWriter;
+
+    // 수입 또는 지출 기록.
+    // batch 모드면 트랜잭션/커넥션 없이 큐에 넣고, writer 가 모아서 한 번에 커밋한 결과를 기다린다
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TransactionResponse createTransaction(Long userId, TransactionRequest request) {
-        User user = userService.findById(userId);
-
-        Transaction transaction = Transaction.builder()
-                .user(user)
-                .type(request.getType())
-                .amount(request.getAmount())
-                .category(request.getCategory())
-                .description(request.getDescription())
-                .transactionDate(request.getTransactionDate())
-                .build();
-
-        Transaction saved = transactionRepository.save(transaction);
-
-        return TransactionResponse.from(saved);
+        periodLock.checkWritable(request.getTransactionDate());
+
+        if (transactionWriter.isBatchEnabled() && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            userService.requireExists(userId);
+            CompletableFuture<TransactionResponse> queued = transactionWriter.enqueue(userId, request);
+            TransactionResponse response = queued != null ? transactionWriter.await(queued) : null;
+            if (response != null) {
+                return response;
+            }
+        }
+        return transactionWriter.insert(userId, request);
     }
 
     // 기간 내 수입/지출 기록 조회
@@ -57,7 +76,44 @@ public class TransactionService {
         );
     }
 
+    // 목록 화면용 - 엔티티를 올리지 않고 프로젝션으로 바로 조회
+    public Page<TransactionListItem> getTransactionList(
+            Long userId,
+            LocalDate startDate,
+            LocalDate endDate,
+            Pageable pageable
+    ) {
+        return transactionRepository.findListItemsByUserIdAndTransactionDateBetween(
+                userId, startDate, endDate, pageable
+        );
+    }
+
+    // 목록 화면 - 요청한 필드만 조회 (?fields=amount,category)
+    public Page<Map<String, Object>> getTransactionList(
+            Long userId,
+            LocalDate startDate,
+            LocalDate endDate,
+            String fields,
+            Pageable pageable
+    ) {
+        List<String> selected = SparseFieldRepository.parse(fields, SparseFieldRepository.TRANSACTION_FIELDS);
+        return sparseFieldRepository.findTransactions(userId, startDate, endDate, selected, pageable);
+    }
+
+    // 거래 상세 (설명 포함)
+    public TransactionResponse getTransaction(Long transactionId, Long userId) {
+        Transaction transaction = transactionRepository.findById(transactionId)
+                .orElseThrow(() -> new ResourceNotFoundException("거래 내역을 찾을 수 없습니다"));
+
+        if (!transaction.getUser().getId().equals(userId)) {
+            throw new ForbiddenException("해당 거래 내역을 조회할 권한이 없습니다");
+        }
+        return TransactionResponse.from(transaction);
+    }
+
     // 수입/지출 통계
+    @SingleFlight
+    @AnalyticsPool
     public TransactionSummary getSummary(Long userId, LocalDate startDate, LocalDate endDate) {
         BigDecimal totalIncome = transactionRepository.sumAmountByUserIdAndTypeAndDateBetween(userId, TransactionType.INCOME, startDate, endDate);
         BigDecimal totalExpense = transactionRepository.sumAmountByUserIdAndTypeAndDateBetween(userId, TransactionType.EXPENSE, startDate, endDate);
@@ -75,37 +131,111 @@ public class TransactionService {
                 .build();
     }
 
-    // 수입/지출 수정
+    // 수입/지출 수정 - 소유자/마감 조건을 건 UPDATE 한 번 (엔티티를 올리지 않는다)
     @Transactional
     public TransactionResponse updateTransaction(Long transactionId, Long userId, TransactionRequest request) {
-        Transaction transaction = transactionRepository.findById(transactionId)
-                .orElseThrow(() -> new IllegalArgumentException("거래 내역을 찾을 수 없습니다"));
+        return updateTransaction(transactionId, userId, request, null);
+    }
 
-        // 권한 체크
-        if (!transaction.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("해당 거래 내역을 수정할 권한이 없습니다");
+    // expectedVersion 이 있으면 행의 change_version 이 같을 때만 바꾼다 (If-Match)
+    @Transactional
+    public TransactionResponse updateTransaction(Long transactionId, Long userId, TransactionRequest request,
+                                                 Long expectedVersion) {
+        periodLock.checkWritable(request.getTransactionDate());
+
+        long version = changeVersionService.next(userId);
+        int affected = transactionRepository.updateByIdAndUserId(
+                transactionId,
+                userId,
+                request.getType(),
+                request.getAmount(),
+                request.getCategory(),
+                request.getDescription(),
+                request.getTransactionDate(),
+                periodLock.writableFrom(),
+                expectedVersion,
+                version,
+                LocalDateTime.now()
+        );
+        if (affected == 0) {
+            throw rejection(transactionId, userId, "수정", expectedVersion);
         }
+        eventPublisher.publishEvent(new TransactionChangedEvent(userId, transactionId, ChangeType.UPDATED, version));
 
-        transaction.setType(request.getType());
-        transaction.setAmount(request.getAmount());
-        transaction.setCategory(request.getCategory());
-        transaction.setDescription(request.getDescription());
-        transaction.setTransactionDate(request.getTransactionDate());
-
-        return TransactionResponse.from(transaction);
+        // createdAt/updatedAt 까지 DB 값으로 응답을 만든다
+        return transactionRepository.findResponseById(transactionId)
+                .orElseThrow(() -> new ResourceNotFoundException("거래 내역을 찾을 수 없습니다"));
     }
 
-    // 수입/지출 내역 삭제
+    // 수입/지출 내역 삭제 - 소유자/마감 조건을 건 UPDATE 한 번으로 삭제 표시
     @Transactional
     public void deleteTransaction(Long transactionId, Long userId) {
-        Transaction transaction = transactionRepository.findById(transactionId)
-                .orElseThrow(() -> new IllegalArgumentException("거래 내역을 찾을 수 없습니다"));
+        long version = changeVersionService.next(userId);
+        int affected = transactionRepository.deleteByIdAndUserId(
+                transactionId, userId, periodLock.writableFrom(), version, LocalDateTime.now());
+        if (affected == 0) {
+            throw rejection(transactionId, userId, "삭제", null);
+        }
+        eventPublisher.publishEvent(new TransactionChangedEvent(userId, transactionId, ChangeType.DELETED, version));
+    }
 
-        // 권한 체크
-        if (!transaction.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("해당 거래 내역을 삭제할 권한이 없습니다");
+    // 조건에 맞는 거래의 카테고리를 한 번의 UPDATE 로 변경
+    @Transactional
+    public int recategorizeTransactions(Long userId, TransactionRecategorizeRequest request) {
+        validateRange(request.getStartDate(), request.getEndDate());
+        periodLock.checkWritable(request.getStartDate());
+
+        long version = changeVersionService.next(userId);
+        int affected = transactionRepository.recategorize(
+                userId,
+                request.getStartDate(),
+                request.getEndDate(),
+                request.getCategory(),
+                request.getType(),
+                request.getNewCategory(),
+                version,
+                LocalDateTime.now()
+        );
+        if (affected > 0) {
+            eventPublisher.publishEvent(new TransactionBulkChangedEvent(userId, affected, version));
         }
+        return affected;
+    }
 
-        transactionRepository.delete(transaction);
+    // 기간 내 거래를 한 번의 UPDATE 로 삭제 표시
+    @Transactional
+    public int deleteTransactionsInRange(Long userId, LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        periodLock.checkWritable(startDate);
+        long version = changeVersionService.next(userId);
+        int affected = transactionRepository.deleteByUserIdAndTransactionDateBetween(
+                userId, startDate, endDate, version, LocalDateTime.now());
+        if (affected > 0) {
+            eventPublisher.publishEvent(new TransactionBulkChangedEvent(userId, affected, version));
+        }
+        return affected;
+    }
+
+    // 단건 수정/삭제가 0 건이면 없는 거래(404), 남의 거래(403), 버전 충돌(412), 마감된 기간(400) 중 무엇인지 구분한다
+    private IllegalArgumentException rejection(Long transactionId, Long userId, String action, Long expectedVersion) {
+        return transactionRepository.findUserIdById(transactionId)
+                .map(ownerId -> !ownerId.equals(userId)
+                        ? new ForbiddenException("해당 거래 내역을 " + action + "할 권한이 없습니다")
+                        : versionConflict(transactionId, expectedVersion)
+                        ? new PreconditionFailedException("다른 곳에서 먼저 수정된 거래입니다. 다시 조회한 뒤 수정해 주세요")
+                        : new IllegalArgumentException("마감된 기간의 거래는 변경할 수 없습니다"))
+                .orElseGet(() -> new ResourceNotFoundException("거래 내역을 찾을 수 없습니다"));
+    }
+
+    private boolean versionConflict(Long transactionId, Long expectedVersion) {
+        return expectedVersion != null && transactionRepository.findChangeVersionById(transactionId)
+                .map(current -> current != expectedVersion.longValue())
+                .orElse(false);
+    }
+
+    private void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("종료 날짜는 시작 날짜보다 뒤여야 합니다");
+        }
     }
 }
@@ -0,0 +1,361 @@
+package com.lifemanager.life_manager.service;
+
+import com.lifemanager.life_manager.domain.Transaction;
+import com.lifemanager.life_manager.dto.transaction.TransactionRequest;
+import com.lifemanager.life_manager.dto.transaction.TransactionResponse;
+import com.lifemanager.life_manager.event.ChangeType;
+import com.lifemanager.life_manager.event.TransactionChangedEvent;
+import com.lifemanager.life_manager.exception.ServiceUnavailableException;
+import com.lifemanager.life_manager.repository.TransactionRepository;
+import com.lifemanager.life_manager.shard.ShardContext;
+import com.lifemanager.life_manager.shard.ShardRouter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 거래 INSERT.
+// 기본은 요청마다 한 트랜잭션이고, batch 모드를 켜면 요청을 큐에 넣고 writer 스레드가
+// linger-ms 동안 모은 것을 JDBC 배치 INSERT 한 번 + 커밋 한 번으로 쓴 뒤 각 호출자에게 결과를 돌려준다
+@Slf4j
+@Component
+public class TransactionWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO transactions " +
+            "(type, amount, category, description, transaction_date, user_id, " +
+            "change_version, deleted, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, false, ?, ?)";
+    // 샤딩을 켜면 id 를 직접 넣는다 (ShardIds)
+    private static final String INSERT_WITH_ID_SQL = "INSERT INTO transactions " +
+            "(id, type, amount, category, description, transaction_date, user_id, " +
+            "change_version, deleted, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, false, ?, ?)";
+
+    private final TransactionRepository transactionRepository;
+    private final UserService userService;
+    private final ChangeVersionService changeVersionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+
+    private final boolean batchEnabled;
+    private final int maxBatch;
+    private final long lingerNanos;
+    private final long waitTimeoutNanos;
+    private final BlockingQueue<PendingInsert> queue;
+    private final DistributionSummary batchSizes;
+
+    private Thread writer;
+    private volatile boolean running;
+
+    public TransactionWriter(TransactionRepository transactionRepository,
+                             UserService userService,
+                             ChangeVersionService changeVersionService,
+                             ApplicationEventPublisher eventPublisher,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             ShardRouter shardRouter,
+                             @Value("${transaction.batch-writer.enabled:false}") boolean batchEnabled,
+                             @Value("${transaction.batch-writer.queue-capacity:10000}") int queueCapacity,
+                             @Value("${transaction.batch-writer.max-batch:500}") int maxBatch,
+                             @Value("${transaction.batch-writer.linger-ms:5}") long lingerMs,
+                             @Value("${transaction.batch-writer.wait-timeout:PT5S}") Duration waitTimeout) {
+        this.transactionRepository = transactionRepository;
+        this.userService = userService;
+        this.changeVersionService = changeVersionService;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardRouter = shardRouter;
+        this.batchEnabled = batchEnabled;
+        this.maxBatch = maxBatch;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.batchSizes = DistributionSummary.builder("transaction.batch-writer.batch-size")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("transaction.batch-writer.queue", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!batchEnabled) {
+            return;
+        }
+        running = true;
+        writer = new CustomizableThreadFactory("transaction-writer-").newThread(this::drainLoop);
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        failQueued();
+    }
+
+    public boolean isBatchEnabled() {
+        return batchEnabled && running;
+    }
+
+    // 요청 하나를 바로 쓴다
+    @Transactional
+    public TransactionResponse insert(Long userId, TransactionRequest request) {
+        long version = changeVersionService.next(userId);
+
+        Transaction transaction = Transaction.builder()
+                .user(userService.getReference(userId))
+                .type(request.getType())
+                .amount(request.getAmount())
+                .category(request.getCategory())
+                .description(request.getDescription())
+                .transactionDate(request.getTransactionDate())
+                .changeVersion(version)
+                .build();
+
+        Transaction saved = transactionRepository.save(transaction);
+        eventPublisher.publishEvent(new TransactionChangedEvent(userId, saved.getId(), ChangeType.CREATED, version));
+
+        return TransactionResponse.from(saved);
+    }
+
+    // 큐에 넣고 배치 커밋 결과를 기다릴 future 를 받는다. writer 가 멈췄거나 큐가 가득 차면 null (호출자가 바로 쓰기로 처리)
+    public CompletableFuture<TransactionResponse> enqueue(Long userId, TransactionRequest request) {
+        if (!running) {
+            return null;
+        }
+        PendingInsert pending = new PendingInsert(userId, request, new CompletableFuture<>());
+        return queue.offer(pending) ? pending.result : null;
+    }
+
+    // 배치 커밋 결과를 wait-timeout 까지 기다린다.
+    // 그때까지 writer 가 꺼내 가지도 않았으면 큐에서 빼고 null (호출자가 바로 쓰기로 처리),
+    // 이미 배치에 들어갔으면 커밋 여부를 모르므로 503 으로 돌려보낸다
+    public TransactionResponse await(CompletableFuture<TransactionResponse> queued) {
+        try {
+            return queued.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            withdraw(queued);
+            throw new ServiceUnavailableException("거래 저장이 중단되었습니다");
+        } catch (TimeoutException e) {
+            if (withdraw(queued)) {
+                return null;
+            }
+            throw new ServiceUnavailableException("거래 저장이 지연되고 있습니다. 잠시 후 목록을 확인해 주세요");
+        }
+    }
+
+    private boolean withdraw(CompletableFuture<TransactionResponse> queued) {
+        return queue.removeIf(pending -> pending.result == queued);
+    }
+
+    private void drainLoop() {
+        try {
+            drainUntilStopped();
+        } finally {
+            // 어떤 이유로든 writer 가 끝나면 새 요청은 바로 쓰기로 돌리고, 남은 요청은 기다리지 않게 실패 처리
+            running = false;
+            failQueued();
+        }
+    }
+
+    private void drainUntilStopped() {
+        List<PendingInsert> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingInsert first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 요청 후 linger 동안 더 모은다
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < maxBatch) {
+                    queue.drainTo(batch, maxBatch - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatch || remaining <= 0) {
+                        break;
+                    }
+                    PendingInsert next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+
+                flushByShard(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (Throwable t) {
+                // 배치 하나의 실패로 writer 스레드가 죽지 않게 한다 (이 배치의 요청은 아래에서 실패 처리)
+                log.error("거래 배치 처리 실패 - {}건", batch.size(), t);
+            } finally {
+                for (PendingInsert pending : batch) {
+                    pending.result.completeExceptionally(new IllegalStateException("거래 저장이 중단되었습니다"));
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    private void failQueued() {
+        PendingInsert pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result.completeExceptionally(new IllegalStateException("거래 저장이 중단되었습니다"));
+        }
+    }
+
+    // 한 트랜잭션은 한 샤드에서만 돌므로 샤드별로 나눠 커밋한다 (샤딩을 끄면 그대로 한 번)
+    private void flushByShard(List<PendingInsert> batch) {
+        Map<String, List<PendingInsert>> byShard = new LinkedHashMap<>();
+        for (PendingInsert pending : batch) {
+            byShard.computeIfAbsent(shardRouter.shardOf(pending.userId), shard -> new ArrayList<>()).add(pending);
+        }
+        byShard.forEach((shard, group) -> ShardContext.onShard(shard, () -> {
+            flush(group);
+            return null;
+        }));
+    }
+
+    private void flush(List<PendingInsert> batch) {
+        batchSizes.record(batch.size());
+        try {
+            complete(batch, transactionTemplate.execute(status -> insertBatch(batch)));
+        } catch (RuntimeException e) {
+            // 한 건 때문에 전체가 실패하지 않도록 (예: 탈퇴한 사용자) 한 건씩 다시 쓴다
+            log.warn("거래 배치 저장 실패, 개별 저장으로 재시도 - {}건: {}", batch.size(), e.getMessage());
+            for (PendingInsert pending : batch) {
+                try {
+                    complete(List.of(pending), transactionTemplate.execute(status -> insertBatch(List.of(pending))));
+                } catch (RuntimeException single) {
+                    pending.result.completeExceptionally(single);
+                }
+            }
+        }
+    }
+
+    // 커밋 후에 호출자를 깨운다
+    private void complete(List<PendingInsert> batch, List<TransactionResponse> responses) {
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result.complete(responses.get(i));
+        }
+    }
+
+    private List<TransactionResponse> insertBatch(List<PendingInsert> batch) {
+        // 사용자 순서대로 버전 카운터를 잠가 다른 쓰기와 교착되지 않게 한다. 같은 배치의 같은 사용자는 한 버전을 공유한다
+        Map<Long, Long> versions = new HashMap<>();
+        for (Long userId : new TreeSet<>(batch.stream().map(PendingInsert::userId).toList())) {
+            versions.put(userId, changeVersionService.next(userId));
+        }
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        boolean sharded = shardRouter.isEnabled();
+        long[] ids = new long[batch.size()];
+        if (sharded) {
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = shardRouter.nextId();
+            }
+        }
+        BatchPreparedStatementSetter values = new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PendingInsert pending = batch.get(i);
+                TransactionRequest request = pending.request;
+                int p = 0;
+                if (sharded) {
+                    ps.setLong(++p, ids[i]);
+                }
+                ps.setString(++p, request.getType().name());
+                ps.setBigDecimal(++p, request.getAmount());
+                ps.setString(++p, request.getCategory());
+                ps.setString(++p, request.getDescription());
+                ps.setObject(++p, request.getTransactionDate());
+                ps.setLong(++p, pending.userId);
+                ps.setLong(++p, versions.get(pending.userId));
+                ps.setObject(++p, now);
+                ps.setObject(++p, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batch.size();
+            }
+        };
+        if (sharded) {
+            jdbcTemplate.batchUpdate(INSERT_WITH_ID_SQL, values);
+        } else {
+            KeyHolder keys = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}), values, keys);
+            List<Map<String, Object>> generated = keys.getKeyList();
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = ((Number) generated.get(i).values().iterator().next()).longValue();
+            }
+        }
+
+        List<TransactionResponse> responses = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            PendingInsert pending = batch.get(i);
+            Long id = ids[i];
+            long version = versions.get(pending.userId);
+            eventPublisher.publishEvent(new TransactionChangedEvent(pending.userId, id, ChangeType.CREATED, version));
+            responses.add(TransactionResponse.builder()
+                    .id(id)
+                    .type(pending.request.getType())
+                    .amount(pending.request.getAmount())
+                    .category(pending.request.getCategory())
+                    .description(pending.request.getDescription())
+                    .transactionDate(pending.request.getTransactionDate())
+                    .changeVersion(version)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        return responses;
+    }
+
+    private record PendingInsert(Long userId, TransactionRequest request, CompletableFuture<TransactionResponse> result) {
+    }
+}
@@ -1,16 +1,32 @@
 package com.lifemanager.life_manager.service;
 
+import com.lifemanager.life_manager.cache.KnownUserCache;
+import com.lifemanager.life_manager.config.ReplicaLagGuard;
+import com.lifemanager.life_manager.config.UserContext;
 import com.lifemanager.life_manager.domain.User;
 import com.lifemanager.life_manager.dto.auth.SignupRequest;
 import com.lifemanager.life_manager.dto.user.PasswordChangeRequest;
 import com.lifemanager.life_manager.dto.user.UserResponse;
 import com.lifemanager.life_manager.dto.user.UserUpdateRequest;
+import com.lifemanager.life_manager.event.UserDeletedEvent;
+import com.lifemanager.life_manager.repository.IdempotencyKeyRepository;
+import com.lifemanager.life_manager.repository.ScheduleRepository;
+import com.lifemanager.life_manager.repository.TransactionRepository;
+import com.lifemanager.life_manager.repository.UserChangeVersionRepository;
 import com.lifemanager.life_manager.repository.UserRepository;
+import com.lifemanager.life_manager.shard.ShardContext;
+import com.lifemanager.life_manager.shard.ShardRouter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -18,11 +34,21 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-
-    @Transactional
+    private final KnownUserCache knownUserCache;
+    private final ScheduleRepository scheduleRepository;
+    private final TransactionRepository transactionRepository;
+    private final UserChangeVersionRepository userChangeVersionRepository;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReplicaLagGuard replicaLagGuard;
+    private final ShardRouter shardRouter;
+
+    // 이메일 중복은 샤드 전체에서 막는다 - 여기서 먼저 보고, 동시 가입은 register 의 이메일 선점이 막는다
+    // (다른 샤드를 조회하므로 트랜잭션 밖에서)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User signup(SignupRequest request) {
         // 이메일 중복 체크
-        if (userRepository.existsByEmail(request.getEmail())) {
+        if (findOptionalByEmail(request.getEmail()).isPresent()) {
             throw new IllegalArgumentException("이미 사용 중인 이메일입니다");
         }
 
@@ -34,19 +60,71 @@ public class UserService {
                 .provider("local")
                 .build();
 
-        return userRepository.save(user);
+        return register(user);
+    }
+
+    // 새 사용자 저장 (OAuth 가입 포함).
+    // 샤딩을 켜면 id 를 먼저 정해 링이 고른 샤드에 자리를 잡고 그 샤드에 쓴다. 끄면 기존처럼 DB 가 id 를 정한다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public User register(User user) {
+        if (!shardRouter.isEnabled()) {
+            User saved = userRepository.save(user);
+            replicaLagGuard.recordWrite(saved.getId());
+            return saved;
+        }
+
+        Long id = shardRouter.nextId();
+        user.setId(id);
+        shardRouter.register(id, user.getEmail());
+
+        User saved;
+        try {
+            saved = UserContext.callAs(id, () -> userRepository.save(user));
+        } catch (RuntimeException e) {
+            // 사용자 행을 못 썼으면 잡아 둔 자리와 이메일을 돌려놓는다 (남기면 그 이메일로 다시 가입할 수 없다)
+            shardRouter.unregister(id);
+            throw e;
+        }
+        replicaLagGuard.recordWrite(id);
+        return saved;
     }
 
     public User findByEmail(String email) {
-        return userRepository.findByEmail(email)
+        return findOptionalByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
     }
 
+    // 샤딩을 켜면 home 의 이메일 디렉터리로 사용자를 찾아 그 샤드에서 읽는다. 디렉터리에 없으면 home (샤딩 전 사용자)
+    // (2차 캐시에 있으면 조회 없이 끝난다)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<User> findOptionalByEmail(String email) {
+        return shardRouter.userOfEmail(email)
+                .map(userId -> UserContext.callAs(userId, () -> userRepository.findByEmail(email)))
+                .orElseGet(() -> ShardContext.onShard(shardRouter.home(), () -> userRepository.findByEmail(email)));
+    }
+
     public User findById(Long id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
     }
 
+    // 외래키만 걸 때 - 존재가 확인된 사용자는 SELECT 없이 프록시로 돌려준다
+    public User getReference(Long id) {
+        requireExists(id);
+        return userRepository.getReferenceById(id);
+    }
+
+    // 확인된 사용자면 커넥션도 잡지 않는다 (트랜잭션 밖에서 호출될 때)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public void requireExists(Long id) {
+        if (!knownUserCache.contains(id)) {
+            if (!userRepository.existsById(id)) {
+                throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
+            }
+            knownUserCache.add(id);
+        }
+    }
+
     // 사용자 정보 조회
     public UserResponse getUserById(Long userId) {
         User user = findById(userId);
@@ -56,10 +134,12 @@ public class UserService {
     // 사용자 정보 수정 (이름)
     @Transactional
     public UserResponse updateUser(Long userId, UserUpdateRequest request) {
+        shardRouter.checkWritable(userId);
         User user = findById(userId);
 
         if (request.getName() != null && !request.getName().trim().isEmpty()) {
             user.setName(request.getName());
+            replicaLagGuard.recordWrite(userId);
         }
 
         return UserResponse.from(user);
@@ -68,6 +148,7 @@ public class UserService {
     // 비밀번호 변경
     @Transactional
     public void changePassword(Long userId, PasswordChangeRequest request) {
+        shardRouter.checkWritable(userId);
         User user = findById(userId);
 
         // 현재 비밀번호 확인
@@ -82,5 +163,42 @@ public class UserService {
 
         // 비밀번호 변경
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+        replicaLagGuard.recordWrite(userId);
+    }
+
+    // 캘린더 구독 피드 토큰 발급 (재발급 시 이전 URL 은 무효화)
+    @Transactional
+    public String issueCalendarFeedToken(Long userId) {
+        shardRouter.checkWritable(userId);
+        User user = findById(userId);
+        String token = UUID.randomUUID().toString().replace("-", "");
+        shardRouter.changeFeedToken(userId, token);
+        user.setCalendarFeedToken(token);
+        replicaLagGuard.recordWrite(userId);
+        return token;
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public User findByCalendarFeedToken(String token) {
+        return shardRouter.userOfFeedToken(token)
+                .map(userId -> UserContext.callAs(userId, () -> userRepository.findByCalendarFeedToken(token)))
+                .orElseGet(() -> ShardContext.onShard(shardRouter.home(),
+                        () -> userRepository.findByCalendarFeedToken(token)))
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 캘린더 피드입니다"));
+    }
+
+    // 회원 탈퇴 - 일정/거래(삭제 표시된 것 포함)와 변경 버전 카운터까지 지운다. 샤드 디렉터리는 커밋 후 ShardRouter 가 지운다
+    @Transactional
+    public void deleteUser(Long userId) {
+        shardRouter.checkWritable(userId);
+        findById(userId);
+        knownUserCache.evict(userId);
+
+        scheduleRepository.purgeByUserId(userId);
+        transactionRepository.purgeByUserId(userId);
+        idempotencyKeyRepository.deleteByUserId(userId);
+        userChangeVersionRepository.deleteAllByIdInBatch(List.of(userId));
+        userRepository.deleteById(userId);
+        eventPublisher.publishEvent(new UserDeletedEvent(userId));
     }
 }
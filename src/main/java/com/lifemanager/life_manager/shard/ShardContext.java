@@ -0,0 +1,31 @@
+package com.lifemanager.life_manager.shard;
+
+import java.util.function.Supplier;
+
+// 사용자와 상관없이 특정 샤드에서 실행할 때 (이메일로 사용자 찾기, 전체 사용자 대상 작업, 샤드 스키마 생성).
+// 커넥션을 잡을 때 UserContext 의 사용자보다 먼저 본다
+public final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T onShard(String shard, Supplier<T> action) {
+        String previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
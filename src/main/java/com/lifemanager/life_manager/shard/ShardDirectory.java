@@ -0,0 +1,112 @@
+package com.lifemanager.life_manager.shard;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+// 사용자가 지금 있는 샤드 (home DB 의 user_shards) 와 이메일/피드 토큰 -> 사용자 (user_emails).
+// 커넥션을 고르는 도중에 읽으므로 JPA 가 아닌 home 풀 JdbcTemplate 으로 읽고, 샤드 위치는 directory-ttl 동안 메모리에 둔다.
+// user_shards 에 행이 없으면 샤딩 전부터 있던 사용자 - home 에 있다
+class ShardDirectory {
+
+    record Placement(String shard, boolean moving) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String home;
+    private final Cache<Long, Placement> cache;
+
+    ShardDirectory(DataSource homeDataSource, String home, Duration ttl, int cacheSize) {
+        this.jdbcTemplate = new JdbcTemplate(homeDataSource);
+        this.home = home;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    Placement locate(Long userId) {
+        Placement cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<Placement> rows = jdbcTemplate.query("SELECT shard, moving FROM user_shards WHERE user_id = ?",
+                (rs, rowNum) -> new Placement(rs.getString("shard"), rs.getBoolean("moving")), userId);
+        Placement placement = rows.isEmpty() ? new Placement(home, false) : rows.get(0);
+        remember(userId, placement);
+        return placement;
+    }
+
+    void assign(Long userId, String shard) {
+        jdbcTemplate.update("INSERT INTO user_shards (user_id, shard, moving) VALUES (?, ?, false)", userId, shard);
+        remember(userId, new Placement(shard, false));
+    }
+
+    // 이동 시작 - 이 인스턴스는 바로, 다른 인스턴스는 ttl 안에 쓰기를 멈춘다
+    void markMoving(Long userId, String shard) {
+        put(userId, shard, true);
+    }
+
+    void place(Long userId, String shard) {
+        put(userId, shard, false);
+    }
+
+    void remove(Long userId) {
+        jdbcTemplate.update("DELETE FROM user_emails WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM user_shards WHERE user_id = ?", userId);
+        cache.invalidate(userId);
+    }
+
+    // 이메일 선점 - 다른 샤드의 사용자가 이미 쓰고 있으면 실패한다
+    void claimEmail(Long userId, String email) {
+        try {
+            jdbcTemplate.update("INSERT INTO user_emails (email, user_id) VALUES (?, ?)", email, userId);
+        } catch (DuplicateKeyException e) {
+            throw new IllegalArgumentException("이미 사용 중인 이메일입니다");
+        }
+    }
+
+    void changeFeedToken(Long userId, String token) {
+        jdbcTemplate.update("UPDATE user_emails SET calendar_feed_token = ? WHERE user_id = ?", token, userId);
+    }
+
+    Optional<Long> userOfEmail(String email) {
+        return first(jdbcTemplate.queryForList("SELECT user_id FROM user_emails WHERE email = ?", Long.class, email));
+    }
+
+    Optional<Long> userOfFeedToken(String token) {
+        return first(jdbcTemplate.queryForList(
+                "SELECT user_id FROM user_emails WHERE calendar_feed_token = ?", Long.class, token));
+    }
+
+    // 샤딩 전부터 home 에 있던 사용자를 채운다 (이미 있는 사용자는 건너뛴다). 채운 행 수
+    int backfillEmails() {
+        return jdbcTemplate.update("INSERT INTO user_emails (email, user_id, calendar_feed_token) " +
+                "SELECT u.email, u.id, u.calendar_feed_token FROM users u " +
+                "WHERE NOT EXISTS (SELECT 1 FROM user_emails e WHERE e.user_id = u.id)");
+    }
+
+    private static Optional<Long> first(List<Long> rows) {
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
+
+    private void put(Long userId, String shard, boolean moving) {
+        if (jdbcTemplate.update("UPDATE user_shards SET shard = ?, moving = ? WHERE user_id = ?",
+                shard, moving, userId) == 0) {
+            jdbcTemplate.update("INSERT INTO user_shards (user_id, shard, moving) VALUES (?, ?, ?)",
+                    userId, shard, moving);
+        }
+        remember(userId, new Placement(shard, moving));
+    }
+
+    private void remember(Long userId, Placement placement) {
+        cache.put(userId, placement);
+    }
+}
@@ -0,0 +1,15 @@
+package com.lifemanager.life_manager.shard;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 샤딩을 켜면 샤드 전체에서 겹치지 않는 id (ShardIds) 를 INSERT 전에 붙인다. 끄면 IDENTITY
+@IdGeneratorType(ShardIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface ShardId {
+}
@@ -0,0 +1,48 @@
+package com.lifemanager.life_manager.shard;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.IdentityGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+// @ShardId 용. 샤딩을 켰으면 INSERT 전에 ShardIds 로 id 를 붙이고
+// (가입 때처럼 샤드를 고르려고 id 를 먼저 정한 경우에는 그 값을 그대로 쓴다), 껐으면 기존처럼 IDENTITY 다.
+// 발급기는 DataSourceConfig 가 Hibernate 설정(IDS_SETTING)으로 넘기고, 샤딩을 끄면 넘기지 않는다
+public class ShardIdGenerator extends IdentityGenerator implements BeforeExecutionGenerator {
+
+    public static final String IDS_SETTING = "com.lifemanager.shard_ids";
+
+    private final ShardIds ids;
+
+    public ShardIdGenerator(ShardId annotation, Member member, CustomIdGeneratorCreationContext context) {
+        this.ids = (ShardIds) context.getServiceRegistry().requireService(ConfigurationService.class)
+                .getSettings().get(IDS_SETTING);
+    }
+
+    @Override
+    public boolean generatedOnExecution() {
+        return ids == null;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return currentValue != null ? currentValue : ids.next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return ids != null;
+    }
+}
@@ -0,0 +1,66 @@
+package com.lifemanager.life_manager.shard;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// 샤드가 달라도 겹치지 않는 id.
+// 2025-01-01 부터의 밀리초 41비트 | 노드 4비트 | 같은 밀리초 안 순번 8비트 = 53비트라 브라우저 Number 로도 정확하다.
+// 사용자가 다른 샤드로 옮겨도 행 id 는 그대로 가져가므로 id 에 샤드 번호는 넣지 않는다 (라우팅은 user_id 로 한다).
+// 샤딩을 켤 때만 ShardRouter 가 하나 만든다 - 끄면 엔티티/JDBC INSERT 모두 기존처럼 DB(IDENTITY)가 id 를 정한다
+public final class ShardIds {
+
+    static final long EPOCH_MILLIS = 1735689600000L; // 2025-01-01T00:00:00Z
+    static final int NODE_BITS = 4;
+    static final int SEQUENCE_BITS = 8;
+
+    public static final int MAX_NODE = (1 << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+    // 시계가 이보다 많이 뒤로 가면 기다리지 않고 실패시킨다
+    private static final long MAX_CLOCK_WAIT_MILLIS = 5000;
+
+    private final long node;
+
+    private long lastTick = -1; // this 로 보호
+    private long sequence;
+
+    // 샤딩을 켠 인스턴스마다 다른 값 (app.sharding.node-id)
+    public ShardIds(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE) {
+            throw new IllegalArgumentException("app.sharding.node-id 는 0~" + MAX_NODE + " 이어야 합니다");
+        }
+        this.node = nodeId;
+    }
+
+    public synchronized long next() {
+        long tick = currentTick();
+        if (tick < lastTick) {
+            // 시계가 뒤로 갔으면 따라올 때까지 기다린다. 미래 밀리초를 당겨 쓰면 재시작 뒤 같은 id 가 다시 나올 수 있다
+            tick = awaitTick(lastTick);
+        }
+        if (tick == lastTick && ++sequence > MAX_SEQUENCE) {
+            // 이 밀리초의 순번을 다 썼으면 다음 밀리초까지 기다린다
+            tick = awaitTick(lastTick + 1);
+        }
+        if (tick > lastTick) {
+            lastTick = tick;
+            sequence = 0;
+        }
+        return (lastTick << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | sequence;
+    }
+
+    private long awaitTick(long target) {
+        long tick = currentTick();
+        if (target - tick > MAX_CLOCK_WAIT_MILLIS) {
+            throw new IllegalStateException("시스템 시계가 " + (target - tick) + "ms 뒤로 가서 id 를 만들 수 없습니다");
+        }
+        while (tick < target) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+            tick = currentTick();
+        }
+        return tick;
+    }
+
+    private static long currentTick() {
+        return System.currentTimeMillis() - EPOCH_MILLIS;
+    }
+}
@@ -0,0 +1,179 @@
+package com.lifemanager.life_manager.shard;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+// 사용자 데이터를 링이 정한 샤드로 옮긴다 (샤드를 더하거나 뺀 뒤).
+// 서비스 중에 돌릴 수 있도록 사용자 한 명씩:
+//   1. 디렉터리에 이동 중 표시 -> move-fence 대기 (모든 인스턴스가 그 사용자의 쓰기를 멈춤, 읽기는 원래 샤드)
+//   2. 원래 샤드에서 트랜잭션을 열어 사용자/변경 버전 카운터 행을 잠근다 (FOR UPDATE).
+//      일정/거래 쓰기는 모두 카운터 행을, 사용자 수정은 사용자 행을 잠그므로 표시 전에 시작한 긴 쓰기(일정 가져오기 등)도
+//      여기서 커밋까지 기다리고, 그 뒤에 온 쓰기는 이 트랜잭션이 끝날 때까지 막힌다
+//   3. 행을 대상 샤드에 한 트랜잭션으로 복사
+//   4. 디렉터리를 대상 샤드로 바꾸고 -> move-fence 대기 (모든 인스턴스가 새 샤드를 봄)
+//   5. 원래 샤드의 행을 지우고 2 의 트랜잭션을 커밋 - 잠금을 기다리던 쓰기는 지워진 행을 만나 실패하고 롤백된다
+// 별도 프로세스로 돌릴 때: --app.sharding.rebalance-on-start=true --spring.main.web-application-type=none
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardRebalancer implements ApplicationRunner {
+
+    private static final int COPY_BATCH_SIZE = 500;
+
+    // 부모 -> 자식 순서 (복사), 삭제는 역순
+    private static final List<String[]> TABLES = List.of(
+            new String[]{"users", "id"},
+            new String[]{"user_change_versions", "user_id"},
+            new String[]{"schedules", "user_id"},
+            new String[]{"transactions", "user_id"},
+            new String[]{"idempotency_keys", "user_id"});
+
+    private final ShardRouter shardRouter;
+    private final Duration moveFence;
+    private final boolean rebalanceOnStart;
+
+    public ShardRebalancer(ShardRouter shardRouter,
+                           ShardingProperties properties,
+                           @Value("${app.sharding.rebalance-on-start:false}") boolean rebalanceOnStart) {
+        this.shardRouter = shardRouter;
+        this.moveFence = properties.getMoveFence();
+        this.rebalanceOnStart = rebalanceOnStart;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (rebalanceOnStart) {
+            log.info("샤드 재배치 완료 - {}명 이동", rebalance());
+        }
+    }
+
+    // 링과 다른 샤드에 있는 사용자를 모두 옮긴다. 옮긴 사용자 수
+    public int rebalance() {
+        int moved = 0;
+        for (String shard : shardRouter.shards()) {
+            List<Long> userIds = new JdbcTemplate(shardRouter.dataSource(shard))
+                    .queryForList("SELECT id FROM users ORDER BY id", Long.class);
+            for (Long userId : userIds) {
+                String target = shardRouter.targetOf(userId);
+                if (!target.equals(shard) && shard.equals(shardRouter.shardOf(userId))) {
+                    move(userId, target);
+                    moved++;
+                }
+            }
+        }
+        return moved;
+    }
+
+    public void move(Long userId, String target) {
+        String source = shardRouter.shardOf(userId);
+        if (source.equals(target)) {
+            return;
+        }
+        DataSource from = shardRouter.dataSource(source);
+        DataSource to = shardRouter.dataSource(target);
+
+        shardRouter.markMoving(userId, source);
+        try {
+            pause();
+            inTransaction(from, jdbc -> {
+                lock(jdbc, userId);
+                copy(userId, jdbc, to);
+                shardRouter.place(userId, target);
+                pause();
+                delete(jdbc, userId);
+            });
+        } catch (RuntimeException e) {
+            // 원래 샤드의 트랜잭션은 롤백됐으므로 그대로 원래 샤드에 둔다 (대상에 남은 복사본은 다음 이동이 지운다)
+            shardRouter.place(userId, source);
+            throw e;
+        }
+        log.info("사용자 {} 이동: {} -> {}", userId, source, target);
+    }
+
+    // 쓰기와 같은 순서 (카운터 -> 사용자) 로 잠근다. move-fence 가 끝나기 전에 시작한 쓰기가 아직 돌고 있으면 커밋까지 기다린다
+    private static void lock(JdbcTemplate source, Long userId) {
+        source.queryForList("SELECT user_id FROM user_change_versions WHERE user_id = ? FOR UPDATE", Long.class, userId);
+        source.queryForList("SELECT id FROM users WHERE id = ? FOR UPDATE", Long.class, userId);
+    }
+
+    private void copy(Long userId, JdbcTemplate source, DataSource to) {
+        inTransaction(to, target -> {
+            // 전에 실패한 이동이 남긴 행부터 지운다
+            delete(target, userId);
+            for (String[] table : TABLES) {
+                copyTable(source, target, table[0], table[1], userId);
+            }
+        });
+    }
+
+    private static void copyTable(JdbcTemplate source, JdbcTemplate target, String table, String column, Long userId) {
+        List<Object[]> batch = new ArrayList<>(COPY_BATCH_SIZE);
+        String[] insertSql = new String[1];
+        source.query("SELECT * FROM " + table + " WHERE " + column + " = ?", rs -> {
+            ResultSetMetaData meta = rs.getMetaData();
+            if (insertSql[0] == null) {
+                insertSql[0] = insertSql(table, meta);
+            }
+            Object[] row = new Object[meta.getColumnCount()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = rs.getObject(i + 1);
+            }
+            batch.add(row);
+            if (batch.size() == COPY_BATCH_SIZE) {
+                target.batchUpdate(insertSql[0], batch);
+                batch.clear();
+            }
+        }, userId);
+        if (!batch.isEmpty()) {
+            target.batchUpdate(insertSql[0], batch);
+        }
+    }
+
+    private static String insertSql(String table, ResultSetMetaData meta) throws SQLException {
+        StringJoiner columns = new StringJoiner(", ");
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            columns.add(meta.getColumnName(i));
+            values.add("?");
+        }
+        return "INSERT INTO " + table + " (" + columns + ") VALUES (" + values + ")";
+    }
+
+    private static void delete(JdbcTemplate jdbc, Long userId) {
+        for (int i = TABLES.size() - 1; i >= 0; i--) {
+            String[] table = TABLES.get(i);
+            jdbc.update("DELETE FROM " + table[0] + " WHERE " + table[1] + " = ?", userId);
+        }
+    }
+
+    private static void inTransaction(DataSource dataSource, Consumer<JdbcTemplate> work) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource))
+                .executeWithoutResult(status -> work.accept(jdbc));
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(moveFence.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("샤드 이동이 중단되었습니다", e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.lifemanager.life_manager.shard;
+
+import com.lifemanager.life_manager.config.UserContext;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Component;
+
+import java.lang.annotation.Annotation;
+
+// 사용자 데이터 리포지토리 호출을 user_id 인자로 라우팅한다.
+// 묶인 사용자가 없으면 그 사용자로 묶어 실행하고 (요청 밖, 스케줄러 등),
+// 이미 다른 샤드 사용자로 묶여 있으면 엉뚱한 샤드에 읽고 쓰지 않도록 막는다
+@Aspect
+@Component
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ShardRepositoryAspect {
+
+    private final ShardRouter shardRouter;
+
+    @Around("execution(* com.lifemanager.life_manager.repository.TransactionRepository+.*(..)) " +
+            "|| execution(* com.lifemanager.life_manager.repository.ScheduleRepository+.*(..)) " +
+            "|| execution(* com.lifemanager.life_manager.repository.UserChangeVersionRepository+.*(..)) " +
+            "|| execution(* com.lifemanager.life_manager.repository.IdempotencyKeyRepository+.*(..))")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        Long userId = userIdOf((MethodSignature) joinPoint.getSignature(), joinPoint.getArgs());
+        if (userId == null || ShardContext.current() != null) {
+            return joinPoint.proceed();
+        }
+
+        Long bound = UserContext.currentUser();
+        if (bound == null) {
+            UserContext.bind(userId);
+            try {
+                return joinPoint.proceed();
+            } finally {
+                UserContext.bind(null);
+            }
+        }
+        if (!bound.equals(userId) && !shardRouter.shardOf(bound).equals(shardRouter.shardOf(userId))) {
+            throw new IllegalStateException("다른 샤드 사용자의 데이터는 한 작업에서 다룰 수 없습니다");
+        }
+        return joinPoint.proceed();
+    }
+
+    // 이름이 userId 이거나 @Param("userId") 인 Long 인자
+    private static Long userIdOf(MethodSignature signature, Object[] args) {
+        String[] names = signature.getParameterNames();
+        Annotation[][] annotations = signature.getMethod().getParameterAnnotations();
+        for (int i = 0; i < args.length; i++) {
+            if (!(args[i] instanceof Long id)) {
+                continue;
+            }
+            if (names != null && "userId".equals(names[i])) {
+                return id;
+            }
+            for (Annotation annotation : annotations[i]) {
+                if (annotation instanceof Param param && "userId".equals(param.value())) {
+                    return id;
+                }
+            }
+        }
+        return null;
+    }
+}
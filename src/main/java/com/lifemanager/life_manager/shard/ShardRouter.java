@@ -0,0 +1,178 @@
+package com.lifemanager.life_manager.shard;
+
+import com.lifemanager.life_manager.event.UserDeletedEvent;
+import com.lifemanager.life_manager.exception.ShardMovingException;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// 사용자 -> 샤드.
+// 새 사용자는 consistent-hash 링이 정한 샤드에 두고, 지금 어디 있는지는 디렉터리(home DB 의 user_shards)가 기억한다.
+// 이메일/피드 토큰 -> 사용자도 home 의 디렉터리(user_emails)에 두어 샤드를 훑지 않고 찾는다.
+// 샤딩을 끄면 home 하나뿐이라 모든 호출이 그대로 home 으로 간다
+public class ShardRouter implements AutoCloseable {
+
+    private final String home;
+    private final Map<String, DataSource> dataSources;
+    private final ConsistentHashRing ring;
+    private final ShardDirectory directory;
+    private final ShardIds ids;
+
+    // 샤딩 꺼짐
+    public ShardRouter(String home, DataSource homeDataSource) {
+        this.home = home;
+        this.dataSources = Map.of(home, homeDataSource);
+        this.ring = new ConsistentHashRing(Set.of(home), 1);
+        this.directory = null;
+        this.ids = null;
+    }
+
+    // dataSources 는 home 을 포함한 샤드별 풀 (home 이 아닌 풀은 이 객체가 닫는다)
+    public ShardRouter(ShardingProperties properties, Map<String, DataSource> dataSources) {
+        if (properties.getMoveFence().compareTo(properties.getDirectoryTtl()) < 0) {
+            throw new IllegalStateException("app.sharding.move-fence 는 directory-ttl 보다 짧을 수 없습니다");
+        }
+        if (properties.getNodeId() == null) {
+            // 두 인스턴스가 같은 노드 번호로 같은 밀리초에 id 를 만들면 겹친다
+            throw new IllegalStateException("app.sharding.enabled=true 면 인스턴스마다 다른 app.sharding.node-id 가 필요합니다");
+        }
+        this.home = properties.getHome();
+        this.dataSources = Collections.unmodifiableMap(new LinkedHashMap<>(dataSources));
+        this.ring = new ConsistentHashRing(this.dataSources.keySet(), properties.getVirtualNodes());
+        this.directory = new ShardDirectory(dataSources.get(home), home,
+                properties.getDirectoryTtl(), properties.getDirectoryCacheSize());
+        this.ids = new ShardIds(properties.getNodeId());
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    // 샤딩을 켰을 때만 있는 id 발급기 (엔티티 매핑은 DataSourceConfig 가 Hibernate 설정으로 넘긴다)
+    public Optional<ShardIds> ids() {
+        return Optional.ofNullable(ids);
+    }
+
+    // JDBC 로 직접 INSERT 할 때 쓸 id - 샤딩을 켰을 때만 부른다
+    public long nextId() {
+        if (ids == null) {
+            throw new IllegalStateException("샤딩을 끄면 id 는 DB 가 정합니다");
+        }
+        return ids.next();
+    }
+
+    public String home() {
+        return home;
+    }
+
+    public Set<String> shards() {
+        return dataSources.keySet();
+    }
+
+    public DataSource dataSource(String shard) {
+        DataSource dataSource = dataSources.get(shard);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("없는 샤드입니다: " + shard);
+        }
+        return dataSource;
+    }
+
+    // 사용자 데이터가 지금 있는 샤드 (사용자를 모르면 home)
+    public String shardOf(Long userId) {
+        return directory == null || userId == null ? home : directory.locate(userId).shard();
+    }
+
+    // 링 기준으로 사용자가 있어야 할 샤드
+    public String targetOf(Long userId) {
+        return ring.shardFor(userId);
+    }
+
+    // 새 사용자 자리 잡기 - 사용자 행을 쓰기 전에 부른다. 이메일을 먼저 선점해 샤드가 달라도 중복 가입을 막는다
+    public void register(Long userId, String email) {
+        if (directory == null) {
+            return;
+        }
+        directory.claimEmail(userId, email);
+        try {
+            directory.assign(userId, targetOf(userId));
+        } catch (RuntimeException e) {
+            directory.remove(userId);
+            throw e;
+        }
+    }
+
+    // 피드 토큰 재발급 - 샤드가 달라도 토큰으로 사용자를 한 번에 찾도록 디렉터리에도 남긴다
+    public void changeFeedToken(Long userId, String token) {
+        if (directory != null) {
+            directory.changeFeedToken(userId, token);
+        }
+    }
+
+    // 이메일/피드 토큰의 주인 (샤딩을 껐거나 디렉터리에 없으면 비어 있다 - 그런 사용자는 home 에 있다)
+    public Optional<Long> userOfEmail(String email) {
+        return directory == null ? Optional.empty() : directory.userOfEmail(email);
+    }
+
+    public Optional<Long> userOfFeedToken(String token) {
+        return directory == null ? Optional.empty() : directory.userOfFeedToken(token);
+    }
+
+    // 시작할 때 한 번 - 샤딩 전 사용자의 이메일/토큰을 디렉터리에 채운다
+    int backfillEmails() {
+        return directory == null ? 0 : directory.backfillEmails();
+    }
+
+    // 가입이 사용자 행을 쓰지 못하고 실패했을 때 register 를 되돌린다
+    public void unregister(Long userId) {
+        if (directory != null) {
+            directory.remove(userId);
+        }
+    }
+
+    // 탈퇴가 커밋되면 디렉터리에서도 지운다
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        unregister(event.getUserId());
+    }
+
+    // 다른 샤드로 옮기는 중인 사용자는 쓰기를 잠깐 막는다 (읽기는 원래 샤드에서 계속)
+    public void checkWritable(Long userId) {
+        if (directory != null && directory.locate(userId).moving()) {
+            throw new ShardMovingException("데이터를 옮기는 중입니다. 잠시 후 다시 시도해주세요");
+        }
+    }
+
+    void markMoving(Long userId, String shard) {
+        directory.markMoving(userId, shard);
+    }
+
+    void place(Long userId, String shard) {
+        directory.place(userId, shard);
+    }
+
+    // 샤드마다 한 번씩 (각 호출은 그 샤드 커넥션으로 따로 실행된다 - 트랜잭션 밖에서 불러야 한다)
+    public void forEachShard(Consumer<String> action) {
+        for (String shard : shards()) {
+            ShardContext.onShard(shard, () -> {
+                action.accept(shard);
+                return null;
+            });
+        }
+    }
+
+    @Override
+    public void close() {
+        dataSources.forEach((shard, dataSource) -> {
+            if (!shard.equals(home) && dataSource instanceof HikariDataSource pool) {
+                pool.close();
+            }
+        });
+    }
+}
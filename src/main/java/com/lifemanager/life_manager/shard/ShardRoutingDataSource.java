@@ -0,0 +1,21 @@
+package com.lifemanager.life_manager.shard;
+
+import com.lifemanager.life_manager.config.UserContext;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+// 커넥션을 잡는 순간의 샤드 - ShardContext 로 정한 샤드, 아니면 UserContext 사용자가 있는 샤드, 둘 다 없으면 home.
+// 트랜잭션은 첫 SQL 에서 잡은 커넥션을 끝까지 쓰므로 한 트랜잭션은 한 샤드에서만 돈다
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ShardRouter router;
+
+    public ShardRoutingDataSource(ShardRouter router) {
+        this.router = router;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String shard = ShardContext.current();
+        return shard != null ? shard : router.shardOf(UserContext.currentUser());
+    }
+}
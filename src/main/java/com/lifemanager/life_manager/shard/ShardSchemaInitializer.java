@@ -0,0 +1,85 @@
+package com.lifemanager.life_manager.shard;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.tool.hbm2ddl.SchemaExport;
+import org.hibernate.tool.hbm2ddl.SchemaUpdate;
+import org.hibernate.tool.schema.TargetType;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+// spring.jpa.hibernate.ddl-auto 는 home DB 에만 적용되므로, 같은 설정을 나머지 샤드에도 적용한다.
+// Hibernate 가 만든 매핑(Metadata)을 받아 두었다가 샤드마다 ShardContext 로 커넥션을 돌려 스키마를 만든다/맞춘다.
+// 그 다음 샤딩 전부터 있던 사용자를 이메일 디렉터리(user_emails)에 채운다
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardSchemaInitializer implements HibernatePropertiesCustomizer, Integrator, SmartInitializingSingleton {
+
+    private final ShardRouter shardRouter;
+    private final String ddlAuto;
+
+    private volatile Metadata metadata;
+
+    public ShardSchemaInitializer(ShardRouter shardRouter,
+                                  @Value("${spring.jpa.hibernate.ddl-auto:none}") String ddlAuto) {
+        this.shardRouter = shardRouter;
+        this.ddlAuto = ddlAuto;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put("hibernate.integrator_provider", (IntegratorProvider) () -> List.of(this));
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        this.metadata = metadata;
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (metadata != null) {
+            applySchema();
+        }
+        int backfilled = shardRouter.backfillEmails();
+        if (backfilled > 0) {
+            log.info("샤딩 전 사용자 {}명의 이메일을 디렉터리에 등록", backfilled);
+        }
+    }
+
+    private void applySchema() {
+        for (String shard : shardRouter.shards()) {
+            if (shard.equals(shardRouter.home())) {
+                continue;
+            }
+            ShardContext.onShard(shard, () -> {
+                switch (ddlAuto) {
+                    case "create", "create-drop" -> new SchemaExport().create(EnumSet.of(TargetType.DATABASE), metadata);
+                    case "update" -> new SchemaUpdate().execute(EnumSet.of(TargetType.DATABASE), metadata);
+                    default -> {
+                        return null;
+                    }
+                }
+                log.info("샤드 {} 스키마 적용 ({})", shard, ddlAuto);
+                return null;
+            });
+        }
+    }
+}
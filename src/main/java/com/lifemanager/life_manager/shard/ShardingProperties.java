@@ -0,0 +1,45 @@
+package com.lifemanager.life_manager.shard;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// app.sharding.* - home 은 spring.datasource 의 DB, shards 는 그 밖의 DB 들
+@Getter
+@Setter
+@ConfigurationProperties("app.sharding")
+public class ShardingProperties {
+
+    private boolean enabled;
+
+    private String home = "home";
+
+    private Map<String, Shard> shards = new LinkedHashMap<>();
+
+    private int virtualNodes = 128;
+
+    // id 생성기 노드 번호 (0~15) - 인스턴스마다 달라야 하므로 기본값 없이 샤딩을 켤 때 꼭 준다
+    private Integer nodeId;
+
+    // 사용자 위치 캐시 유지 시간. 다른 인스턴스가 사용자를 옮긴 것을 이 시간 안에 알아챈다
+    private Duration directoryTtl = Duration.ofSeconds(10);
+
+    private int directoryCacheSize = 100000;
+
+    // 사용자 이동 중 단계마다 기다리는 시간 - directory-ttl 이상 (이미 시작한 쓰기는 시간이 아니라 행 잠금으로 기다린다)
+    private Duration moveFence = Duration.ofSeconds(15);
+
+    @Getter
+    @Setter
+    public static class Shard {
+
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
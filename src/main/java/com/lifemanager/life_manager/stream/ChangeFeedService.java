@@ -0,0 +1,109 @@
+package com.lifemanager.life_manager.stream;
+
+import com.lifemanager.life_manager.dto.stream.ChangeNotification;
+import com.lifemanager.life_manager.event.ScheduleBulkChangedEvent;
+import com.lifemanager.life_manager.event.ScheduleChangedEvent;
+import com.lifemanager.life_manager.event.TransactionBulkChangedEvent;
+import com.lifemanager.life_manager.event.TransactionChangedEvent;
+import com.lifemanager.life_manager.event.UserDeletedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 커밋된 일정/거래 변경을 사용자별 SSE 연결로 밀어준다.
+// 유휴 연결은 스레드를 잡지 않고 (서블릿 async), 보낼 게 있을 때만 전송 풀에서 비운다
+@Service
+@RequiredArgsConstructor
+public class ChangeFeedService {
+
+    private static final String EVENT_NAME = "change";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${stream.changes.sse-timeout-ms:1800000}")
+    private long sseTimeoutMs;
+
+    @Value("${stream.changes.buffer-size:32}")
+    private int bufferSize;
+
+    @Value("${stream.changes.delivery-threads:4}")
+    private int deliveryThreads;
+
+    @Value("${stream.changes.heartbeat-seconds:30}")
+    private long heartbeatSeconds;
+
+    private SseEmitterRegistry emitterRegistry;
+    private ThreadPoolExecutor deliveryExecutor;
+    private ScheduledExecutorService heartbeatTimer;
+
+    @PostConstruct
+    public void start() {
+        // 전송 대기열이 넘치면 RejectedExecutionException → 해당 연결을 끊는다
+        deliveryExecutor = new ThreadPoolExecutor(deliveryThreads, deliveryThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(10_000), new CustomizableThreadFactory("change-feed-"));
+        emitterRegistry = new SseEmitterRegistry(sseTimeoutMs, bufferSize, deliveryExecutor);
+
+        heartbeatTimer = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("change-feed-hb-"));
+        heartbeatTimer.scheduleWithFixedDelay(emitterRegistry::heartbeat,
+                heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+
+        Gauge.builder("stream.changes.connections", emitterRegistry, SseEmitterRegistry::connectionCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("stream.changes.dropped", emitterRegistry, SseEmitterRegistry::droppedCount)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeatTimer.shutdownNow();
+        deliveryExecutor.shutdownNow();
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        return emitterRegistry.register(userId);
+    }
+
+    // 탈퇴한 사용자의 변경 스트림을 닫는다
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        emitterRegistry.close(event.getUserId());
+    }
+
+    @TransactionalEventListener
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        publish(event.getUserId(), "schedule", event.getScheduleId(), event.getType().name(), event.getVersion());
+    }
+
+    @TransactionalEventListener
+    public void onScheduleBulkChanged(ScheduleBulkChangedEvent event) {
+        publish(event.getUserId(), "schedule", null, "BULK", event.getVersion());
+    }
+
+    @TransactionalEventListener
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        publish(event.getUserId(), "transaction", event.getTransactionId(), event.getType().name(), event.getVersion());
+    }
+
+    @TransactionalEventListener
+    public void onTransactionBulkChanged(TransactionBulkChangedEvent event) {
+        publish(event.getUserId(), "transaction", null, "BULK", event.getVersion());
+    }
+
+    private void publish(Long userId, String entity, Long id, String op, long version) {
+        emitterRegistry.send(userId, EVENT_NAME, new ChangeNotification(entity, id, op, version));
+    }
+}
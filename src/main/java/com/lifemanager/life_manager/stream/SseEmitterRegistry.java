@@ -0,0 +1,172 @@
+package com.lifemanager.life_manager.stream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 사용자별 SSE 연결 목록.
+// 연결마다 작은 버퍼를 두고 executor 에서 비우며, 버퍼가 가득 찬 느린 연결은 끊는다 (클라이언트가 재접속 후 다시 동기화)
+@Slf4j
+public class SseEmitterRegistry {
+
+    private static final int DEFAULT_BUFFER_SIZE = 32;
+
+    private final long timeoutMs;
+    private final int bufferSize;
+    private final Executor executor;
+    private final Map<Long, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+
+    // 호출 스레드에서 바로 전송
+    public SseEmitterRegistry(long timeoutMs) {
+        this(timeoutMs, DEFAULT_BUFFER_SIZE, Runnable::run);
+    }
+
+    public SseEmitterRegistry(long timeoutMs, int bufferSize, Executor executor) {
+        this.timeoutMs = timeoutMs;
+        this.bufferSize = bufferSize;
+        this.executor = executor;
+    }
+
+    public SseEmitter register(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Connection connection = new Connection(userId, emitter);
+        connections.computeIfAbsent(userId, id -> new CopyOnWriteArraySet<>()).add(connection);
+
+        Runnable remove = () -> remove(connection);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        // 프록시가 응답 헤더를 바로 흘려보내도록 첫 바이트를 보낸다
+        connection.offer(SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    public void send(Long userId, String eventName, Object data) {
+        Set<Connection> userConnections = connections.get(userId);
+        if (userConnections == null) {
+            return;
+        }
+        for (Connection connection : userConnections) {
+            connection.offer(SseEmitter.event().name(eventName).data(data));
+        }
+    }
+
+    // 유휴 연결이 프록시/로드밸런서에서 끊기지 않도록 주석 이벤트를 보낸다. 끊긴 연결도 이때 정리된다
+    public void heartbeat() {
+        for (Set<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                connection.offer(SseEmitter.event().comment("hb"));
+            }
+        }
+    }
+
+    // 사용자의 연결을 모두 끊는다 (회원 탈퇴)
+    public void close(Long userId) {
+        Set<Connection> userConnections = connections.remove(userId);
+        if (userConnections == null) {
+            return;
+        }
+        for (Connection connection : userConnections) {
+            connection.closed = true;
+            connection.emitter.complete();
+        }
+    }
+
+    public int connectionCount() {
+        return connections.values().stream().mapToInt(Set::size).sum();
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    private void remove(Connection connection) {
+        connection.closed = true;
+        connections.computeIfPresent(connection.userId, (id, set) -> {
+            set.remove(connection);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private final class Connection {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<SseEmitter.SseEventBuilder> pending = new ArrayDeque<>();
+        private boolean draining; // this 로 보호
+        private volatile boolean closed;
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void offer(SseEmitter.SseEventBuilder event) {
+            boolean overflow = false;
+            boolean startDrain = false;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (pending.size() >= bufferSize) {
+                    pending.clear();
+                    closed = true;
+                    overflow = true;
+                } else {
+                    pending.add(event);
+                    startDrain = !draining;
+                    draining = true;
+                }
+            }
+
+            if (overflow) {
+                drop();
+            } else if (startDrain) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    drop();
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder event;
+                synchronized (this) {
+                    event = pending.poll();
+                    if (event == null || closed) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("SSE 전송 실패 - userId: {}, {}", userId, e.getMessage());
+                    remove(this);
+                    return;
+                }
+            }
+        }
+
+        // 버퍼를 넘긴 느린 연결 정리
+        private void drop() {
+            dropped.incrementAndGet();
+            log.debug("느린 SSE 연결 종료 - userId: {}", userId);
+            remove(this);
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.lifemanager.life_manager.agenda;
+
+import com.lifemanager.life_manager.dto.agenda.AgendaItem;
+import com.lifemanager.life_manager.dto.agenda.AgendaItemType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AgendaMergerTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 15, 0, 0);
+
+    private AgendaItem item(AgendaItemType type, long id, int hour) {
+        return AgendaItem.builder().itemType(type).id(id).time(BASE.withHour(hour)).build();
+    }
+
+    // 정렬된 리스트를 키셋 조건으로 잘라 주는 가짜 소스 (DB 쿼리와 같은 조건)
+    private KeysetSource source(List<AgendaItem> sorted, AgendaCursor start, int batchSize, AtomicInteger fetches) {
+        return new KeysetSource(start, batchSize, (after, size) -> {
+            fetches.incrementAndGet();
+            List<AgendaItem> page = new ArrayList<>();
+            for (AgendaItem item : sorted) {
+                long afterId = after.afterIdFor(item.getItemType().ordinal());
+                int cmp = item.getTime().compareTo(after.getTime());
+                if ((cmp > 0 || (cmp == 0 && item.getId() > afterId)) && page.size() < size) {
+                    page.add(item);
+                }
+            }
+            return page;
+        });
+    }
+
+    @Test
+    @DisplayName("두 소스를 시각 → 소스 → id 순으로 병합하고 커서로 이어 읽는다")
+    void 병합_페이지네이션() {
+        // given
+        List<AgendaItem> schedules = List.of(
+                item(AgendaItemType.SCHEDULE, 1, 0),
+                item(AgendaItemType.SCHEDULE, 2, 9),
+                item(AgendaItemType.SCHEDULE, 3, 9),
+                item(AgendaItemType.SCHEDULE, 4, 18));
+        List<AgendaItem> transactions = List.of(
+                item(AgendaItemType.TRANSACTION, 10, 0),
+                item(AgendaItemType.TRANSACTION, 11, 0),
+                item(AgendaItemType.TRANSACTION, 12, 9));
+        AtomicInteger fetches = new AtomicInteger();
+
+        // when - 2개씩 끝까지 읽는다
+        List<String> order = new ArrayList<>();
+        AgendaCursor cursor = AgendaCursor.before(BASE);
+        while (true) {
+            List<AgendaItem> page = AgendaMerger.merge(List.of(
+                    source(schedules, cursor, 3, fetches),
+                    source(transactions, cursor, 3, fetches)), 3);
+            page.stream().limit(2).forEach(i -> order.add(i.getItemType().name().charAt(0) + "" + i.getId()));
+            if (page.size() <= 2) {
+                break;
+            }
+            cursor = AgendaCursor.decode(AgendaCursor.of(page.get(1)).encode());
+        }
+
+        // then
+        assertThat(order).containsExactly("S1", "T10", "T11", "S2", "S3", "T12", "S4");
+    }
+
+    @Test
+    @DisplayName("필요한 만큼만 소스를 읽는다")
+    void 지연_읽기() {
+        // given
+        List<AgendaItem> schedules = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            schedules.add(item(AgendaItemType.SCHEDULE, i, i % 24));
+        }
+        schedules.sort(AgendaMerger.ORDER);
+        AtomicInteger fetches = new AtomicInteger();
+
+        // when
+        List<AgendaItem> merged = AgendaMerger.merge(
+                List.of(source(schedules, AgendaCursor.before(BASE), 4, fetches)), 4);
+
+        // then - 첫 배치(4개)만 읽는다
+        assertThat(merged).hasSize(4);
+        assertThat(fetches.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 거부한다")
+    void 잘못된_커서() {
+        assertThatThrownBy(() -> AgendaCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다");
+    }
+}
@@ -0,0 +1,92 @@
+package com.lifemanager.life_manager.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lifemanager.life_manager.dto.schedule.ScheduleResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonFragmentCacheTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 15, 9, 0);
+
+    private ScheduleResponse schedule(long id, String title, long version) {
+        return ScheduleResponse.builder()
+                .id(id)
+                .title(title)
+                .startDatetime(BASE)
+                .endDatetime(BASE.plusHours(1))
+                .isAllDay(false)
+                .changeVersion(version)
+                .build();
+    }
+
+    private ObjectMapper mapper(JsonFragmentCache cache) {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return cache == null ? mapper : mapper.registerModule(new JsonFragmentModule(cache));
+    }
+
+    @Test
+    @DisplayName("캐시된 조각으로 만든 목록 JSON 이 기본 직렬화 결과와 같다")
+    void sameOutputAsPlainJackson() throws Exception {
+        // given
+        JsonFragmentCache cache = new JsonFragmentCache(true, 1024 * 1024, new SimpleMeterRegistry());
+        List<ScheduleResponse> schedules = List.of(schedule(1, "회의", 1), schedule(2, "점심 \"약속\"", 2));
+
+        // when
+        String first = mapper(cache).writeValueAsString(schedules);
+        String second = mapper(cache).writeValueAsString(schedules);
+
+        // then
+        String expected = mapper(null).writeValueAsString(schedules);
+        assertThat(first).isEqualTo(expected);
+        assertThat(second).isEqualTo(expected);
+        assertThat(cache.totalBytes()).isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("변경 버전이 바뀌면 새로 직렬화한다")
+    void versionChangeInvalidates() throws Exception {
+        // given
+        JsonFragmentCache cache = new JsonFragmentCache(true, 1024 * 1024, new SimpleMeterRegistry());
+        ObjectMapper mapper = mapper(cache);
+        mapper.writeValueAsString(schedule(1, "회의", 1));
+
+        // when
+        String updated = mapper.writeValueAsString(schedule(1, "회의 (변경)", 2));
+
+        // then
+        assertThat(updated).contains("회의 (변경)");
+    }
+
+    @Test
+    @DisplayName("전체 바이트 한도를 넘으면 가장 오래 안 쓴 조각부터 내보낸다")
+    void evictsLeastRecentlyUsed() {
+        // given
+        JsonFragmentCache cache = new JsonFragmentCache(true, 3 * (100 + 96), new SimpleMeterRegistry());
+        RawJson json = new RawJson("x".repeat(100).getBytes(StandardCharsets.UTF_8));
+        cache.put(ScheduleResponse.class, 1, 1, json);
+        cache.put(ScheduleResponse.class, 2, 1, json);
+        cache.put(ScheduleResponse.class, 3, 1, json);
+        cache.get(ScheduleResponse.class, 1, 1);
+
+        // when
+        cache.put(ScheduleResponse.class, 4, 1, json);
+
+        // then
+        assertThat(cache.get(ScheduleResponse.class, 1, 1)).isNotNull();
+        assertThat(cache.get(ScheduleResponse.class, 2, 1)).isNull();
+        assertThat(cache.get(ScheduleResponse.class, 4, 1)).isNotNull();
+        assertThat(cache.totalBytes()).isLessThanOrEqualTo(3 * (100 + 96));
+    }
+}
@@ -0,0 +1,86 @@
+package com.lifemanager.life_manager.cache;
+
+import com.lifemanager.life_manager.dto.schedule.ScheduleResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleIntervalIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 15, 9, 0);
+
+    private ScheduleResponse schedule(long id, int startHour, int endHour) {
+        return ScheduleResponse.builder()
+                .id(id)
+                .title("일정 " + id)
+                .startDatetime(BASE.withHour(startHour))
+                .endDatetime(BASE.withHour(endHour))
+                .isAllDay(false)
+                .build();
+    }
+
+    @Test
+    @DisplayName("지금 진행 중인 일정 조회")
+    void happeningAt() {
+        // given
+        ScheduleIntervalIndex index = ScheduleIntervalIndex.of(List.of(
+                schedule(1, 8, 18),   // 하루 종일 걸친 긴 일정
+                schedule(2, 9, 10),
+                schedule(3, 10, 11),
+                schedule(4, 13, 14)
+        ));
+
+        // when
+        List<ScheduleResponse> at930 = index.happeningAt(BASE.withHour(9).withMinute(30));
+        List<ScheduleResponse> at10 = index.happeningAt(BASE.withHour(10));
+        List<ScheduleResponse> at19 = index.happeningAt(BASE.withHour(19));
+
+        // then
+        assertThat(at930).extracting(ScheduleResponse::getId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(at10).extracting(ScheduleResponse::getId).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(at19).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다음 일정과 기간 조회")
+    void next_startingBetween() {
+        // given
+        ScheduleIntervalIndex index = ScheduleIntervalIndex.of(List.of(
+                schedule(3, 13, 14),
+                schedule(1, 9, 10),
+                schedule(2, 11, 12)
+        ));
+
+        // when & then
+        assertThat(index.next(BASE.withHour(9), 2))
+                .extracting(ScheduleResponse::getId).containsExactly(2L, 3L);
+        assertThat(index.startingBetween(BASE.withHour(9), BASE.withHour(11)))
+                .extracting(ScheduleResponse::getId).containsExactly(1L, 2L);
+        assertThat(index.overlapping(BASE.withHour(10).withMinute(30), BASE.withHour(13)))
+                .extracting(ScheduleResponse::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("일정 추가/수정/삭제 반영")
+    void with_without() {
+        // given
+        ScheduleIntervalIndex index = ScheduleIntervalIndex.of(List.of(schedule(1, 9, 10)));
+
+        // when
+        ScheduleIntervalIndex added = index.with(schedule(2, 11, 12));
+        ScheduleIntervalIndex moved = added.with(schedule(1, 15, 16));
+        ScheduleIntervalIndex removed = moved.without(2L);
+
+        // then
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(moved.next(BASE.withHour(8), 10))
+                .extracting(ScheduleResponse::getId).containsExactly(2L, 1L);
+        assertThat(removed.size()).isEqualTo(1);
+        assertThat(removed.happeningAt(BASE.withHour(15).withMinute(30)))
+                .extracting(ScheduleResponse::getId).containsExactly(1L);
+    }
+}
@@ -0,0 +1,128 @@
+package com.lifemanager.life_manager.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightAspectTest {
+
+    static class SlowQuery {
+
+        final AtomicInteger invocations = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @SingleFlight
+        public String load(Long userId) throws InterruptedException {
+            invocations.incrementAndGet();
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "result-" + userId;
+        }
+
+        @SingleFlight
+        public List<String> list(Long userId) throws InterruptedException {
+            invocations.incrementAndGet();
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new ArrayList<>(List.of("result-" + userId));
+        }
+    }
+
+    private static <T> T proxy(T target, SimpleMeterRegistry meterRegistry, Duration waitTimeout) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new SingleFlightAspect(meterRegistry, waitTimeout));
+        return factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("같은 인자의 동시 호출은 한 번만 실행하고 결과를 공유한다")
+    void 동시호출_합치기() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SlowQuery target = new SlowQuery();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new SingleFlightAspect(meterRegistry, Duration.ofSeconds(5)));
+        SlowQuery proxy = factory.getProxy();
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        // when - 첫 호출이 진행 중일 때 같은 키로 두 번 더 호출
+        Future<String> first = executor.submit(() -> proxy.load(1L));
+        target.started.await(5, TimeUnit.SECONDS);
+        Future<String> second = executor.submit(() -> proxy.load(1L));
+        Future<String> third = executor.submit(() -> proxy.load(1L));
+        while (meterRegistry.counter("singleflight.calls", "method", "SlowQuery.load(..)", "result", "coalesced").count() < 2) {
+            Thread.sleep(10);
+        }
+        target.release.countDown();
+
+        // then
+        assertThat(first.get()).isEqualTo("result-1");
+        assertThat(second.get()).isEqualTo("result-1");
+        assertThat(third.get()).isEqualTo("result-1");
+        assertThat(target.invocations.get()).isEqualTo(1);
+
+        // 끝난 뒤에는 다시 실행한다
+        assertThat(proxy.load(1L)).isEqualTo("result-1");
+        assertThat(target.invocations.get()).isEqualTo(2);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("먼저 시작한 호출이 wait-timeout 안에 끝나지 않으면 기다리던 호출은 직접 실행한다")
+    void 대기_시간초과() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SlowQuery target = new SlowQuery();
+        SlowQuery proxy = proxy(target, meterRegistry, Duration.ofMillis(50));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<String> first = executor.submit(() -> proxy.load(1L));
+        target.started.await(5, TimeUnit.SECONDS);
+
+        // when - 첫 호출이 멈춰 있는 동안 같은 키로 호출
+        Future<String> second = executor.submit(() -> proxy.load(1L));
+        while (meterRegistry.counter("singleflight.calls", "method", "SlowQuery.load(..)", "result", "timeout").count() < 1) {
+            Thread.sleep(10);
+        }
+        target.release.countDown();
+
+        // then - 기다리다 포기하고 직접 실행했다
+        assertThat(second.get()).isEqualTo("result-1");
+        assertThat(first.get()).isEqualTo("result-1");
+        assertThat(target.invocations.get()).isEqualTo(2);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("합쳐진 호출들이 받는 리스트는 수정할 수 없다")
+    void 결과_수정불가() throws Exception {
+        // given
+        SlowQuery target = new SlowQuery();
+        target.release.countDown();
+        SlowQuery proxy = proxy(target, new SimpleMeterRegistry(), Duration.ofSeconds(5));
+
+        // when
+        List<String> result = proxy.list(1L);
+
+        // then
+        assertThat(result).containsExactly("result-1");
+        assertThatThrownBy(() -> result.add("other")).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,54 @@
+package com.lifemanager.life_manager.cache;
+
+import com.lifemanager.life_manager.domain.User;
+import com.lifemanager.life_manager.dto.user.UserUpdateRequest;
+import com.lifemanager.life_manager.service.CommittedUsers;
+import com.lifemanager.life_manager.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 2차 캐시는 커밋된 데이터만 다루므로 테스트 트랜잭션 없이 확인한다
+@SpringBootTest
+class UserCacheMetricsTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserCacheMetrics userCacheMetrics;
+
+    @RegisterExtension
+    final CommittedUsers committedUsers = new CommittedUsers();
+
+    @Test
+    @DisplayName("id/이메일 조회는 2차 캐시에서 찾고, UserService 로 고친 값이 바로 보인다")
+    void 사용자_2차캐시() {
+        // given
+        User user = committedUsers.create("l2-cache@test.com", "캐시");
+        double entityHits = userCacheMetrics.hits(UserCacheMetrics.ENTITY_REGION);
+        double naturalIdHits = userCacheMetrics.hits(UserCacheMetrics.NATURAL_ID_REGION);
+
+        // when
+        userService.findById(user.getId());
+        userService.findById(user.getId());
+        userService.findByEmail("l2-cache@test.com");
+        userService.findByEmail("l2-cache@test.com");
+
+        UserUpdateRequest update = new UserUpdateRequest();
+        update.setName("바뀐이름");
+        userService.updateUser(user.getId(), update);
+
+        // then
+        assertThat(userCacheMetrics.hits(UserCacheMetrics.ENTITY_REGION))
+                .isGreaterThan(entityHits);
+        assertThat(userCacheMetrics.hits(UserCacheMetrics.NATURAL_ID_REGION))
+                .isGreaterThan(naturalIdHits);
+        assertThat(userService.findById(user.getId()).getName()).isEqualTo("바뀐이름");
+        assertThat(userService.findByEmail("l2-cache@test.com").getName()).isEqualTo("바뀐이름");
+    }
+}
@@ -0,0 +1,92 @@
+package com.lifemanager.life_manager.calendar;
+
+import com.lifemanager.life_manager.domain.Schedule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IcsReaderTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Test
+    @DisplayName("내보낸 .ics 를 다시 읽으면 같은 일정이 나온다")
+    void 내보내기_가져오기_왕복() throws Exception {
+        // given
+        Schedule schedule = Schedule.builder()
+                .id(1L)
+                .title("회의; 주간, 정리")
+                .description("첫 줄\n둘째 줄 " + "아주 긴 설명".repeat(20))
+                .startDatetime(LocalDateTime.of(2025, 1, 15, 10, 0))
+                .endDatetime(LocalDateTime.of(2025, 1, 15, 11, 30))
+                .isAllDay(false)
+                .category("업무")
+                .color("#3B82F6")
+                .build();
+
+        StringWriter out = new StringWriter();
+        IcsWriter writer = new IcsWriter(out, SEOUL);
+        writer.beginCalendar("test");
+        writer.writeEvent(schedule);
+        writer.endCalendar();
+
+        // when
+        IcsReader reader = new IcsReader(new StringReader(out.toString()), SEOUL);
+        IcsEvent event = reader.nextEvent();
+
+        // then
+        assertThat(out.toString()).contains("DTSTART:20250115T010000Z");
+        assertThat(event).isNotNull();
+        assertThat(event.getTitle()).isEqualTo(schedule.getTitle());
+        assertThat(event.getDescription()).isEqualTo(schedule.getDescription());
+        assertThat(event.getStartDatetime()).isEqualTo(schedule.getStartDatetime());
+        assertThat(event.getEndDatetime()).isEqualTo(schedule.getEndDatetime());
+        assertThat(event.getCategory()).isEqualTo("업무");
+        assertThat(event.getColor()).isEqualTo("#3B82F6");
+        assertThat(reader.nextEvent()).isNull();
+    }
+
+    @Test
+    @DisplayName("종일 일정과 TZID 일정을 읽는다")
+    void 종일_TZID_일정_읽기() throws Exception {
+        // given
+        String ics = """
+                BEGIN:VCALENDAR\r
+                BEGIN:VEVENT\r
+                SUMMARY:휴가\r
+                DTSTART;VALUE=DATE:20250301\r
+                DTEND;VALUE=DATE:20250303\r
+                BEGIN:VALARM\r
+                SUMMARY:알림\r
+                END:VALARM\r
+                END:VEVENT\r
+                BEGIN:VEVENT\r
+                SUMMARY:뉴욕 회의\r
+                DTSTART;TZID=America/New_York:20250301T090000\r
+                DURATION:PT1H\r
+                END:VEVENT\r
+                END:VCALENDAR\r
+                """;
+
+        // when
+        IcsReader reader = new IcsReader(new StringReader(ics), SEOUL);
+        IcsEvent allDay = reader.nextEvent();
+        IcsEvent timed = reader.nextEvent();
+
+        // then
+        assertThat(allDay.isAllDay()).isTrue();
+        assertThat(allDay.getTitle()).isEqualTo("휴가");
+        assertThat(allDay.getStartDatetime()).isEqualTo(LocalDateTime.of(2025, 3, 1, 0, 0));
+        assertThat(allDay.getEndDatetime()).isEqualTo(LocalDateTime.of(2025, 3, 2, 23, 59, 59));
+
+        assertThat(timed.isAllDay()).isFalse();
+        assertThat(timed.getStartDatetime()).isEqualTo(LocalDateTime.of(2025, 3, 1, 23, 0));
+        assertThat(timed.getEndDatetime()).isEqualTo(LocalDateTime.of(2025, 3, 2, 0, 0));
+    }
+}
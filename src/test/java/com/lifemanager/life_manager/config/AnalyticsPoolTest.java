@@ -0,0 +1,60 @@
+package com.lifemanager.life_manager.config;
+
+import com.lifemanager.life_manager.domain.User;
+import com.lifemanager.life_manager.repository.UserRepository;
+import com.lifemanager.life_manager.service.TransactionService;
+import com.lifemanager.life_manager.service.UserService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 풀 선택은 트랜잭션이 커넥션을 잡을 때 정해지므로 테스트 트랜잭션 없이 확인한다
+@SpringBootTest
+class AnalyticsPoolTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private HikariDataSource analyticsDataSource;
+
+    @Autowired
+    private PasswordEncoder encoder;
+
+    @Test
+    @DisplayName("@AnalyticsPool 메서드만 analytics 풀 커넥션을 쓰고, 끝나면 OLTP 로 돌아온다")
+    void 통계는_analytics_풀() {
+        // given
+        User user = userRepository.save(User.builder()
+                .email("analytics-pool@test.com")
+                .password(encoder.encode("password12345"))
+                .name("풀")
+                .build());
+        long before = analyticsDataSource.getHikariPoolMXBean() != null
+                ? analyticsDataSource.getHikariPoolMXBean().getTotalConnections()
+                : 0;
+
+        // when
+        transactionService.getSummary(user.getId(), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+
+        // then
+        assertThat(analyticsDataSource.getHikariPoolMXBean()).isNotNull();
+        assertThat(analyticsDataSource.getHikariPoolMXBean().getTotalConnections()).isGreaterThanOrEqualTo(Math.max(before, 1));
+        assertThat(PoolRoutingDataSource.current()).isEqualTo(PoolRoutingDataSource.Pool.OLTP);
+
+        userService.deleteUser(user.getId());
+    }
+}
@@ -0,0 +1,146 @@
+package com.lifemanager.life_manager.config;
+
+import com.lifemanager.life_manager.shard.ShardRouter;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// primary / replica 를 서로 다른 H2 DB 두 개로 두고, 어느 쪽에서 읽었는지 표시 행으로 확인한다
+class ReplicaRoutingTest {
+
+    private ReplicaLagGuard lagGuard;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("routing-primary");
+        DataSource replica = database("routing-replica");
+        lagGuard = new ReplicaLagGuard(Duration.ofMinutes(1), 100, true);
+
+        DataSource dataSource = DataSourceConfig.routing(primary, primary, replica, lagGuard, new ShardRouter("home", primary));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션은 primary 에서 읽는다")
+    void 읽기전용은_replica() {
+        // when & then
+        assertThat(readOnly.execute(status -> whereAmI())).isEqualTo("routing-replica");
+        assertThat(readWrite.execute(status -> whereAmI())).isEqualTo("routing-primary");
+    }
+
+    @Test
+    @DisplayName("방금 쓴 사용자의 읽기는 lag-guard 동안 primary 로, 다른 사용자는 그대로 replica 로 간다")
+    void 쓴_사용자는_primary() {
+        // given
+        readWrite.executeWithoutResult(status -> lagGuard.recordWrite(1L));
+
+        // when & then
+        assertThat(UserContext.callAs(1L, () -> readOnly.execute(status -> whereAmI()))).isEqualTo("routing-primary");
+        assertThat(UserContext.callAs(2L, () -> readOnly.execute(status -> whereAmI()))).isEqualTo("routing-replica");
+        assertThat(readOnly.execute(status -> whereAmI())).isEqualTo("routing-replica");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 lag-guard 에 기록하지 않는다")
+    void 롤백은_기록안함() {
+        // given
+        readWrite.executeWithoutResult(status -> {
+            lagGuard.recordWrite(1L);
+            status.setRollbackOnly();
+        });
+
+        // when & then
+        assertThat(lagGuard.readsFromPrimary(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("lag-guard 시간이 지나면 다시 replica 에서 읽는다")
+    void 시간이_지나면_replica() {
+        // given
+        ReplicaLagGuard expired = new ReplicaLagGuard(Duration.ZERO, 100, true);
+
+        // when
+        expired.recordWrite(1L);
+
+        // then
+        assertThat(expired.readsFromPrimary(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 쓴 사용자도 요청에 실린 표시로 primary 에서 읽는다")
+    void 다른_인스턴스의_쓰기() {
+        // given - 인스턴스 A 가 쓰기 요청에 표시를 붙인다
+        ReplicaLagGuard instanceA = new ReplicaLagGuard(Duration.ofMinutes(1), 100, true);
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        instanceA.exchangeMarker(1L, new MockHttpServletRequest("POST", "/api/schedules"), writeResponse);
+        Cookie marker = writeResponse.getCookie(ReplicaLagGuard.MARKER_COOKIE);
+
+        // when - 다음 읽기는 인스턴스 B(lagGuard)로 간다
+        MockHttpServletRequest read = new MockHttpServletRequest("GET", "/api/schedules");
+        read.setCookies(marker);
+        lagGuard.exchangeMarker(1L, read, new MockHttpServletResponse());
+
+        // then
+        assertThat(marker).isNotNull();
+        assertThat(writeResponse.getHeader(ReplicaLagGuard.MARKER_HEADER)).isEqualTo(marker.getValue());
+        assertThat(UserContext.callAs(1L, () -> readOnly.execute(status -> whereAmI()))).isEqualTo("routing-primary");
+        // 다른 사용자의 표시는 무시한다
+        assertThat(lagGuard.readsFromPrimary(2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("가입처럼 X-User-Id 없이 쓴 요청도 응답에 표시를 실어 다른 인스턴스의 첫 읽기가 primary 로 간다")
+    void 가입_직후_읽기() {
+        // given - 인스턴스 A 가 새 사용자(3)를 쓰고 가입 응답에 표시를 싣는다
+        ReplicaLagGuard instanceA = new ReplicaLagGuard(Duration.ofMinutes(1), 100, true);
+        instanceA.recordWrite(3L);
+        MockHttpServletResponse signupResponse = new MockHttpServletResponse();
+        instanceA.sendMarker(3L, signupResponse);
+        Cookie marker = signupResponse.getCookie(ReplicaLagGuard.MARKER_COOKIE);
+
+        // when
+        MockHttpServletRequest read = new MockHttpServletRequest("GET", "/api/users/me");
+        read.setCookies(marker);
+        lagGuard.exchangeMarker(3L, read, new MockHttpServletResponse());
+
+        // then
+        assertThat(marker).isNotNull();
+        assertThat(lagGuard.readsFromPrimary(3L)).isTrue();
+        // 쓰지 않은 사용자에게는 표시를 싣지 않는다
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+        instanceA.sendMarker(4L, loginResponse);
+        assertThat(loginResponse.getHeader(ReplicaLagGuard.MARKER_HEADER)).isNull();
+    }
+
+    private String whereAmI() {
+        return jdbcTemplate.queryForObject("SELECT name FROM routing_marker", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS routing_marker (name VARCHAR(50))");
+        jdbc.update("DELETE FROM routing_marker");
+        jdbc.update("INSERT INTO routing_marker VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -284,7 +284,7 @@ class ScheduleControllerTest {
                         .header("X-User-Id", testUser.getId())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updateRequest)))
-                .andExpect(status().isBadRequest())
+                .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message").value("일정을 찾을 수 없습니다"));
     }
 
@@ -320,10 +320,57 @@ class ScheduleControllerTest {
                         .header("X-User-Id", anotherUser.getId())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updateRequest)))
-                .andExpect(status().isBadRequest())
+                .andExpect(status().isForbidden())
                 .andExpect(jsonPath("$.message").value("해당 일정을 수정할 권한이 없습니다"));
     }
 
+    @Test
+    @DisplayName("일정 수정 API - If-Match 버전이 맞으면 수정, 이미 바뀐 버전이면 412")
+    @WithMockUser
+    void updateSchedule_ifMatch() throws Exception {
+        // given
+        ScheduleRequest createRequest = new ScheduleRequest();
+        createRequest.setTitle("원본 일정");
+        createRequest.setStartDatetime(LocalDateTime.of(2025, 1, 15, 10, 0));
+        createRequest.setEndDatetime(LocalDateTime.of(2025, 1, 15, 11, 0));
+        createRequest.setIsAllDay(false);
+
+        ScheduleResponse created = scheduleService.createSchedule(testUser.getId(), createRequest);
+        String eTag = mockMvc.perform(get("/api/schedules/{scheduleId}", created.getId())
+                        .header("X-User-Id", testUser.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        ScheduleRequest updateRequest = new ScheduleRequest();
+        updateRequest.setTitle("휴대폰에서 수정");
+        updateRequest.setStartDatetime(LocalDateTime.of(2025, 1, 16, 14, 0));
+        updateRequest.setEndDatetime(LocalDateTime.of(2025, 1, 16, 16, 0));
+        updateRequest.setIsAllDay(false);
+
+        // when
+        String newETag = mockMvc.perform(put("/api/schedules/{scheduleId}", created.getId())
+                        .header("X-User-Id", testUser.getId())
+                        .header("If-Match", eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("휴대폰에서 수정"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // then - 같은 옛 버전으로 다른 기기가 수정하면 충돌
+        updateRequest.setTitle("노트북에서 수정");
+        mockMvc.perform(put("/api/schedules/{scheduleId}", created.getId())
+                        .header("X-User-Id", testUser.getId())
+                        .header("If-Match", eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message").value("다른 곳에서 먼저 수정된 일정입니다. 다시 조회한 뒤 수정해 주세요"));
+
+        assertThat(newETag).isNotEqualTo(eTag);
+        assertThat(scheduleService.getSchedule(created.getId(), testUser.getId()).getTitle()).isEqualTo("휴대폰에서 수정");
+    }
+
     @Test
     @DisplayName("일정 삭제 API - 성공")
     @WithMockUser
@@ -353,7 +400,7 @@ class ScheduleControllerTest {
         // when & then
         mockMvc.perform(delete("/api/schedules/{scheduleId}", 999999L)
                         .header("X-User-Id", testUser.getId()))
-                .andExpect(status().isBadRequest())
+                .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message").value("일정을 찾을 수 없습니다"));
     }
 
@@ -381,10 +428,42 @@ class ScheduleControllerTest {
         // when & then
         mockMvc.perform(delete("/api/schedules/{scheduleId}", created.getId())
                         .header("X-User-Id", anotherUser.getId()))
-                .andExpect(status().isBadRequest())
+                .andExpect(status().isForbidden())
                 .andExpect(jsonPath("$.message").value("해당 일정을 삭제할 권한이 없습니다"));
 
         // 삭제되지 않았는지 확인
         assertThat(scheduleRepository.findById(created.getId())).isPresent();
     }
+
+    @Test
+    @DisplayName("기간별 일정 조회 API - fields 로 고른 필드만")
+    @WithMockUser
+    void getSchedulesByRange_fields() throws Exception {
+        // given
+        ScheduleRequest request = new ScheduleRequest();
+        request.setTitle("위젯 일정");
+        request.setDescription("위젯에는 안 보이는 설명");
+        request.setStartDatetime(LocalDateTime.of(2025, 6, 1, 10, 0));
+        request.setEndDatetime(LocalDateTime.of(2025, 6, 1, 11, 0));
+        request.setIsAllDay(false);
+        scheduleService.createSchedule(testUser.getId(), request);
+
+        // when & then
+        mockMvc.perform(get("/api/schedules/range")
+                        .header("X-User-Id", testUser.getId())
+                        .param("start", "2025-06-01T00:00:00")
+                        .param("end", "2025-06-02T00:00:00")
+                        .param("fields", "id,title,startDatetime"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("위젯 일정"))
+                .andExpect(jsonPath("$[0].startDatetime").value("2025-06-01T10:00:00"))
+                .andExpect(jsonPath("$[0].description").doesNotExist())
+                .andExpect(jsonPath("$[0].endDatetime").doesNotExist());
+
+        mockMvc.perform(get("/api/schedules")
+                        .header("X-User-Id", testUser.getId())
+                        .param("fields", "id,password"))
+                .andExpect(status().isBadRequest());
+    }
 }
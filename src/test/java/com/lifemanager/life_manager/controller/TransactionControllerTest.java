@@ -1,6 +1,9 @@
 package com.lifemanager.life_manager.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.lifemanager.life_manager.domain.TransactionType;
 import com.lifemanager.life_manager.domain.User;
@@ -25,6 +28,8 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -316,6 +321,43 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$.balance").value(0));
     }
 
+    @Test
+    @DisplayName("거래 통계 조회 API - 변경이 없으면 304, 거래가 추가되면 다시 200")
+    @WithMockUser
+    void getSummary_ETag() throws Exception {
+        // given
+        String eTag = mockMvc.perform(get("/api/transactions/summary")
+                        .header("X-User-Id", testUser.getId())
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then - 그대로면 본문 없이 304
+        mockMvc.perform(get("/api/transactions/summary")
+                        .header("X-User-Id", testUser.getId())
+                        .header("If-None-Match", eTag)
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-01-31"))
+                .andExpect(status().isNotModified());
+
+        TransactionRequest expense = new TransactionRequest();
+        expense.setType(TransactionType.EXPENSE);
+        expense.setAmount(new BigDecimal("10000"));
+        expense.setCategory("식비");
+        expense.setTransactionDate(LocalDate.of(2025, 1, 10));
+        transactionService.createTransaction(testUser.getId(), expense);
+
+        mockMvc.perform(get("/api/transactions/summary")
+                        .header("X-User-Id", testUser.getId())
+                        .header("If-None-Match", eTag)
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalExpense").value(10000));
+    }
+
     @Test
     @DisplayName("거래 수정 API - 성공")
     @WithMockUser
@@ -393,7 +435,7 @@ class TransactionControllerTest {
                         .header("X-User-Id", testUser.getId())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updateRequest)))
-                .andExpect(status().isBadRequest())
+                .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message").value("거래 내역을 찾을 수 없습니다"));
     }
 
@@ -429,7 +471,7 @@ class TransactionControllerTest {
                         .header("X-User-Id", anotherUser.getId())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updateRequest)))
-                .andExpect(status().isBadRequest())
+                .andExpect(status().isForbidden())
                 .andExpect(jsonPath("$.message").value("해당 거래 내역을 수정할 권한이 없습니다"));
     }
 
@@ -462,7 +504,7 @@ class TransactionControllerTest {
         // when & then
         mockMvc.perform(delete("/api/transactions/{transactionId}", 999999L)
                         .header("X-User-Id", testUser.getId()))
-                .andExpect(status().isBadRequest())
+                .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message").value("거래 내역을 찾을 수 없습니다"));
     }
 
@@ -490,10 +532,161 @@ class TransactionControllerTest {
         // when & then
         mockMvc.perform(delete("/api/transactions/{transactionId}", created.getId())
                         .header("X-User-Id", anotherUser.getId()))
-                .andExpect(status().isBadRequest())
+                .andExpect(status().isForbidden())
                 .andExpect(jsonPath("$.message").value("해당 거래 내역을 삭제할 권한이 없습니다"));
 
         // 삭제되지 않았는지 확인
         assertThat(transactionRepository.findById(created.getId())).isPresent();
     }
+
+    @Test
+    @DisplayName("거래 내역 조회 API - fields 로 고른 필드만")
+    @WithMockUser
+    void getTransactionsByDateRange_fields() throws Exception {
+        // given
+        TransactionRequest request = new TransactionRequest();
+        request.setType(TransactionType.EXPENSE);
+        request.setAmount(new BigDecimal("12000"));
+        request.setCategory("식비");
+        request.setDescription("점심");
+        request.setTransactionDate(LocalDate.of(2025, 1, 10));
+        transactionService.createTransaction(testUser.getId(), request);
+
+        // when & then
+        mockMvc.perform(get("/api/transactions")
+                        .header("X-User-Id", testUser.getId())
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-01-31")
+                        .param("fields", "amount,category"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].category").value("식비"))
+                .andExpect(jsonPath("$.content[0].amount").exists())
+                .andExpect(jsonPath("$.content[0].description").doesNotExist())
+                .andExpect(jsonPath("$.content[0].createdAt").doesNotExist());
+
+        mockMvc.perform(get("/api/transactions")
+                        .header("X-User-Id", testUser.getId())
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-01-31")
+                        .param("fields", "amount,user"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 API - CBOR/Smile 응답에서 금액과 날짜가 그대로")
+    @WithMockUser
+    void getTransactionsByDateRange_binaryFormats() throws Exception {
+        // given
+        TransactionRequest request = new TransactionRequest();
+        request.setType(TransactionType.EXPENSE);
+        request.setAmount(new BigDecimal("12345.67"));
+        request.setCategory("식비");
+        request.setTransactionDate(LocalDate.of(2025, 1, 10));
+        transactionService.createTransaction(testUser.getId(), request);
+
+        // when
+        byte[] cbor = mockMvc.perform(get("/api/transactions")
+                        .header("X-User-Id", testUser.getId())
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-01-31")
+                        .accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] smile = mockMvc.perform(get("/api/transactions")
+                        .header("X-User-Id", testUser.getId())
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-01-31")
+                        .accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        for (JsonNode item : new JsonNode[]{
+                new CBORMapper().readTree(cbor).path("content").get(0),
+                new SmileMapper().readTree(smile).path("content").get(0)}) {
+            assertThat(item.get("amount").decimalValue()).isEqualTo(new BigDecimal("12345.67"));
+            assertThat(item.get("transactionDate").asText()).isEqualTo("2025-01-10");
+        }
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 API - JSON 응답의 ETag 로 CBOR 를 요청하면 304 가 아니라 CBOR 본문을 준다")
+    @WithMockUser
+    void getTransactionsByDateRange_포맷별_ETag() throws Exception {
+        // given
+        String jsonETag = mockMvc.perform(get("/api/transactions")
+                        .header("X-User-Id", testUser.getId())
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues("Vary", hasItem(containsString("Accept"))))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        String cborETag = mockMvc.perform(get("/api/transactions")
+                        .header("X-User-Id", testUser.getId())
+                        .header("If-None-Match", jsonETag)
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-01-31")
+                        .accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/cbor"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(cborETag).isNotEqualTo(jsonETag);
+
+        mockMvc.perform(get("/api/transactions")
+                        .header("X-User-Id", testUser.getId())
+                        .header("If-None-Match", cborETag)
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-01-31")
+                        .accept("application/cbor"))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("거래 생성 API - 같은 Idempotency-Key 재시도는 처음 응답을 돌려주고 다시 쓰지 않는다")
+    @WithMockUser
+    void createTransaction_idempotencyKey() throws Exception {
+        // given
+        TransactionRequest request = new TransactionRequest();
+        request.setType(TransactionType.EXPENSE);
+        request.setAmount(new BigDecimal("8000"));
+        request.setCategory("교통");
+        request.setTransactionDate(LocalDate.of(2025, 2, 3));
+        String body = objectMapper.writeValueAsString(request);
+
+        // when
+        String first = mockMvc.perform(post("/api/transactions")
+                        .header("X-User-Id", testUser.getId())
+                        .header("Idempotency-Key", "retry-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String replayed = mockMvc.perform(post("/api/transactions")
+                        .header("X-User-Id", testUser.getId())
+                        .header("Idempotency-Key", "retry-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        assertThat(objectMapper.readTree(replayed).get("id")).isEqualTo(objectMapper.readTree(first).get("id"));
+        assertThat(transactionRepository.findByUserIdAndTransactionDateBetween(
+                testUser.getId(), LocalDate.of(2025, 2, 3), LocalDate.of(2025, 2, 3))).hasSize(1);
+
+        // 같은 키로 다른 요청
+        request.setAmount(new BigDecimal("9000"));
+        mockMvc.perform(post("/api/transactions")
+                        .header("X-User-Id", testUser.getId())
+                        .header("Idempotency-Key", "retry-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다"));
+    }
 }
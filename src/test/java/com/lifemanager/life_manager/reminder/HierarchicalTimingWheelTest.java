@@ -0,0 +1,78 @@
+package com.lifemanager.life_manager.reminder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    @DisplayName("마감 시각이 된 틱에만 만료된다")
+    void 만료_시점() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 4, 3, 0);
+        wheel.schedule(35, "a");
+        wheel.schedule(1_000, "b");   // 레벨 1
+        wheel.schedule(30_000, "c");  // 레벨 2
+
+        List<String> fired = new ArrayList<>();
+
+        // when & then
+        wheel.advanceTo(30, fired::add);
+        assertThat(fired).isEmpty();
+
+        wheel.advanceTo(40, fired::add);
+        assertThat(fired).containsExactly("a");
+
+        wheel.advanceTo(999, fired::add);
+        assertThat(fired).containsExactly("a");
+
+        wheel.advanceTo(1_000, fired::add);
+        assertThat(fired).containsExactly("a", "b");
+
+        wheel.advanceTo(30_000, fired::add);
+        assertThat(fired).containsExactly("a", "b", "c");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("취소한 항목은 만료되지 않는다")
+    void 취소() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 4, 3, 0);
+        HierarchicalTimingWheel.Timeout<String> timeout = wheel.schedule(500, "cancelled");
+        wheel.schedule(500, "kept");
+
+        // when
+        boolean cancelled = wheel.cancel(timeout);
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(1_000, fired::add);
+
+        // then
+        assertThat(cancelled).isTrue();
+        assertThat(wheel.cancel(timeout)).isFalse();
+        assertThat(fired).containsExactly("kept");
+    }
+
+    @Test
+    @DisplayName("휠 범위를 넘는 항목도 제시간에 만료된다")
+    void 범위_초과() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 2, 2, 0);
+        long deadline = wheel.horizonMs() * 3 + 5;
+        wheel.schedule(deadline, "far");
+
+        List<String> fired = new ArrayList<>();
+
+        // when & then
+        wheel.advanceTo(deadline - 10, fired::add);
+        assertThat(fired).isEmpty();
+
+        wheel.advanceTo(deadline + 10, fired::add);
+        assertThat(fired).containsExactly("far");
+    }
+}
@@ -2,6 +2,9 @@ package com.lifemanager.life_manager.repository;
 
 import com.lifemanager.life_manager.domain.Schedule;
 import com.lifemanager.life_manager.domain.User;
+import com.lifemanager.life_manager.dto.schedule.ScheduleListItem;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +13,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
@@ -27,6 +31,9 @@ class ScheduleRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private User testUser;
     private User anotherUser;
 
@@ -212,4 +219,64 @@ class ScheduleRepositoryTest {
         // then
         assertThat(schedules).isEmpty();
     }
+
+    @Test
+    @DisplayName("목록 프로젝션 조회 - 설명 없이 필요한 컬럼만")
+    void findListItemsByUserId_성공() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2025, 3, 1, 9, 0);
+        for (int i = 0; i < 3; i++) {
+            scheduleRepository.save(Schedule.builder()
+                    .user(testUser)
+                    .title("일정 " + i)
+                    .description("긴 설명 " + i)
+                    .startDatetime(base.plusDays(i))
+                    .endDatetime(base.plusDays(i).plusHours(1))
+                    .isAllDay(false)
+                    .category("업무")
+                    .build());
+        }
+        scheduleRepository.save(Schedule.builder()
+                .user(anotherUser)
+                .title("다른 사용자 일정")
+                .startDatetime(base)
+                .endDatetime(base.plusHours(1))
+                .isAllDay(false)
+                .build());
+
+        // when
+        Page<ScheduleListItem> result = scheduleRepository.findListItemsByUserId(
+                testUser.getId(), PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "startDatetime")));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).extracting(ScheduleListItem::getTitle)
+                .containsExactly("일정 2", "일정 1");
+        assertThat(result.getContent().get(0).getCategory()).isEqualTo("업무");
+    }
+
+    @Test
+    @DisplayName("엔티티 목록 조회는 읽기 전용으로 올라와 flush 때 더티 체크하지 않는다")
+    void findByUserId_읽기전용() {
+        // given
+        scheduleRepository.saveAndFlush(Schedule.builder()
+                .user(testUser)
+                .title("원래 제목")
+                .startDatetime(LocalDateTime.now())
+                .endDatetime(LocalDateTime.now().plusHours(1))
+                .isAllDay(false)
+                .build());
+        entityManager.clear();
+
+        // when
+        Schedule loaded = scheduleRepository.findByUserId(testUser.getId()).get(0);
+        loaded.setTitle("바뀌면 안 되는 제목");
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(entityManager.unwrap(Session.class).isDefaultReadOnly()).isFalse();
+        assertThat(scheduleRepository.findById(loaded.getId())).get()
+                .extracting(Schedule::getTitle).isEqualTo("원래 제목");
+    }
 }
@@ -3,6 +3,7 @@ package com.lifemanager.life_manager.repository;
 import com.lifemanager.life_manager.domain.Transaction;
 import com.lifemanager.life_manager.domain.TransactionType;
 import com.lifemanager.life_manager.domain.User;
+import com.lifemanager.life_manager.dto.transaction.TransactionListItem;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
@@ -393,4 +395,39 @@ class TransactionRepositoryTest {
         // then - 시작일과 종료일 거래만 포함
         assertThat(total).isEqualByComparingTo(new BigDecimal("300000"));
     }
+
+    @Test
+    @DisplayName("목록 프로젝션 조회 - 설명 없이 필요한 컬럼만")
+    void findListItemsByUserIdAndTransactionDateBetween_성공() {
+        // given
+        LocalDate baseDate = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < 3; i++) {
+            transactionRepository.save(Transaction.builder()
+                    .user(testUser)
+                    .type(TransactionType.EXPENSE)
+                    .amount(new BigDecimal("1000").multiply(new BigDecimal(i + 1)))
+                    .category("식비")
+                    .description("메모 " + i)
+                    .transactionDate(baseDate.plusDays(i))
+                    .build());
+        }
+        transactionRepository.save(Transaction.builder()
+                .user(testUser)
+                .type(TransactionType.INCOME)
+                .amount(new BigDecimal("50000"))
+                .category("급여")
+                .transactionDate(baseDate.plusMonths(2))
+                .build());
+
+        // when
+        Page<TransactionListItem> result = transactionRepository.findListItemsByUserIdAndTransactionDateBetween(
+                testUser.getId(), baseDate, baseDate.plusDays(10),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "transactionDate")));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).extracting(TransactionListItem::getTransactionDate)
+                .containsExactly(baseDate, baseDate.plusDays(1), baseDate.plusDays(2));
+        assertThat(result.getContent().get(2).getAmount()).isEqualByComparingTo("3000");
+    }
 }
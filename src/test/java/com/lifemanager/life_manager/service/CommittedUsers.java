@@ -0,0 +1,45 @@
+package com.lifemanager.life_manager.service;
+
+import com.lifemanager.life_manager.domain.User;
+import com.lifemanager.life_manager.repository.UserRepository;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 테스트 트랜잭션 없이 (다른 스레드에서) 커밋되는 데이터를 확인하는 테스트용 사용자.
+// 커밋된 데이터라 다른 테스트 컨텍스트에 남지 않게, 테스트가 끝나면 만든 사용자를 데이터와 함께 지운다.
+// @RegisterExtension 으로 붙인다
+public class CommittedUsers implements BeforeEachCallback, AfterEachCallback {
+
+    private final List<Long> userIds = new ArrayList<>();
+
+    private ApplicationContext context;
+
+    @Override
+    public void beforeEach(ExtensionContext extensionContext) {
+        context = SpringExtension.getApplicationContext(extensionContext);
+    }
+
+    public User create(String email, String name) {
+        User user = context.getBean(UserRepository.class).save(User.builder()
+                .email(email)
+                .password(context.getBean(PasswordEncoder.class).encode("password12345"))
+                .name(name)
+                .build());
+        userIds.add(user.getId());
+        return user;
+    }
+
+    @Override
+    public void afterEach(ExtensionContext extensionContext) {
+        UserService userService = context.getBean(UserService.class);
+        userIds.forEach(userService::deleteUser);
+        userIds.clear();
+    }
+}
@@ -0,0 +1,67 @@
+package com.lifemanager.life_manager.service;
+
+import com.lifemanager.life_manager.domain.TransactionType;
+import com.lifemanager.life_manager.domain.User;
+import com.lifemanager.life_manager.dto.dashboard.DashboardResponse;
+import com.lifemanager.life_manager.dto.schedule.ScheduleRequest;
+import com.lifemanager.life_manager.dto.transaction.TransactionRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 대시보드 조회는 다른 스레드에서 돌기 때문에 테스트 트랜잭션 없이 커밋된 데이터로 확인한다
+@SpringBootTest(properties = "dashboard.timeout-ms=10000")
+class DashboardServiceTest {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @RegisterExtension
+    final CommittedUsers committedUsers = new CommittedUsers();
+
+    @Test
+    @DisplayName("대시보드 항목을 한 번에 조회")
+    void 대시보드_조회() {
+        // given
+        User user = committedUsers.create("dashboard@test.com", "대시보드");
+
+        LocalDateTime now = LocalDateTime.now();
+        ScheduleRequest schedule = new ScheduleRequest();
+        schedule.setTitle("오늘 일정");
+        schedule.setStartDatetime(now.toLocalDate().atTime(23, 0));
+        schedule.setEndDatetime(now.toLocalDate().atTime(23, 30));
+        schedule.setIsAllDay(false);
+        scheduleService.createSchedule(user.getId(), schedule);
+
+        TransactionRequest expense = new TransactionRequest();
+        expense.setType(TransactionType.EXPENSE);
+        expense.setAmount(new BigDecimal("12000"));
+        expense.setCategory("식비");
+        expense.setTransactionDate(LocalDate.now());
+        transactionService.createTransaction(user.getId(), expense);
+
+        // when
+        DashboardResponse dashboard = dashboardService.getDashboard(user.getId());
+
+        // then
+        assertThat(dashboard.getUnavailable()).isEmpty();
+        assertThat(dashboard.getProfile().getEmail()).isEqualTo("dashboard@test.com");
+        assertThat(dashboard.getMonthlySummary().getTotalExpense()).isEqualByComparingTo(new BigDecimal("12000"));
+        assertThat(dashboard.getTodaySchedules()).hasSize(1);
+        assertThat(dashboard.getRecentTransactions()).hasSize(1);
+    }
+}
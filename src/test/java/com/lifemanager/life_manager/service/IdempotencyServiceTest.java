@@ -0,0 +1,152 @@
+package com.lifemanager.life_manager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lifemanager.life_manager.dto.transaction.TransactionResponse;
+import com.lifemanager.life_manager.exception.RequestInProgressException;
+import com.lifemanager.life_manager.repository.IdempotencyKeyRepository;
+import com.lifemanager.life_manager.shard.ShardRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 동시 요청이 서로 다른 트랜잭션에서 돌아야 하므로 테스트 트랜잭션 없이 확인한다
+@SpringBootTest
+class IdempotencyServiceTest {
+
+    private static final String SCOPE = "POST /api/transactions";
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 요청은 한 번만 실행되고 모두 같은 응답을 받는다")
+    void 동시_중복_요청() throws Exception {
+        // given
+        Map<String, Object> request = Map.of("amount", 1000);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<TransactionResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(clients.submit(() -> idempotencyService.execute(1L, "concurrent-1", SCOPE, request,
+                    TransactionResponse.class, () -> {
+                        executions.incrementAndGet();
+                        started.countDown();
+                        sleep(200);
+                        return TransactionResponse.builder().id(42L).build();
+                    })));
+        }
+        started.await(5, TimeUnit.SECONDS);
+        List<Long> ids = new ArrayList<>();
+        for (Future<TransactionResponse> future : futures) {
+            ids.add(future.get().getId());
+        }
+        clients.shutdown();
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(ids).containsOnly(42L);
+        assertThat(idempotencyKeyRepository.findByUserIdAndIdempotencyKeyAndExpiresAtAfter(
+                1L, "concurrent-1", LocalDateTime.now())).isPresent();
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 저장하지 않아 같은 키로 다시 실행할 수 있다")
+    void 실패는_저장하지_않음() {
+        // given
+        Map<String, Object> request = Map.of("amount", 2000);
+
+        // when
+        assertThatThrownBy(() -> idempotencyService.execute(2L, "failed-1", SCOPE, request,
+                TransactionResponse.class, () -> {
+                    throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
+                }))
+                .isInstanceOf(IllegalArgumentException.class);
+        TransactionResponse retried = idempotencyService.execute(2L, "failed-1", SCOPE, request,
+                TransactionResponse.class, () -> TransactionResponse.builder().id(7L).build());
+
+        // then
+        assertThat(retried.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("먼저 온 요청이 wait-timeout 안에 끝나지 않으면 뒤에 온 요청은 기다리지 않고 처리 중 오류를 받는다")
+    void 처리중_대기_시간초과() throws Exception {
+        // given - 대기 시간이 짧은 인스턴스
+        IdempotencyService service = new IdempotencyService(idempotencyKeyRepository, objectMapper, transactionManager,
+                meterRegistry, shardRouter, Duration.ofHours(1), 100, Duration.ofMillis(50));
+        Map<String, Object> request = Map.of("amount", 3000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService clients = Executors.newSingleThreadExecutor();
+        Future<TransactionResponse> first = clients.submit(() -> service.execute(3L, "slow-1", SCOPE, request,
+                TransactionResponse.class, () -> {
+                    started.countDown();
+                    await(release);
+                    return TransactionResponse.builder().id(9L).build();
+                }));
+        started.await(5, TimeUnit.SECONDS);
+
+        // when & then
+        assertThatThrownBy(() -> service.execute(3L, "slow-1", SCOPE, request,
+                TransactionResponse.class, () -> TransactionResponse.builder().id(10L).build()))
+                .isInstanceOf(RequestInProgressException.class);
+
+        release.countDown();
+        assertThat(first.get().getId()).isEqualTo(9L);
+        assertThat(service.execute(3L, "slow-1", SCOPE, request,
+                TransactionResponse.class, () -> TransactionResponse.builder().id(10L).build()).getId()).isEqualTo(9L);
+        clients.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
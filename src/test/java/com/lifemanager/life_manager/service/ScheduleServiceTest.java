@@ -2,8 +2,10 @@ package com.lifemanager.life_manager.service;
 
 import com.lifemanager.life_manager.domain.Schedule;
 import com.lifemanager.life_manager.domain.User;
+import com.lifemanager.life_manager.dto.schedule.ScheduleAnalyticsResponse;
 import com.lifemanager.life_manager.dto.schedule.ScheduleRequest;
 import com.lifemanager.life_manager.dto.schedule.ScheduleResponse;
+import com.lifemanager.life_manager.dto.schedule.ScheduleTimeAllocation;
 import com.lifemanager.life_manager.repository.ScheduleRepository;
 import com.lifemanager.life_manager.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -303,4 +305,147 @@ class ScheduleServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("해당 일정을 삭제할 권한이 없습니다");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("카테고리별 시간 배분 - 기간 경계에서 잘라서 합산")
+    void 시간배분_통계() {
+        // given
+        LocalDateTime monthStart = LocalDateTime.of(2025, 2, 1, 0, 0);
+        LocalDateTime monthEnd = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+        // 기간 안 2시간
+        ScheduleRequest work = new ScheduleRequest();
+        work.setTitle("회의");
+        work.setStartDatetime(LocalDateTime.of(2025, 2, 10, 10, 0));
+        work.setEndDatetime(LocalDateTime.of(2025, 2, 10, 12, 0));
+        work.setIsAllDay(false);
+        work.setCategory("업무");
+        scheduleService.createSchedule(testUser.getId(), work);
+
+        // 시작 경계에 걸쳐 1시간만 포함
+        ScheduleRequest crossing = new ScheduleRequest();
+        crossing.setTitle("야근");
+        crossing.setStartDatetime(LocalDateTime.of(2025, 1, 31, 23, 0));
+        crossing.setEndDatetime(LocalDateTime.of(2025, 2, 1, 1, 0));
+        crossing.setIsAllDay(false);
+        crossing.setCategory("업무");
+        scheduleService.createSchedule(testUser.getId(), crossing);
+
+        // 종일 일정 2일
+        ScheduleRequest trip = new ScheduleRequest();
+        trip.setTitle("여행");
+        trip.setStartDatetime(LocalDateTime.of(2025, 2, 14, 0, 0));
+        trip.setEndDatetime(LocalDateTime.of(2025, 2, 15, 23, 59, 59));
+        trip.setIsAllDay(true);
+        trip.setCategory("개인");
+        scheduleService.createSchedule(testUser.getId(), trip);
+
+        // when
+        ScheduleAnalyticsResponse analytics = scheduleService.getTimeAllocation(testUser.getId(), monthStart, monthEnd);
+
+        // then
+        ScheduleTimeAllocation workAllocation = analytics.getByCategory().stream()
+                .filter(a -> "업무".equals(a.getKey())).findFirst().orElseThrow();
+        assertThat(workAllocation.getEventCount()).isEqualTo(2);
+        assertThat(workAllocation.getTotalSeconds()).isEqualTo(3 * 3600);
+
+        ScheduleTimeAllocation personal = analytics.getByCategory().stream()
+                .filter(a -> "개인".equals(a.getKey())).findFirst().orElseThrow();
+        assertThat(personal.getAllDayEventCount()).isEqualTo(1);
+        assertThat(personal.getAllDayDays()).isEqualTo(2);
+        assertThat(personal.getTotalSeconds()).isZero();
+    }
+
+    @Test
+    @DisplayName("범위 내 일정 일괄 이동 - 본인 일정만 한 번에 이동")
+    void 일정_일괄이동() {
+        // given
+        ScheduleRequest inRange = new ScheduleRequest();
+        inRange.setTitle("이동 대상");
+        inRange.setStartDatetime(LocalDateTime.of(2025, 3, 3, 10, 0));
+        inRange.setEndDatetime(LocalDateTime.of(2025, 3, 3, 11, 0));
+        inRange.setIsAllDay(false);
+        ScheduleResponse target = scheduleService.createSchedule(testUser.getId(), inRange);
+
+        ScheduleRequest outOfRange = new ScheduleRequest();
+        outOfRange.setTitle("범위 밖");
+        outOfRange.setStartDatetime(LocalDateTime.of(2025, 3, 20, 10, 0));
+        outOfRange.setEndDatetime(LocalDateTime.of(2025, 3, 20, 11, 0));
+        outOfRange.setIsAllDay(false);
+        ScheduleResponse untouched = scheduleService.createSchedule(testUser.getId(), outOfRange);
+
+        User anotherUser = userRepository.save(User.builder()
+                .email("another@test.com")
+                .password(encoder.encode("password12345"))
+                .name("다른사용자")
+                .build());
+
+        // when
+        int affected = scheduleService.shiftSchedules(testUser.getId(),
+                LocalDateTime.of(2025, 3, 1, 0, 0), LocalDateTime.of(2025, 3, 10, 0, 0), 90);
+        int othersAffected = scheduleService.shiftSchedules(anotherUser.getId(),
+                LocalDateTime.of(2025, 3, 1, 0, 0), LocalDateTime.of(2025, 3, 10, 0, 0), 90);
+
+        // then
+        assertThat(affected).isEqualTo(1);
+        assertThat(othersAffected).isZero();
+        Schedule shifted = scheduleRepository.findById(target.getId()).orElseThrow();
+        assertThat(shifted.getStartDatetime()).isEqualTo(LocalDateTime.of(2025, 3, 3, 11, 30));
+        assertThat(shifted.getEndDatetime()).isEqualTo(LocalDateTime.of(2025, 3, 3, 12, 30));
+        assertThat(scheduleRepository.findById(untouched.getId()).orElseThrow().getStartDatetime())
+                .isEqualTo(LocalDateTime.of(2025, 3, 20, 10, 0));
+    }
+
+    @Test
+    @DisplayName("범위 내 일정 일괄 삭제")
+    void 일정_일괄삭제() {
+        // given
+        for (int day = 1; day <= 3; day++) {
+            ScheduleRequest request = new ScheduleRequest();
+            request.setTitle("일정 " + day);
+            request.setStartDatetime(LocalDateTime.of(2025, 4, day, 9, 0));
+            request.setEndDatetime(LocalDateTime.of(2025, 4, day, 10, 0));
+            request.setIsAllDay(false);
+            scheduleService.createSchedule(testUser.getId(), request);
+        }
+
+        // when
+        int deleted = scheduleService.deleteSchedulesInRange(testUser.getId(),
+                LocalDateTime.of(2025, 4, 1, 0, 0), LocalDateTime.of(2025, 4, 2, 23, 59));
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(scheduleService.getSchedulesByDateRange(testUser.getId(),
+                LocalDateTime.of(2025, 4, 1, 0, 0), LocalDateTime.of(2025, 4, 30, 0, 0)))
+                .extracting(ScheduleResponse::getTitle).containsExactly("일정 3");
+    }
+
+    @Test
+    @DisplayName("일정 상세 조회 - 설명 포함, 다른 사용자는 실패")
+    void 일정상세조회() {
+        // given
+        ScheduleRequest request = new ScheduleRequest();
+        request.setTitle("상세 일정");
+        request.setDescription("상세 설명");
+        request.setStartDatetime(LocalDateTime.of(2025, 1, 15, 10, 0));
+        request.setEndDatetime(LocalDateTime.of(2025, 1, 15, 11, 0));
+        request.setIsAllDay(false);
+        ScheduleResponse created = scheduleService.createSchedule(testUser.getId(), request);
+
+        User anotherUser = userRepository.save(User.builder()
+                .email("detail-another@test.com")
+                .password(encoder.encode("password12345"))
+                .name("다른사용자")
+                .build());
+        Long anotherUserId = anotherUser.getId();
+
+        // when
+        ScheduleResponse detail = scheduleService.getSchedule(created.getId(), testUser.getId());
+
+        // then
+        assertThat(detail.getDescription()).isEqualTo("상세 설명");
+        assertThatThrownBy(() -> scheduleService.getSchedule(created.getId(), anotherUserId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("해당 일정을 조회할 권한이 없습니다");
+    }
+}
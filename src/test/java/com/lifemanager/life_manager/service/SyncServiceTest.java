@@ -0,0 +1,175 @@
+package com.lifemanager.life_manager.service;
+
+import com.lifemanager.life_manager.domain.TransactionType;
+import com.lifemanager.life_manager.domain.User;
+import com.lifemanager.life_manager.dto.schedule.ScheduleRequest;
+import com.lifemanager.life_manager.dto.schedule.ScheduleResponse;
+import com.lifemanager.life_manager.dto.sync.SyncResponse;
+import com.lifemanager.life_manager.dto.transaction.TransactionRequest;
+import com.lifemanager.life_manager.dto.transaction.TransactionResponse;
+import com.lifemanager.life_manager.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class SyncServiceTest {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SyncMaintenance syncMaintenance;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder encoder;
+
+    private User testUser;
+
+    @BeforeEach
+    void setup() {
+        testUser = userRepository.save(User.builder()
+                .email("sync@test.com")
+                .password(encoder.encode("password12345"))
+                .name("동기화테스트")
+                .build());
+    }
+
+    private ScheduleResponse createSchedule(String title, int day) {
+        ScheduleRequest request = new ScheduleRequest();
+        request.setTitle(title);
+        request.setStartDatetime(LocalDateTime.of(2025, 5, day, 9, 0));
+        request.setEndDatetime(LocalDateTime.of(2025, 5, day, 10, 0));
+        request.setIsAllDay(false);
+        return scheduleService.createSchedule(testUser.getId(), request);
+    }
+
+    @Test
+    @DisplayName("since 이후 변경분과 삭제 툼스톤만 내려준다")
+    void 변경분_동기화() {
+        // given
+        ScheduleResponse kept = createSchedule("유지", 1);
+        ScheduleResponse removed = createSchedule("삭제 예정", 2);
+
+        TransactionRequest expense = new TransactionRequest();
+        expense.setType(TransactionType.EXPENSE);
+        expense.setAmount(new BigDecimal("5000"));
+        expense.setCategory("식비");
+        expense.setTransactionDate(LocalDate.of(2025, 5, 1));
+        TransactionResponse transaction = transactionService.createTransaction(testUser.getId(), expense);
+
+        SyncResponse initial = syncService.getChanges(testUser.getId(), 0, 500);
+
+        // when
+        scheduleService.deleteSchedule(removed.getId(), testUser.getId());
+        SyncResponse delta = syncService.getChanges(testUser.getId(), initial.getVersion(), 500);
+        SyncResponse empty = syncService.getChanges(testUser.getId(), delta.getVersion(), 500);
+
+        // then
+        assertThat(initial.getSchedules()).extracting(ScheduleResponse::getId)
+                .containsExactly(kept.getId(), removed.getId());
+        assertThat(initial.getTransactions()).extracting(TransactionResponse::getId)
+                .containsExactly(transaction.getId());
+
+        assertThat(delta.getSchedules()).isEmpty();
+        assertThat(delta.getTransactions()).isEmpty();
+        assertThat(delta.getDeletedScheduleIds()).containsExactly(removed.getId());
+        assertThat(delta.getVersion()).isGreaterThan(initial.getVersion());
+
+        assertThat(empty.getSchedules()).isEmpty();
+        assertThat(empty.getDeletedScheduleIds()).isEmpty();
+        assertThat(empty.getVersion()).isEqualTo(delta.getVersion());
+    }
+
+    @Test
+    @DisplayName("limit 을 넘으면 버전 경계에서 끊고 이어받는다")
+    void 나눠서_동기화() {
+        // given
+        for (int day = 1; day <= 5; day++) {
+            createSchedule("일정 " + day, day);
+        }
+        // 한 버전으로 3개를 이동
+        scheduleService.shiftSchedules(testUser.getId(),
+                LocalDateTime.of(2025, 5, 1, 0, 0), LocalDateTime.of(2025, 5, 3, 23, 0), 60);
+
+        // when
+        SyncResponse first = syncService.getChanges(testUser.getId(), 0, 2);
+        SyncResponse second = syncService.getChanges(testUser.getId(), first.getVersion(), 2);
+        SyncResponse third = syncService.getChanges(testUser.getId(), second.getVersion(), 2);
+
+        // then - 일괄 변경 3건은 같은 버전이라 한 번에 온다
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(first.getSchedules()).extracting(ScheduleResponse::getTitle)
+                .containsExactly("일정 4", "일정 5");
+        assertThat(second.getSchedules()).extracting(ScheduleResponse::getTitle)
+                .containsExactly("일정 1", "일정 2", "일정 3");
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(third.getSchedules()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경 버전 도입 전 행도 버전을 매긴 뒤 since=0 전체 동기화에 나온다")
+    void 기존_행_버전_부여() {
+        // given - 버전 카운터가 생기기 전에 있던 일정
+        ScheduleResponse legacy = createSchedule("기존 일정", 1);
+        jdbcTemplate.update("UPDATE schedules SET change_version = 0 WHERE user_id = ?", testUser.getId());
+        jdbcTemplate.update("DELETE FROM user_change_versions WHERE user_id = ?", testUser.getId());
+        assertThat(syncService.getChanges(testUser.getId(), 0, 500).getSchedules()).isEmpty();
+
+        // when
+        syncMaintenance.backfill();
+        SyncResponse full = syncService.getChanges(testUser.getId(), 0, 500);
+
+        // then
+        assertThat(full.getVersion()).isPositive();
+        assertThat(full.getSchedules()).extracting(ScheduleResponse::getId).containsExactly(legacy.getId());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 툼스톤을 지우면 그보다 오래된 since 는 재동기화를 요구한다")
+    void 툼스톤_정리() {
+        // given
+        ScheduleResponse kept = createSchedule("유지", 1);
+        ScheduleResponse removed = createSchedule("삭제", 2);
+        long beforeDelete = syncService.getChanges(testUser.getId(), 0, 500).getVersion();
+        scheduleService.deleteSchedule(removed.getId(), testUser.getId());
+        long afterDelete = syncService.getChanges(testUser.getId(), beforeDelete, 500).getVersion();
+
+        // when
+        int purged = syncMaintenance.purgeTombstonesBefore(LocalDateTime.now().plusDays(1));
+
+        // then
+        assertThat(purged).isGreaterThanOrEqualTo(1);
+        assertThat(syncService.getChanges(testUser.getId(), beforeDelete, 500).isResyncRequired()).isTrue();
+        assertThat(syncService.getChanges(testUser.getId(), afterDelete, 500).isResyncRequired()).isFalse();
+
+        SyncResponse full = syncService.getChanges(testUser.getId(), 0, 500);
+        assertThat(full.isResyncRequired()).isFalse();
+        assertThat(full.getSchedules()).extracting(ScheduleResponse::getId).containsExactly(kept.getId());
+        assertThat(full.getDeletedScheduleIds()).isEmpty();
+    }
+}
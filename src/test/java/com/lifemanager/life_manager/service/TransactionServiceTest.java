@@ -3,9 +3,13 @@ package com.lifemanager.life_manager.service;
 import com.lifemanager.life_manager.domain.Transaction;
 import com.lifemanager.life_manager.domain.TransactionType;
 import com.lifemanager.life_manager.domain.User;
+import com.lifemanager.life_manager.dto.transaction.TransactionRecategorizeRequest;
 import com.lifemanager.life_manager.dto.transaction.TransactionRequest;
 import com.lifemanager.life_manager.dto.transaction.TransactionResponse;
 import com.lifemanager.life_manager.dto.transaction.TransactionSummary;
+import com.lifemanager.life_manager.exception.ForbiddenException;
+import com.lifemanager.life_manager.exception.PreconditionFailedException;
+import com.lifemanager.life_manager.exception.ResourceNotFoundException;
 import com.lifemanager.life_manager.repository.TransactionRepository;
 import com.lifemanager.life_manager.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -414,4 +418,122 @@ class TransactionServiceTest {
         assertThat(afterDelete.getTotalIncome()).isEqualByComparingTo(new BigDecimal("1000000"));
         assertThat(afterDelete.getBalance()).isEqualByComparingTo(new BigDecimal("1000000"));
     }
+
+    @Test
+    @DisplayName("조건에 맞는 거래만 카테고리 일괄 변경")
+    void 카테고리_일괄변경() {
+        // given
+        LocalDate baseDate = LocalDate.of(2025, 1, 1);
+        for (String category : new String[]{"식비", "식비", "교통"}) {
+            TransactionRequest expense = new TransactionRequest();
+            expense.setType(TransactionType.EXPENSE);
+            expense.setAmount(new BigDecimal("10000"));
+            expense.setCategory(category);
+            expense.setTransactionDate(baseDate);
+            transactionService.createTransaction(testUser.getId(), expense);
+        }
+
+        TransactionRecategorizeRequest request = new TransactionRecategorizeRequest();
+        request.setStartDate(baseDate);
+        request.setEndDate(baseDate.plusDays(30));
+        request.setCategory("식비");
+        request.setNewCategory("외식");
+
+        // when
+        int affected = transactionService.recategorizeTransactions(testUser.getId(), request);
+
+        // then
+        assertThat(affected).isEqualTo(2);
+        Page<Transaction> transactions = transactionService.getTransactionsByDateRange(
+                testUser.getId(), baseDate, baseDate.plusDays(30), PageRequest.of(0, 10));
+        assertThat(transactions.getContent()).extracting(Transaction::getCategory)
+                .containsExactlyInAnyOrder("외식", "외식", "교통");
+    }
+
+    @Test
+    @DisplayName("기간 내 거래 일괄 삭제 후 통계 반영")
+    void 거래_일괄삭제() {
+        // given
+        LocalDate baseDate = LocalDate.of(2025, 1, 1);
+        for (int day = 0; day < 3; day++) {
+            TransactionRequest expense = new TransactionRequest();
+            expense.setType(TransactionType.EXPENSE);
+            expense.setAmount(new BigDecimal("10000"));
+            expense.setCategory("식비");
+            expense.setTransactionDate(baseDate.plusDays(day));
+            transactionService.createTransaction(testUser.getId(), expense);
+        }
+
+        // when
+        int deleted = transactionService.deleteTransactionsInRange(testUser.getId(), baseDate, baseDate.plusDays(1));
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        TransactionSummary summary = transactionService.getSummary(testUser.getId(), baseDate, baseDate.plusDays(10));
+        assertThat(summary.getTotalExpense()).isEqualByComparingTo(new BigDecimal("10000"));
+    }
+
+    @Test
+    @DisplayName("단건 수정/삭제 - 한 번의 UPDATE 결과로 404/403 구분")
+    void 거래_단건수정삭제_소유자조건() {
+        // given
+        TransactionRequest request = new TransactionRequest();
+        request.setType(TransactionType.EXPENSE);
+        request.setAmount(new BigDecimal("50000"));
+        request.setCategory("식비");
+        request.setTransactionDate(LocalDate.now());
+        TransactionResponse created = transactionService.createTransaction(testUser.getId(), request);
+
+        User anotherUser = userRepository.save(User.builder()
+                .email("owner-scope@test.com")
+                .password(encoder.encode("password12345"))
+                .name("다른사용자")
+                .build());
+        Long anotherUserId = anotherUser.getId();
+
+        request.setAmount(new BigDecimal("42000.50"));
+        request.setCategory("외식");
+
+        // when
+        TransactionResponse updated = transactionService.updateTransaction(created.getId(), testUser.getId(), request);
+
+        // then
+        assertThat(updated.getAmount()).isEqualByComparingTo("42000.50");
+        assertThat(updated.getCategory()).isEqualTo("외식");
+        assertThat(updated.getCreatedAt()).isNotNull();
+        assertThat(updated.getChangeVersion()).isGreaterThan(created.getChangeVersion());
+
+        assertThatThrownBy(() -> transactionService.deleteTransaction(created.getId(), anotherUserId))
+                .isInstanceOf(ForbiddenException.class);
+
+        transactionService.deleteTransaction(created.getId(), testUser.getId());
+        assertThat(transactionRepository.findById(created.getId())).isEmpty();
+        assertThatThrownBy(() -> transactionService.deleteTransaction(created.getId(), testUser.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("If-Match 버전 - 맞으면 수정, 이미 바뀐 버전이면 412")
+    void 거래_수정_버전조건() {
+        // given
+        TransactionRequest request = new TransactionRequest();
+        request.setType(TransactionType.EXPENSE);
+        request.setAmount(new BigDecimal("50000"));
+        request.setCategory("식비");
+        request.setTransactionDate(LocalDate.now());
+        TransactionResponse created = transactionService.createTransaction(testUser.getId(), request);
+        long seen = created.getChangeVersion();
+
+        // when
+        request.setCategory("외식");
+        TransactionResponse updated = transactionService.updateTransaction(
+                created.getId(), testUser.getId(), request, seen);
+
+        // then
+        assertThat(updated.getCategory()).isEqualTo("외식");
+        request.setCategory("카페");
+        assertThatThrownBy(() -> transactionService.updateTransaction(created.getId(), testUser.getId(), request, seen))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThat(transactionRepository.findById(created.getId()).get().getCategory()).isEqualTo("외식");
+    }
 }
@@ -0,0 +1,91 @@
+package com.lifemanager.life_manager.service;
+
+import com.lifemanager.life_manager.domain.TransactionType;
+import com.lifemanager.life_manager.domain.User;
+import com.lifemanager.life_manager.dto.transaction.TransactionRequest;
+import com.lifemanager.life_manager.dto.transaction.TransactionResponse;
+import com.lifemanager.life_manager.repository.TransactionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 배치 writer 는 별도 스레드에서 커밋하므로 테스트 트랜잭션 없이 확인한다
+@SpringBootTest(properties = {
+        "transaction.batch-writer.enabled=true",
+        "transaction.batch-writer.linger-ms=50"
+})
+class TransactionWriterTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @RegisterExtension
+    final CommittedUsers committedUsers = new CommittedUsers();
+
+    private TransactionRequest expense(int amount) {
+        TransactionRequest request = new TransactionRequest();
+        request.setType(TransactionType.EXPENSE);
+        request.setAmount(new BigDecimal(amount));
+        request.setCategory("식비");
+        request.setTransactionDate(LocalDate.of(2025, 3, 25));
+        return request;
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 거래 생성을 모아서 한 번에 커밋하고 각자 생성된 id 를 받는다")
+    void 배치_생성() throws Exception {
+        // given
+        User user = committedUsers.create("batch-writer@test.com", "배치");
+        int count = 20;
+        ExecutorService clients = Executors.newFixedThreadPool(count);
+
+        // when
+        List<Future<TransactionResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int amount = 1000 + i;
+            futures.add(clients.submit(() -> transactionService.createTransaction(user.getId(), expense(amount))));
+        }
+        List<TransactionResponse> responses = new ArrayList<>();
+        for (Future<TransactionResponse> future : futures) {
+            responses.add(future.get());
+        }
+        clients.shutdown();
+
+        // then
+        assertThat(responses).extracting(TransactionResponse::getId).doesNotContainNull().doesNotHaveDuplicates();
+        for (TransactionResponse response : responses) {
+            assertThat(transactionRepository.findById(response.getId()))
+                    .get()
+                    .satisfies(saved -> assertThat(saved.getAmount()).isEqualByComparingTo(response.getAmount()));
+        }
+        assertThat(meterRegistry.get("transaction.batch-writer.batch-size").summary().max()).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 큐에 넣기 전에 거절")
+    void 없는_사용자() {
+        assertThatThrownBy(() -> transactionService.createTransaction(999999L, expense(1000)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("사용자를 찾을 수 없습니다");
+    }
+}
@@ -0,0 +1,96 @@
+package com.lifemanager.life_manager.service;
+
+import com.lifemanager.life_manager.cache.KnownUserCache;
+import com.lifemanager.life_manager.domain.User;
+import com.lifemanager.life_manager.dto.schedule.ScheduleRequest;
+import com.lifemanager.life_manager.dto.schedule.ScheduleResponse;
+import com.lifemanager.life_manager.repository.ScheduleRepository;
+import com.lifemanager.life_manager.repository.UserChangeVersionRepository;
+import com.lifemanager.life_manager.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class UserServiceTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private KnownUserCache knownUserCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private UserChangeVersionRepository userChangeVersionRepository;
+
+    @Autowired
+    private PasswordEncoder encoder;
+
+    private User testUser;
+
+    @BeforeEach
+    void setup() {
+        testUser = userRepository.save(User.builder()
+                .email("user-service@test.com")
+                .password(encoder.encode("password12345"))
+                .name("사용자테스트")
+                .build());
+    }
+
+    @Test
+    @DisplayName("외래키용 참조 - 확인된 사용자는 캐시에 남고, 없는 사용자는 실패")
+    void getReference() {
+        // when
+        User reference = userService.getReference(testUser.getId());
+
+        // then
+        assertThat(reference.getId()).isEqualTo(testUser.getId());
+        assertThat(knownUserCache.contains(testUser.getId())).isTrue();
+        assertThatThrownBy(() -> userService.getReference(999999L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("사용자를 찾을 수 없습니다");
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 - 일정(삭제 표시 포함)과 변경 버전까지 지우고 캐시에서 뺀다")
+    void deleteUser() {
+        // given
+        ScheduleRequest request = new ScheduleRequest();
+        request.setTitle("탈퇴 전 일정");
+        request.setStartDatetime(LocalDateTime.of(2025, 1, 15, 10, 0));
+        request.setEndDatetime(LocalDateTime.of(2025, 1, 15, 11, 0));
+        request.setIsAllDay(false);
+        ScheduleResponse kept = scheduleService.createSchedule(testUser.getId(), request);
+        ScheduleResponse removed = scheduleService.createSchedule(testUser.getId(), request);
+        scheduleService.deleteSchedule(removed.getId(), testUser.getId());
+
+        // when
+        userService.deleteUser(testUser.getId());
+
+        // then
+        assertThat(userRepository.findById(testUser.getId())).isEmpty();
+        assertThat(scheduleRepository.findById(kept.getId())).isEmpty();
+        assertThat(scheduleRepository.findChangedSince(testUser.getId(), 0, Long.MAX_VALUE, 10)).isEmpty();
+        assertThat(userChangeVersionRepository.findCurrentVersion(testUser.getId())).isEmpty();
+        assertThat(knownUserCache.contains(testUser.getId())).isFalse();
+    }
+}
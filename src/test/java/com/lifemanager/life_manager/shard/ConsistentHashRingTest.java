@@ -0,0 +1,67 @@
+package com.lifemanager.life_manager.shard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsistentHashRingTest {
+
+    private static final int USERS = 30_000;
+
+    @Test
+    @DisplayName("사용자가 샤드에 고르게 나뉜다")
+    void 고르게_분산() {
+        // given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("home", "s1", "s2"), 128);
+
+        // when
+        Map<String, Integer> counts = new HashMap<>();
+        for (long userId = 1; userId <= USERS; userId++) {
+            counts.merge(ring.shardFor(userId), 1, Integer::sum);
+        }
+
+        // then
+        assertThat(counts).containsOnlyKeys("home", "s1", "s2");
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(USERS / 3 * 7 / 10, USERS / 3 * 13 / 10));
+    }
+
+    @Test
+    @DisplayName("샤드를 하나 더하면 대략 1/N 의 사용자만, 새 샤드로만 옮겨 간다")
+    void 샤드_추가() {
+        // given
+        ConsistentHashRing before = new ConsistentHashRing(List.of("home", "s1", "s2"), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("home", "s1", "s2", "s3"), 128);
+
+        // when
+        int moved = 0;
+        for (long userId = 1; userId <= USERS; userId++) {
+            String from = before.shardFor(userId);
+            String to = after.shardFor(userId);
+            if (!from.equals(to)) {
+                assertThat(to).isEqualTo("s3");
+                moved++;
+            }
+        }
+
+        // then
+        assertThat(moved).isBetween(USERS / 4 * 7 / 10, USERS / 4 * 13 / 10);
+    }
+
+    @Test
+    @DisplayName("샤드 순서가 달라도 같은 사용자는 같은 샤드로 간다")
+    void 순서_무관() {
+        // given
+        ConsistentHashRing a = new ConsistentHashRing(List.of("home", "s1", "s2"), 64);
+        ConsistentHashRing b = new ConsistentHashRing(List.of("s2", "home", "s1"), 64);
+
+        // when & then
+        for (long userId = 1; userId <= 1000; userId++) {
+            assertThat(a.shardFor(userId)).isEqualTo(b.shardFor(userId));
+        }
+    }
+}
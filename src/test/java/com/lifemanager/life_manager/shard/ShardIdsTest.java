@@ -0,0 +1,76 @@
+package com.lifemanager.life_manager.shard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardIdsTest {
+
+    private static final long MAX_SAFE_INTEGER = (1L << 53) - 1;
+
+    private final ShardIds shardIds = new ShardIds(ShardIds.MAX_NODE);
+
+    @Test
+    @DisplayName("한 스레드에서 받은 id 는 계속 커지고 JS Number 범위 안이다")
+    void 단조_증가() {
+        // given
+        long previous = shardIds.next();
+
+        // when & then
+        for (int i = 0; i < 10_000; i++) {
+            long id = shardIds.next();
+            assertThat(id).isGreaterThan(previous).isLessThanOrEqualTo(MAX_SAFE_INTEGER);
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 받아도 id 가 겹치지 않는다")
+    void 동시_발급() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+
+        // when
+        try {
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    List<Long> ids = new ArrayList<>();
+                    for (int i = 0; i < 5_000; i++) {
+                        ids.add(shardIds.next());
+                    }
+                    return ids;
+                }));
+            }
+            Set<Long> all = new HashSet<>();
+            for (Future<List<Long>> future : futures) {
+                all.addAll(future.get());
+            }
+
+            // then
+            assertThat(all).hasSize(8 * 5_000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("노드 번호는 0~15 만 받는다")
+    void 노드_범위() {
+        // when & then
+        assertThatThrownBy(() -> new ShardIds(ShardIds.MAX_NODE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ShardIds(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,199 @@
+package com.lifemanager.life_manager.shard;
+
+import com.lifemanager.life_manager.config.UserContext;
+import com.lifemanager.life_manager.domain.TransactionType;
+import com.lifemanager.life_manager.domain.User;
+import com.lifemanager.life_manager.dto.auth.SignupRequest;
+import com.lifemanager.life_manager.dto.schedule.ScheduleRequest;
+import com.lifemanager.life_manager.dto.schedule.ScheduleResponse;
+import com.lifemanager.life_manager.dto.transaction.TransactionRequest;
+import com.lifemanager.life_manager.dto.transaction.TransactionResponse;
+import com.lifemanager.life_manager.service.ScheduleService;
+import com.lifemanager.life_manager.service.TransactionService;
+import com.lifemanager.life_manager.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// home + 샤드 두 개를 서로 다른 H2 DB 로 두고, 행이 실제로 어느 DB 에 있는지 JDBC 로 확인한다.
+// 샤드마다 따로 커밋하므로 테스트 트랜잭션 없이 돌린다
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:shard-home;DB_CLOSE_DELAY=-1",
+        "app.sharding.enabled=true",
+        "app.sharding.node-id=1",
+        "app.sharding.shards.s1.url=jdbc:h2:mem:shard-s1;DB_CLOSE_DELAY=-1",
+        "app.sharding.shards.s2.url=jdbc:h2:mem:shard-s2;DB_CLOSE_DELAY=-1",
+        "app.sharding.directory-ttl=PT0S",
+        "app.sharding.move-fence=PT0S",
+        "reminder.enabled=false"
+})
+class ShardingTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ShardRebalancer shardRebalancer;
+
+    private User signup(String email) {
+        SignupRequest request = new SignupRequest();
+        request.setEmail(email);
+        request.setPassword("password123");
+        request.setName("샤드");
+        return userService.signup(request);
+    }
+
+    private ScheduleRequest schedule() {
+        ScheduleRequest request = new ScheduleRequest();
+        request.setTitle("회의");
+        request.setStartDatetime(LocalDateTime.of(2025, 3, 25, 10, 0));
+        request.setEndDatetime(LocalDateTime.of(2025, 3, 25, 11, 0));
+        return request;
+    }
+
+    private TransactionRequest expense() {
+        TransactionRequest request = new TransactionRequest();
+        request.setType(TransactionType.EXPENSE);
+        request.setAmount(new BigDecimal(12000));
+        request.setCategory("식비");
+        request.setTransactionDate(LocalDate.of(2025, 3, 25));
+        return request;
+    }
+
+    private int count(String shard, String table, String column, Long userId) {
+        return new JdbcTemplate(shardRouter.dataSource(shard))
+                .queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ?", Integer.class, userId);
+    }
+
+    @Test
+    @DisplayName("가입한 사용자는 링이 고른 샤드에 저장되고 이메일로 어느 샤드에서든 찾는다")
+    void 가입_배치() {
+        // given
+        User user = signup("shard-signup@example.com");
+        String shard = shardRouter.targetOf(user.getId());
+
+        // when
+        User found = userService.findByEmail("shard-signup@example.com");
+
+        // then
+        assertThat(shardRouter.shardOf(user.getId())).isEqualTo(shard);
+        assertThat(found.getId()).isEqualTo(user.getId());
+        for (String each : shardRouter.shards()) {
+            assertThat(count(each, "users", "id", user.getId())).isEqualTo(each.equals(shard) ? 1 : 0);
+        }
+
+        UserContext.callAs(user.getId(), () -> {
+            userService.deleteUser(user.getId());
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("이메일은 샤드가 달라도 한 사용자만 쓰고, 탈퇴하면 다시 쓸 수 있다")
+    void 이메일_중복() {
+        // given
+        User user = signup("shard-email@example.com");
+        User duplicate = User.builder()
+                .email("shard-email@example.com")
+                .password("encoded")
+                .name("중복")
+                .provider("local")
+                .build();
+
+        // when & then - 앞의 중복 확인을 건너뛰어도 디렉터리가 막는다
+        assertThatThrownBy(() -> userService.register(duplicate))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 사용 중인 이메일입니다");
+        for (String each : shardRouter.shards()) {
+            assertThat(new JdbcTemplate(shardRouter.dataSource(each)).queryForObject(
+                    "SELECT COUNT(*) FROM users WHERE email = 'shard-email@example.com'", Integer.class))
+                    .isEqualTo(each.equals(shardRouter.shardOf(user.getId())) ? 1 : 0);
+        }
+
+        UserContext.callAs(user.getId(), () -> {
+            userService.deleteUser(user.getId());
+            return null;
+        });
+        User again = signup("shard-email@example.com");
+        assertThat(userService.findByEmail("shard-email@example.com").getId()).isEqualTo(again.getId());
+        UserContext.callAs(again.getId(), () -> {
+            userService.deleteUser(again.getId());
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("사용자 행을 쓰지 못한 가입은 디렉터리의 자리와 이메일을 남기지 않는다")
+    void 가입_실패() {
+        // given - name 은 NOT NULL 이라 INSERT 가 실패한다
+        User broken = User.builder()
+                .email("shard-broken@example.com")
+                .password("encoded")
+                .provider("local")
+                .build();
+
+        // when
+        assertThatThrownBy(() -> userService.register(broken)).isInstanceOf(RuntimeException.class);
+
+        // then
+        assertThat(shardRouter.userOfEmail("shard-broken@example.com")).isEmpty();
+        User user = signup("shard-broken@example.com");
+        assertThat(userService.findByEmail("shard-broken@example.com").getId()).isEqualTo(user.getId());
+        UserContext.callAs(user.getId(), () -> {
+            userService.deleteUser(user.getId());
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("일정과 거래는 사용자와 같은 샤드에 쓰이고, 다른 샤드로 옮긴 뒤에도 그대로 읽힌다")
+    void 이동() {
+        // given
+        User user = signup("shard-move@example.com");
+        Long userId = user.getId();
+        String source = shardRouter.shardOf(userId);
+        ScheduleResponse schedule = UserContext.callAs(userId, () -> scheduleService.createSchedule(userId, schedule()));
+        TransactionResponse transaction = UserContext.callAs(userId, () -> transactionService.createTransaction(userId, expense()));
+        assertThat(count(source, "schedules", "user_id", userId)).isEqualTo(1);
+        assertThat(count(source, "transactions", "user_id", userId)).isEqualTo(1);
+
+        // when
+        String target = shardRouter.shards().stream().filter(shard -> !shard.equals(source)).findFirst().orElseThrow();
+        shardRebalancer.move(userId, target);
+
+        // then
+        assertThat(shardRouter.shardOf(userId)).isEqualTo(target);
+        assertThat(count(source, "users", "id", userId)).isZero();
+        assertThat(count(source, "schedules", "user_id", userId)).isZero();
+        assertThat(count(target, "users", "id", userId)).isEqualTo(1);
+        assertThat(count(target, "transactions", "user_id", userId)).isEqualTo(1);
+        assertThat(UserContext.callAs(userId, () -> scheduleService.getSchedule(schedule.getId(), userId)).getTitle())
+                .isEqualTo("회의");
+        assertThat(UserContext.callAs(userId, () -> transactionService.getTransaction(transaction.getId(), userId)).getAmount())
+                .isEqualByComparingTo("12000");
+
+        UserContext.callAs(userId, () -> {
+            userService.deleteUser(userId);
+            return null;
+        });
+        assertThat(count(target, "users", "id", userId)).isZero();
+    }
+}
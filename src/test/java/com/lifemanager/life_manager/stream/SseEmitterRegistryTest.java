@@ -0,0 +1,70 @@
+package com.lifemanager.life_manager.stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseEmitterRegistryTest {
+
+    @Test
+    @DisplayName("버퍼를 비우는 연결은 계속 받는다")
+    void 정상_전송() {
+        // given
+        List<Runnable> tasks = new ArrayList<>();
+        SseEmitterRegistry registry = new SseEmitterRegistry(60_000, 2, tasks::add);
+        registry.register(1L);
+
+        // when - 전송 작업을 바로바로 실행
+        for (int i = 0; i < 10; i++) {
+            registry.send(1L, "change", "event-" + i);
+            tasks.forEach(Runnable::run);
+            tasks.clear();
+        }
+
+        // then
+        assertThat(registry.connectionCount()).isEqualTo(1);
+        assertThat(registry.droppedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 찬 느린 연결은 끊는다")
+    void 느린_연결_종료() {
+        // given - 전송 작업이 실행되지 않는 (막힌) 연결
+        List<Runnable> tasks = new ArrayList<>();
+        SseEmitterRegistry registry = new SseEmitterRegistry(60_000, 2, tasks::add);
+        registry.register(1L);
+        registry.register(2L);
+
+        // when
+        registry.send(1L, "change", "a");
+        registry.send(1L, "change", "b");
+
+        // then - 1번 사용자 연결만 정리된다
+        assertThat(registry.droppedCount()).isEqualTo(1);
+        assertThat(registry.connectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사용자 연결을 닫으면 그 사용자에게는 더 보내지 않는다")
+    void 사용자_연결_종료() {
+        // given
+        List<Runnable> tasks = new ArrayList<>();
+        SseEmitterRegistry registry = new SseEmitterRegistry(60_000, 2, tasks::add);
+        registry.register(1L);
+        registry.register(1L);
+        registry.register(2L);
+        int queued = tasks.size();
+
+        // when
+        registry.close(1L);
+        registry.send(1L, "reminder", "a");
+
+        // then
+        assertThat(registry.connectionCount()).isEqualTo(1);
+        assertThat(tasks).hasSize(queued);
+    }
+}